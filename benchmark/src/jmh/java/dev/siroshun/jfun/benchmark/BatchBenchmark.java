@@ -0,0 +1,94 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.benchmark;
+
+import dev.siroshun.jfun.function.Batch;
+import dev.siroshun.jfun.function.Function4;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the row-by-row loop with {@link Batch} for {@link Function4} over the parallel arrays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark {
+
+    private static final Function4<Double, Double, Double, Double, Double> SCORE = (a, b, c, d) -> a * 0.4 + b * 0.3 + c * 0.2 + d * 0.1;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private Double[] c1;
+    private Double[] c2;
+    private Double[] c3;
+    private Double[] c4;
+    private Double[] out;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        this.c1 = new Double[this.size];
+        this.c2 = new Double[this.size];
+        this.c3 = new Double[this.size];
+        this.c4 = new Double[this.size];
+        this.out = new Double[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.c1[i] = random.nextDouble();
+            this.c2[i] = random.nextDouble();
+            this.c3[i] = random.nextDouble();
+            this.c4[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public Double[] loop() {
+        for (int i = 0; i < this.size; i++) {
+            this.out[i] = SCORE.apply(this.c1[i], this.c2[i], this.c3[i], this.c4[i]);
+        }
+        return this.out;
+    }
+
+    @Benchmark
+    public Double[] batch() {
+        Batch.apply(SCORE, this.c1, this.c2, this.c3, this.c4, this.out);
+        return this.out;
+    }
+
+    @Benchmark
+    public Double[] batchParallel() {
+        Batch.applyParallel(SCORE, this.c1, this.c2, this.c3, this.c4, this.out);
+        return this.out;
+    }
+}
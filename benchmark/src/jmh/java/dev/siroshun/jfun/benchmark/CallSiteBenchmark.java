@@ -0,0 +1,122 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.benchmark;
+
+import dev.siroshun.jfun.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks {@link Result#map(Function)} and {@link Result#recover(Function)} from call sites
+ * that observe one, two or many receiver/mapper types.
+ * <p>
+ * Each {@link Shape} runs in its own fork, so the type profile of one shape never pollutes another.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallSiteBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final List<Function<Integer, Integer>> MAPPERS = List.of(
+        value -> value + 1,
+        value -> value * 2,
+        value -> value - 3,
+        value -> value ^ 4
+    );
+
+    @Param({"MONOMORPHIC", "BIMORPHIC", "MEGAMORPHIC"})
+    public Shape shape;
+
+    private Result<Integer, Integer>[] results;
+    private Function<Integer, Integer>[] mappers;
+
+    @Setup
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void setup() {
+        Random random = new Random(0);
+        this.results = new Result[SIZE];
+        this.mappers = new Function[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            int value = random.nextInt(1000);
+            boolean success = this.shape == Shape.MONOMORPHIC || random.nextBoolean();
+            this.results[i] = success ? Result.success(value) : Result.failure(value);
+            this.mappers[i] = this.shape == Shape.MEGAMORPHIC ? MAPPERS.get(random.nextInt(MAPPERS.size())) : MAPPERS.getFirst();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void map(Blackhole blackhole) {
+        Result<Integer, Integer>[] results = this.results;
+        Function<Integer, Integer>[] mappers = this.mappers;
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(results[i].map(mappers[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void mapThenRecover(Blackhole blackhole) {
+        Result<Integer, Integer>[] results = this.results;
+        Function<Integer, Integer>[] mappers = this.mappers;
+        for (int i = 0; i < SIZE; i++) {
+            Function<Integer, Integer> mapper = mappers[i];
+            blackhole.consume(results[i].map(mapper).recover(mapper));
+        }
+    }
+
+    /**
+     * The type profile observed by the benchmarked call sites.
+     */
+    public enum Shape {
+        /**
+         * Only {@link Result.Success} receivers and a single mapper class.
+         */
+        MONOMORPHIC,
+        /**
+         * Both {@link Result.Success} and {@link Result.Failure} receivers, and a single mapper class.
+         */
+        BIMORPHIC,
+        /**
+         * Both {@link Result.Success} and {@link Result.Failure} receivers, and four mapper classes.
+         */
+        MEGAMORPHIC
+    }
+}
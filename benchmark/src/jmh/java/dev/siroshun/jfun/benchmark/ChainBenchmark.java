@@ -0,0 +1,98 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.benchmark;
+
+import dev.siroshun.jfun.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks chains of {@link Result} operations with the length of 1 to 20.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainBenchmark {
+
+    private static final Function<Integer, Integer> INCREMENT = value -> value + 1;
+    private static final Function<Integer, Result<Integer, Integer>> VALIDATE = value -> value < 0 ? Result.failure(value) : Result.success(value);
+
+    @Param({"1", "2", "5", "10", "20"})
+    public int length;
+
+    @Param({"true", "false"})
+    public boolean success;
+
+    private Result<Integer, Integer> result;
+
+    @Setup
+    public void setup() {
+        this.result = this.success ? Result.success(1000) : Result.failure(-1);
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> map() {
+        Result<Integer, Integer> current = this.result;
+        for (int i = 0, length = this.length; i < length; i++) {
+            current = current.map(INCREMENT);
+        }
+        return current;
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> flatMap() {
+        Result<Integer, Integer> current = this.result;
+        for (int i = 0, length = this.length; i < length; i++) {
+            current = current.flatMap(VALIDATE);
+        }
+        return current;
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> mapThenRecover() {
+        Result<Integer, Integer> current = this.result;
+        for (int i = 0, length = this.length; i < length; i++) {
+            current = current.map(INCREMENT).recover(INCREMENT);
+        }
+        return current;
+    }
+
+    @Benchmark
+    public Integer mapThenUnwrap() {
+        Result<Integer, Integer> current = this.result;
+        for (int i = 0, length = this.length; i < length; i++) {
+            current = current.map(INCREMENT);
+        }
+        return current.unwrapOr(0);
+    }
+}
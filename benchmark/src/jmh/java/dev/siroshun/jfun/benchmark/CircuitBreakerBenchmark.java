@@ -0,0 +1,83 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.benchmark;
+
+import dev.siroshun.jfun.result.CircuitBreaker;
+import dev.siroshun.jfun.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the overhead of {@link CircuitBreaker} on the permitted calls and the cost of the short-circuited calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CircuitBreakerBenchmark {
+
+    private Function<Integer, Result<Integer, String>> plain;
+    private Function<Integer, Result<Integer, String>> closed;
+    private Function<Integer, Result<Integer, String>> open;
+    private int input;
+
+    @Setup
+    public void setup() {
+        this.plain = value -> Result.success(value + 1);
+        this.closed = CircuitBreaker.<String>builder().build().decorate(this.plain, () -> "open");
+
+        CircuitBreaker<String> openBreaker = CircuitBreaker.<String>builder()
+            .windowSize(1)
+            .minimumCalls(1)
+            .waitInOpen(Duration.ofDays(1))
+            .build();
+        openBreaker.call(() -> Result.failure("error"), () -> "open");
+        this.open = openBreaker.decorate(this.plain, () -> "open");
+
+        this.input = 1000;
+    }
+
+    @Benchmark
+    public Result<Integer, String> plain() {
+        return this.plain.apply(this.input);
+    }
+
+    @Benchmark
+    public Result<Integer, String> closed() {
+        return this.closed.apply(this.input);
+    }
+
+    @Benchmark
+    public Result<Integer, String> open() {
+        return this.open.apply(this.input);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.benchmark;
+
+import dev.siroshun.jfun.result.LazyResult;
+import dev.siroshun.jfun.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link LazyResult} with the eagerly built {@link Result} when only some of the {@link Result}s are observed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({"0", "10", "50", "100"})
+    public int observedPercentage;
+
+    @Param({"100"})
+    public int work;
+
+    private int[] inputs;
+    private boolean[] observed;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        this.inputs = new int[SIZE];
+        this.observed = new boolean[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            this.inputs[i] = random.nextInt();
+            this.observed[i] = random.nextInt(100) < this.observedPercentage;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void eager(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            Result<Integer, String> result = Result.<Integer, String>success(this.expensive(this.inputs[i])).map(value -> value + 1);
+            if (this.observed[i]) {
+                blackhole.consume(result.isSuccess());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void lazy(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            int input = this.inputs[i];
+            LazyResult<Integer, String> result = LazyResult.<Integer, String>of(() -> Result.success(this.expensive(input))).map(value -> value + 1);
+            if (this.observed[i]) {
+                blackhole.consume(result.isSuccess());
+            }
+        }
+    }
+
+    private int expensive(int input) {
+        Blackhole.consumeCPU(this.work);
+        return input;
+    }
+}
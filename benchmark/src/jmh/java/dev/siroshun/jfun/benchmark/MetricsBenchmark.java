@@ -0,0 +1,83 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.benchmark;
+
+import dev.siroshun.jfun.result.Result;
+import dev.siroshun.jfun.result.ResultMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Compares {@link ResultMetrics.Recorder#decorate(Function)} with counting the outcomes in a {@link Map} of {@link AtomicLong}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class MetricsBenchmark {
+
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private Function<Integer, Result<Integer, String>> plain;
+    private Function<Integer, Result<Integer, String>> decorated;
+    private int input;
+
+    @Setup
+    public void setup() {
+        this.plain = value -> value % 2 == 0 ? Result.success(value) : Result.failure("odd");
+        this.decorated = ResultMetrics.create().recorder("benchmark").decorate(this.plain);
+        this.input = 1000;
+    }
+
+    @Benchmark
+    public Result<Integer, String> plain() {
+        return this.plain.apply(this.input);
+    }
+
+    @Benchmark
+    public Result<Integer, String> mapOfAtomicLongs() {
+        long start = System.nanoTime();
+        Result<Integer, String> result = this.plain.apply(this.input);
+        String key = result.isSuccess() ? "benchmark.success" : "benchmark.failure";
+        this.counters.computeIfAbsent(key, ignored -> new AtomicLong()).incrementAndGet();
+        this.counters.computeIfAbsent("benchmark.latency", ignored -> new AtomicLong()).addAndGet(System.nanoTime() - start);
+        return result;
+    }
+
+    @Benchmark
+    public Result<Integer, String> recorder() {
+        return this.decorated.apply(this.input);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.benchmark;
+
+import dev.siroshun.jfun.result.Result;
+import dev.siroshun.jfun.result.ResultPipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares {@link ResultPipeline} with the equivalent chain of {@link Result} methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final Function<String, Integer> LENGTH = String::length;
+    private static final Function<Integer, Result<Integer, String>> VALIDATE = value -> value % 4 == 0 ? Result.failure("invalid") : Result.success(value);
+    private static final Function<String, Integer> ERROR_CODE = String::length;
+    private static final Function<Integer, Integer> RECOVER = code -> -code;
+
+    private static final ResultPipeline<String, Integer, Integer> PIPELINE =
+        ResultPipeline.<String, String>builder()
+            .map(LENGTH)
+            .flatMap(VALIDATE)
+            .mapError(ERROR_CODE)
+            .recover(RECOVER)
+            .build();
+
+    @Param({"0", "50", "100"})
+    public int failurePercentage;
+
+    private String[] inputs;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        this.inputs = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            boolean failure = random.nextInt(100) < this.failurePercentage;
+            this.inputs[i] = "x".repeat(failure ? 4 : 1 + random.nextInt(3));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void chain(Blackhole blackhole) {
+        for (String input : this.inputs) {
+            Result<String, String> result = Result.success(input);
+            blackhole.consume(result.map(LENGTH).flatMap(VALIDATE).mapError(ERROR_CODE).recover(RECOVER));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void pipeline(Blackhole blackhole) {
+        for (String input : this.inputs) {
+            blackhole.consume(PIPELINE.apply(input));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.benchmark;
+
+import dev.siroshun.jfun.function.DoubleToDoubleFunction3;
+import dev.siroshun.jfun.function.Function3;
+import dev.siroshun.jfun.function.ToDoubleFunction3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the boxed {@link Function3} with its primitive specializations.
+ * <p>
+ * The allocation rate reported by the GC profiler shows the boxing of the arguments and the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveFunctionBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final Function3<Double, Double, Double, Double> BOXED = (x, y, z) -> Math.sqrt(x * x + y * y + z * z);
+    private static final ToDoubleFunction3<Double, Double, Double> TO_DOUBLE = (x, y, z) -> Math.sqrt(x * x + y * y + z * z);
+    private static final DoubleToDoubleFunction3 PRIMITIVE = (x, y, z) -> Math.sqrt(x * x + y * y + z * z);
+
+    private double[] xs;
+    private double[] ys;
+    private double[] zs;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        this.xs = new double[SIZE];
+        this.ys = new double[SIZE];
+        this.zs = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            this.xs[i] = random.nextDouble();
+            this.ys[i] = random.nextDouble();
+            this.zs[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double boxed() {
+        double sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += BOXED.apply(this.xs[i], this.ys[i], this.zs[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double toDouble() {
+        double sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += TO_DOUBLE.applyAsDouble(this.xs[i], this.ys[i], this.zs[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double primitive() {
+        double sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += PRIMITIVE.applyAsDouble(this.xs[i], this.ys[i], this.zs[i]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.benchmark;
+
+import dev.siroshun.jfun.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks every operation of {@link Result}, for both {@link Result.Success} and {@link Result.Failure},
+ * with and without the payload.
+ * <p>
+ * Operations that throw on the unexpected side ({@link Result#unwrap()}, {@link Result#unwrapError()},
+ * {@link Result#asSuccess()} and {@link Result#asFailure()}) include the cost of creating and catching the exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark {
+
+    private static final Function<Object, Object> MAPPER = value -> "mapped";
+    private static final Function<Object, Result<Object, Object>> FLAT_MAPPER = value -> Result.success("mapped");
+    private static final Supplier<Object> SUPPLIER = () -> "supplied";
+    private static final Consumer<Object> CONSUMER = value -> {
+    };
+
+    @Param({"SUCCESS", "FAILURE"})
+    public Kind kind;
+
+    @Param({"false", "true"})
+    public boolean nullPayload;
+
+    private Object payload;
+    private Result<Object, Object> result;
+
+    @Setup
+    public void setup() {
+        this.payload = this.nullPayload ? null : "payload";
+        this.result = this.kind.create(this.payload);
+    }
+
+    @Benchmark
+    public Result<Object, Object> create() {
+        return this.kind.create(this.payload);
+    }
+
+    @Benchmark
+    public boolean isSuccess() {
+        return this.result.isSuccess();
+    }
+
+    @Benchmark
+    public boolean isFailure() {
+        return this.result.isFailure();
+    }
+
+    @Benchmark
+    public Optional<Object> toOptional() {
+        return this.result.toOptional();
+    }
+
+    @Benchmark
+    public Optional<Object> toOptionalError() {
+        return this.result.toOptionalError();
+    }
+
+    @Benchmark
+    public Result<Object, Object> map() {
+        return this.result.map(MAPPER);
+    }
+
+    @Benchmark
+    public Result<Object, Object> mapOr() {
+        return this.result.mapOr(MAPPER, "default");
+    }
+
+    @Benchmark
+    public Result<Object, Object> mapOrGet() {
+        return this.result.mapOrGet(MAPPER, SUPPLIER);
+    }
+
+    @Benchmark
+    public Result<Object, Object> mapOrElse() {
+        return this.result.mapOrElse(MAPPER, MAPPER);
+    }
+
+    @Benchmark
+    public Result<Object, Object> mapError() {
+        return this.result.mapError(MAPPER);
+    }
+
+    @Benchmark
+    public Result<Object, Object> flatMap() {
+        return this.result.flatMap(FLAT_MAPPER);
+    }
+
+    @Benchmark
+    public Result<Object, Object> flatMapBoth() {
+        return this.result.flatMap(FLAT_MAPPER, FLAT_MAPPER);
+    }
+
+    @Benchmark
+    public Result<Object, Object> flatMapError() {
+        return this.result.flatMapError(FLAT_MAPPER);
+    }
+
+    @Benchmark
+    public Result<Object, Object> inspect() {
+        return this.result.inspect(CONSUMER);
+    }
+
+    @Benchmark
+    public Result<Object, Object> inspectError() {
+        return this.result.inspectError(CONSUMER);
+    }
+
+    @Benchmark
+    public Result<Object, Object> recover() {
+        return this.result.recover(MAPPER);
+    }
+
+    @Benchmark
+    public Result<Object, Object> tryRecover() {
+        return this.result.tryRecover(FLAT_MAPPER);
+    }
+
+    @Benchmark
+    public void unwrap(Blackhole blackhole) {
+        try {
+            blackhole.consume(this.result.unwrap());
+        } catch (NoSuchElementException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public Object unwrapOr() {
+        return this.result.unwrapOr("default");
+    }
+
+    @Benchmark
+    public Object unwrapOrGet() {
+        return this.result.unwrapOrGet(SUPPLIER);
+    }
+
+    @Benchmark
+    public void unwrapError(Blackhole blackhole) {
+        try {
+            blackhole.consume(this.result.unwrapError());
+        } catch (NoSuchElementException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void asSuccess(Blackhole blackhole) {
+        try {
+            blackhole.consume(this.result.asSuccess());
+        } catch (ClassCastException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void asFailure(Blackhole blackhole) {
+        try {
+            blackhole.consume(this.result.asFailure());
+        } catch (ClassCastException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    public enum Kind {
+        SUCCESS {
+            @Override
+            Result<Object, Object> create(Object payload) {
+                return Result.success(payload);
+            }
+        },
+        FAILURE {
+            @Override
+            Result<Object, Object> create(Object payload) {
+                return Result.failure(payload);
+            }
+        };
+
+        abstract Result<Object, Object> create(Object payload);
+    }
+}
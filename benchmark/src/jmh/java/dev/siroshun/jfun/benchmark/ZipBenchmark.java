@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.benchmark;
+
+import dev.siroshun.jfun.result.Result;
+import dev.siroshun.jfun.result.Results;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code Results.zip} with the equivalent nested {@link Result#flatMap(java.util.function.Function)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZipBenchmark {
+
+    @Param({"NONE", "FIRST", "LAST"})
+    public FailureAt failureAt;
+
+    private Result<Integer, String> r1;
+    private Result<Integer, String> r2;
+    private Result<Integer, String> r3;
+    private Result<Integer, String> r4;
+    private Result<Integer, String> r5;
+
+    @Setup
+    public void setup() {
+        this.r1 = this.failureAt == FailureAt.FIRST ? Result.failure("error") : Result.success(1000);
+        this.r2 = Result.success(2000);
+        this.r3 = Result.success(3000);
+        this.r4 = Result.success(4000);
+        this.r5 = this.failureAt == FailureAt.LAST ? Result.failure("error") : Result.success(5000);
+    }
+
+    @Benchmark
+    public Result<Integer, String> nestedFlatMap3() {
+        Result<Integer, String> r2 = this.r2;
+        Result<Integer, String> r5 = this.r5;
+        return this.r1.flatMap(a1 -> r2.flatMap(a2 -> r5.map(a3 -> a1 + a2 + a3)));
+    }
+
+    @Benchmark
+    public Result<Integer, String> zip3() {
+        return Results.zip(this.r1, this.r2, this.r5, (a1, a2, a3) -> a1 + a2 + a3);
+    }
+
+    @Benchmark
+    public Result<Integer, String> nestedFlatMap5() {
+        Result<Integer, String> r2 = this.r2;
+        Result<Integer, String> r3 = this.r3;
+        Result<Integer, String> r4 = this.r4;
+        Result<Integer, String> r5 = this.r5;
+        return this.r1.flatMap(a1 -> r2.flatMap(a2 -> r3.flatMap(a3 -> r4.flatMap(a4 -> r5.map(a5 -> a1 + a2 + a3 + a4 + a5)))));
+    }
+
+    @Benchmark
+    public Result<Integer, String> zip5() {
+        return Results.zip(this.r1, this.r2, this.r3, this.r4, this.r5, (a1, a2, a3, a4, a5) -> a1 + a2 + a3 + a4 + a5);
+    }
+
+    public enum FailureAt {
+        NONE,
+        FIRST,
+        LAST
+    }
+}
@@ -0,0 +1,1772 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A class that provides methods to apply the functions to the columns of the arguments at once.
+ * <p>
+ * The columns are the arrays or the {@link List}s that have the {@code i}-th arguments of the {@code i}-th row,
+ * so no tuple is created for each row.
+ */
+public final class Batch {
+
+    /**
+     * Applies the specified {@link Function3} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     *
+     * @param function the {@link Function3} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, R> void apply(@NotNull Function3<? super A1, ? super A2, ? super A3, ? extends R> function,
+                                             A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3,
+                                             R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length);
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function3} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function3, Object[], Object[], Object[], Object[])} for details.
+     *
+     * @param function the {@link Function3} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, R> void applyParallel(@NotNull Function3<? super A1, ? super A2, ? super A3, ? extends R> function,
+                                                     A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3,
+                                                     R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length);
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function3} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function3} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function3<? super A1, ? super A2, ? super A3, ? extends R> function,
+                                                     A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3,
+                                                     R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length);
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function3} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param function the {@link Function3} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, R> void apply(@NotNull Function3<? super A1, ? super A2, ? super A3, ? extends R> function,
+                                             @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3,
+                                             R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size());
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function3} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function3, List, List, List, Object[])} for details.
+     *
+     * @param function the {@link Function3} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, R> void applyParallel(@NotNull Function3<? super A1, ? super A2, ? super A3, ? extends R> function,
+                                                     @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3,
+                                                     R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size());
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function3} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function3} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function3<? super A1, ? super A2, ? super A3, ? extends R> function,
+                                                     @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3,
+                                                     R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size());
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function4} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     *
+     * @param function the {@link Function4} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, R> void apply(@NotNull Function4<? super A1, ? super A2, ? super A3, ? super A4, ? extends R> function,
+                                                 A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4,
+                                                 R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length);
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function4} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function4, Object[], Object[], Object[], Object[], Object[])} for details.
+     *
+     * @param function the {@link Function4} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, R> void applyParallel(@NotNull Function4<? super A1, ? super A2, ? super A3, ? super A4, ? extends R> function,
+                                                         A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4,
+                                                         R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length);
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function4} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function4} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function4<? super A1, ? super A2, ? super A3, ? super A4, ? extends R> function,
+                                                         A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4,
+                                                         R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length);
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function4} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param function the {@link Function4} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, R> void apply(@NotNull Function4<? super A1, ? super A2, ? super A3, ? super A4, ? extends R> function,
+                                                 @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4,
+                                                 R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size());
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function4} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function4, List, List, List, List, Object[])} for details.
+     *
+     * @param function the {@link Function4} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, R> void applyParallel(@NotNull Function4<? super A1, ? super A2, ? super A3, ? super A4, ? extends R> function,
+                                                         @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4,
+                                                         R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size());
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function4} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function4} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function4<? super A1, ? super A2, ? super A3, ? super A4, ? extends R> function,
+                                                         @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4,
+                                                         R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size());
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function5} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     *
+     * @param function the {@link Function5} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, R> void apply(@NotNull Function5<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? extends R> function,
+                                                     A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5,
+                                                     R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length);
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function5} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function5, Object[], Object[], Object[], Object[], Object[], Object[])} for details.
+     *
+     * @param function the {@link Function5} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, R> void applyParallel(@NotNull Function5<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? extends R> function,
+                                                             A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5,
+                                                             R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length);
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function5} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function5} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function5<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? extends R> function,
+                                                             A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5,
+                                                             R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length);
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function5} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param function the {@link Function5} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, R> void apply(@NotNull Function5<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? extends R> function,
+                                                     @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5,
+                                                     R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size());
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function5} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function5, List, List, List, List, List, Object[])} for details.
+     *
+     * @param function the {@link Function5} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, R> void applyParallel(@NotNull Function5<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? extends R> function,
+                                                             @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5,
+                                                             R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size());
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function5} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function5} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function5<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? extends R> function,
+                                                             @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5,
+                                                             R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size());
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function6} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     *
+     * @param function the {@link Function6} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, R> void apply(@NotNull Function6<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? extends R> function,
+                                                         A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6,
+                                                         R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length);
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function6} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function6, Object[], Object[], Object[], Object[], Object[], Object[], Object[])} for details.
+     *
+     * @param function the {@link Function6} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, R> void applyParallel(@NotNull Function6<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? extends R> function,
+                                                                 A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6,
+                                                                 R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length);
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function6} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function6} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function6<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? extends R> function,
+                                                                 A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6,
+                                                                 R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length);
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function6} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param function the {@link Function6} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, R> void apply(@NotNull Function6<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? extends R> function,
+                                                         @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6,
+                                                         R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size());
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function6} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function6, List, List, List, List, List, List, Object[])} for details.
+     *
+     * @param function the {@link Function6} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, R> void applyParallel(@NotNull Function6<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? extends R> function,
+                                                                 @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6,
+                                                                 R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size());
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function6} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function6} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function6<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? extends R> function,
+                                                                 @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6,
+                                                                 R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size());
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function7} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     *
+     * @param function the {@link Function7} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param c7 the array of the 7th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, R> void apply(@NotNull Function7<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? extends R> function,
+                                                             A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6, A7 @NotNull [] c7,
+                                                             R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length, c7.length);
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i], c7[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function7} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function7, Object[], Object[], Object[], Object[], Object[], Object[], Object[], Object[])} for details.
+     *
+     * @param function the {@link Function7} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param c7 the array of the 7th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, R> void applyParallel(@NotNull Function7<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? extends R> function,
+                                                                     A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6, A7 @NotNull [] c7,
+                                                                     R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length, c7.length);
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i], c7[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function7} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function7} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param c7 the array of the 7th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function7<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? extends R> function,
+                                                                     A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6, A7 @NotNull [] c7,
+                                                                     R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length, c7.length);
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i], c7[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function7} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param function the {@link Function7} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param c7 the {@link List} of the 7th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, R> void apply(@NotNull Function7<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? extends R> function,
+                                                             @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6, @NotNull List<? extends A7> c7,
+                                                             R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size(), c7.size());
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i), c7.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function7} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function7, List, List, List, List, List, List, List, Object[])} for details.
+     *
+     * @param function the {@link Function7} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param c7 the {@link List} of the 7th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, R> void applyParallel(@NotNull Function7<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? extends R> function,
+                                                                     @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6, @NotNull List<? extends A7> c7,
+                                                                     R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size(), c7.size());
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i), c7.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function7} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function7} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param c7 the {@link List} of the 7th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function7<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? extends R> function,
+                                                                     @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6, @NotNull List<? extends A7> c7,
+                                                                     R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size(), c7.size());
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i), c7.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function8} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     *
+     * @param function the {@link Function8} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param c7 the array of the 7th arguments
+     * @param c8 the array of the 8th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, R> void apply(@NotNull Function8<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? extends R> function,
+                                                                 A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6, A7 @NotNull [] c7, A8 @NotNull [] c8,
+                                                                 R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length, c7.length, c8.length);
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i], c7[i], c8[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function8} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function8, Object[], Object[], Object[], Object[], Object[], Object[], Object[], Object[], Object[])} for details.
+     *
+     * @param function the {@link Function8} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param c7 the array of the 7th arguments
+     * @param c8 the array of the 8th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, R> void applyParallel(@NotNull Function8<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? extends R> function,
+                                                                         A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6, A7 @NotNull [] c7, A8 @NotNull [] c8,
+                                                                         R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length, c7.length, c8.length);
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i], c7[i], c8[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function8} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function8} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param c7 the array of the 7th arguments
+     * @param c8 the array of the 8th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function8<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? extends R> function,
+                                                                         A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6, A7 @NotNull [] c7, A8 @NotNull [] c8,
+                                                                         R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length, c7.length, c8.length);
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i], c7[i], c8[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function8} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param function the {@link Function8} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param c7 the {@link List} of the 7th arguments
+     * @param c8 the {@link List} of the 8th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, R> void apply(@NotNull Function8<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? extends R> function,
+                                                                 @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6, @NotNull List<? extends A7> c7, @NotNull List<? extends A8> c8,
+                                                                 R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size(), c7.size(), c8.size());
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i), c7.get(i), c8.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function8} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function8, List, List, List, List, List, List, List, List, Object[])} for details.
+     *
+     * @param function the {@link Function8} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param c7 the {@link List} of the 7th arguments
+     * @param c8 the {@link List} of the 8th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, R> void applyParallel(@NotNull Function8<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? extends R> function,
+                                                                         @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6, @NotNull List<? extends A7> c7, @NotNull List<? extends A8> c8,
+                                                                         R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size(), c7.size(), c8.size());
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i), c7.get(i), c8.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function8} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function8} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param c7 the {@link List} of the 7th arguments
+     * @param c8 the {@link List} of the 8th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function8<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? extends R> function,
+                                                                         @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6, @NotNull List<? extends A7> c7, @NotNull List<? extends A8> c8,
+                                                                         R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size(), c7.size(), c8.size());
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i), c7.get(i), c8.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function9} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     *
+     * @param function the {@link Function9} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param c7 the array of the 7th arguments
+     * @param c8 the array of the 8th arguments
+     * @param c9 the array of the 9th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, R> void apply(@NotNull Function9<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? extends R> function,
+                                                                     A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6, A7 @NotNull [] c7, A8 @NotNull [] c8, A9 @NotNull [] c9,
+                                                                     R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length, c7.length, c8.length, c9.length);
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i], c7[i], c8[i], c9[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function9} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function9, Object[], Object[], Object[], Object[], Object[], Object[], Object[], Object[], Object[], Object[])} for details.
+     *
+     * @param function the {@link Function9} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param c7 the array of the 7th arguments
+     * @param c8 the array of the 8th arguments
+     * @param c9 the array of the 9th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, R> void applyParallel(@NotNull Function9<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? extends R> function,
+                                                                             A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6, A7 @NotNull [] c7, A8 @NotNull [] c8, A9 @NotNull [] c9,
+                                                                             R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length, c7.length, c8.length, c9.length);
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i], c7[i], c8[i], c9[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function9} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function9} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param c7 the array of the 7th arguments
+     * @param c8 the array of the 8th arguments
+     * @param c9 the array of the 9th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function9<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? extends R> function,
+                                                                             A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6, A7 @NotNull [] c7, A8 @NotNull [] c8, A9 @NotNull [] c9,
+                                                                             R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length, c7.length, c8.length, c9.length);
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i], c7[i], c8[i], c9[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function9} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param function the {@link Function9} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param c7 the {@link List} of the 7th arguments
+     * @param c8 the {@link List} of the 8th arguments
+     * @param c9 the {@link List} of the 9th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, R> void apply(@NotNull Function9<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? extends R> function,
+                                                                     @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6, @NotNull List<? extends A7> c7, @NotNull List<? extends A8> c8, @NotNull List<? extends A9> c9,
+                                                                     R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size(), c7.size(), c8.size(), c9.size());
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i), c7.get(i), c8.get(i), c9.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function9} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function9, List, List, List, List, List, List, List, List, List, Object[])} for details.
+     *
+     * @param function the {@link Function9} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param c7 the {@link List} of the 7th arguments
+     * @param c8 the {@link List} of the 8th arguments
+     * @param c9 the {@link List} of the 9th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, R> void applyParallel(@NotNull Function9<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? extends R> function,
+                                                                             @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6, @NotNull List<? extends A7> c7, @NotNull List<? extends A8> c8, @NotNull List<? extends A9> c9,
+                                                                             R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size(), c7.size(), c8.size(), c9.size());
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i), c7.get(i), c8.get(i), c9.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function9} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function9} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param c7 the {@link List} of the 7th arguments
+     * @param c8 the {@link List} of the 8th arguments
+     * @param c9 the {@link List} of the 9th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function9<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? extends R> function,
+                                                                             @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6, @NotNull List<? extends A7> c7, @NotNull List<? extends A8> c8, @NotNull List<? extends A9> c9,
+                                                                             R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size(), c7.size(), c8.size(), c9.size());
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i), c7.get(i), c8.get(i), c9.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function10} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     *
+     * @param function the {@link Function10} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param c7 the array of the 7th arguments
+     * @param c8 the array of the 8th arguments
+     * @param c9 the array of the 9th arguments
+     * @param c10 the array of the 10th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <A10> the type of the 10th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, R> void apply(@NotNull Function10<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? super A10, ? extends R> function,
+                                                                          A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6, A7 @NotNull [] c7, A8 @NotNull [] c8, A9 @NotNull [] c9, A10 @NotNull [] c10,
+                                                                          R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length, c7.length, c8.length, c9.length, c10.length);
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i], c7[i], c8[i], c9[i], c10[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function10} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function10, Object[], Object[], Object[], Object[], Object[], Object[], Object[], Object[], Object[], Object[], Object[])} for details.
+     *
+     * @param function the {@link Function10} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param c7 the array of the 7th arguments
+     * @param c8 the array of the 8th arguments
+     * @param c9 the array of the 9th arguments
+     * @param c10 the array of the 10th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <A10> the type of the 10th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, R> void applyParallel(@NotNull Function10<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? super A10, ? extends R> function,
+                                                                                  A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6, A7 @NotNull [] c7, A8 @NotNull [] c8, A9 @NotNull [] c9, A10 @NotNull [] c10,
+                                                                                  R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length, c7.length, c8.length, c9.length, c10.length);
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i], c7[i], c8[i], c9[i], c10[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function10} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function10} to apply
+     * @param c1 the array of the 1st arguments
+     * @param c2 the array of the 2nd arguments
+     * @param c3 the array of the 3rd arguments
+     * @param c4 the array of the 4th arguments
+     * @param c5 the array of the 5th arguments
+     * @param c6 the array of the 6th arguments
+     * @param c7 the array of the 7th arguments
+     * @param c8 the array of the 8th arguments
+     * @param c9 the array of the 9th arguments
+     * @param c10 the array of the 10th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <A10> the type of the 10th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function10<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? super A10, ? extends R> function,
+                                                                                  A1 @NotNull [] c1, A2 @NotNull [] c2, A3 @NotNull [] c3, A4 @NotNull [] c4, A5 @NotNull [] c5, A6 @NotNull [] c6, A7 @NotNull [] c7, A8 @NotNull [] c8, A9 @NotNull [] c9, A10 @NotNull [] c10,
+                                                                                  R @NotNull [] out) {
+        checkLength(out.length, c1.length, c2.length, c3.length, c4.length, c5.length, c6.length, c7.length, c8.length, c9.length, c10.length);
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1[i], c2[i], c3[i], c4[i], c5[i], c6[i], c7[i], c8[i], c9[i], c10[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function10} to each row of the columns, and stores the results to the output array.
+     * <p>
+     * The {@code i}-th result is {@code function.apply(c1[i], ...)}, and it is stored to {@code out[i]}.
+     * The function is called in the order of the rows from the current thread.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param function the {@link Function10} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param c7 the {@link List} of the 7th arguments
+     * @param c8 the {@link List} of the 8th arguments
+     * @param c9 the {@link List} of the 9th arguments
+     * @param c10 the {@link List} of the 10th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <A10> the type of the 10th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, R> void apply(@NotNull Function10<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? super A10, ? extends R> function,
+                                                                          @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6, @NotNull List<? extends A7> c7, @NotNull List<? extends A8> c8, @NotNull List<? extends A9> c9, @NotNull List<? extends A10> c10,
+                                                                          R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size(), c7.size(), c8.size(), c9.size(), c10.size());
+        BatchTask.runSequential(out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i), c7.get(i), c8.get(i), c9.get(i), c10.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function10} to each row of the columns in parallel using {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * See {@link #applyParallel(ForkJoinPool, Function10, List, List, List, List, List, List, List, List, List, List, Object[])} for details.
+     *
+     * @param function the {@link Function10} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param c7 the {@link List} of the 7th arguments
+     * @param c8 the {@link List} of the 8th arguments
+     * @param c9 the {@link List} of the 9th arguments
+     * @param c10 the {@link List} of the 10th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <A10> the type of the 10th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, R> void applyParallel(@NotNull Function10<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? super A10, ? extends R> function,
+                                                                                  @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6, @NotNull List<? extends A7> c7, @NotNull List<? extends A8> c8, @NotNull List<? extends A9> c9, @NotNull List<? extends A10> c10,
+                                                                                  R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size(), c7.size(), c8.size(), c9.size(), c10.size());
+        BatchTask.runParallel(ForkJoinPool.commonPool(), out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i), c7.get(i), c8.get(i), c9.get(i), c10.get(i));
+            }
+        });
+    }
+
+    /**
+     * Applies the specified {@link Function10} to each row of the columns in parallel using the specified {@link ForkJoinPool}.
+     * <p>
+     * The rows are split into the chunks of the contiguous rows, and each chunk is processed sequentially by one task.
+     * The function may be called concurrently, so it must be thread-safe.
+     * If the function throws an exception, this method rethrows it after the running tasks are completed.
+     * <p>
+     * The {@link List}s should support the fast random access such as {@link java.util.ArrayList}.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param function the {@link Function10} to apply
+     * @param c1 the {@link List} of the 1st arguments
+     * @param c2 the {@link List} of the 2nd arguments
+     * @param c3 the {@link List} of the 3rd arguments
+     * @param c4 the {@link List} of the 4th arguments
+     * @param c5 the {@link List} of the 5th arguments
+     * @param c6 the {@link List} of the 6th arguments
+     * @param c7 the {@link List} of the 7th arguments
+     * @param c8 the {@link List} of the 8th arguments
+     * @param c9 the {@link List} of the 9th arguments
+     * @param c10 the {@link List} of the 10th arguments
+     * @param out the output array
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <A10> the type of the 10th argument
+     * @param <R> the type of the function result
+     * @throws IllegalArgumentException if the lengths of the columns and the output array are not the same
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, R> void applyParallel(@NotNull ForkJoinPool pool, @NotNull Function10<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? super A10, ? extends R> function,
+                                                                                  @NotNull List<? extends A1> c1, @NotNull List<? extends A2> c2, @NotNull List<? extends A3> c3, @NotNull List<? extends A4> c4, @NotNull List<? extends A5> c5, @NotNull List<? extends A6> c6, @NotNull List<? extends A7> c7, @NotNull List<? extends A8> c8, @NotNull List<? extends A9> c9, @NotNull List<? extends A10> c10,
+                                                                                  R @NotNull [] out) {
+        checkLength(out.length, c1.size(), c2.size(), c3.size(), c4.size(), c5.size(), c6.size(), c7.size(), c8.size(), c9.size(), c10.size());
+        BatchTask.runParallel(pool, out.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = function.apply(c1.get(i), c2.get(i), c3.get(i), c4.get(i), c5.get(i), c6.get(i), c7.get(i), c8.get(i), c9.get(i), c10.get(i));
+            }
+        });
+    }
+
+    private static void checkLength(int expected, int... lengths) {
+        for (int length : lengths) {
+            if (length != expected) {
+                throw new IllegalArgumentException("The lengths of the columns and the output array must be the same.");
+            }
+        }
+    }
+
+    private Batch() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A {@link RecursiveAction} that splits the range of the rows for {@link Batch}.
+ */
+@SuppressWarnings("serial")
+final class BatchTask extends RecursiveAction {
+
+    private static final int MINIMUM_CHUNK_SIZE = 1024;
+
+    /**
+     * Processes all rows in the current thread.
+     *
+     * @param length the number of the rows
+     * @param range the {@link Range} that processes the rows
+     */
+    static void runSequential(int length, @NotNull Range range) {
+        if (length != 0) {
+            range.run(0, length);
+        }
+    }
+
+    /**
+     * Processes all rows in parallel using the specified {@link ForkJoinPool}, and waits for the completion.
+     *
+     * @param pool the {@link ForkJoinPool} to run the tasks
+     * @param length the number of the rows
+     * @param range the {@link Range} that processes the rows
+     */
+    static void runParallel(@NotNull ForkJoinPool pool, int length, @NotNull Range range) {
+        int chunkSize = Math.max(MINIMUM_CHUNK_SIZE, length / (pool.getParallelism() << 2));
+
+        if (length <= chunkSize) {
+            runSequential(length, range);
+        } else {
+            pool.invoke(new BatchTask(range, 0, length, chunkSize));
+        }
+    }
+
+    private final Range range;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    private BatchTask(@NotNull Range range, int from, int to, int chunkSize) {
+        this.range = range;
+        this.from = from;
+        this.to = to;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected void compute() {
+        if (this.to - this.from <= this.chunkSize) {
+            this.range.run(this.from, this.to);
+            return;
+        }
+
+        int middle = (this.from + this.to) >>> 1;
+        invokeAll(
+            new BatchTask(this.range, this.from, middle, this.chunkSize),
+            new BatchTask(this.range, middle, this.to, this.chunkSize)
+        );
+    }
+
+    /**
+     * A function that processes the rows in the range.
+     */
+    @FunctionalInterface
+    interface Range {
+
+        /**
+         * Processes the rows from {@code from} (inclusive) to {@code to} (exclusive).
+         *
+         * @param from the first row (inclusive)
+         * @param to the last row (exclusive)
+         */
+        void run(int from, int to);
+
+    }
+}
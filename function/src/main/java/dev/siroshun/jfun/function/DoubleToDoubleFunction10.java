@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An interface to create a {@code double} value from 10 {@code double} arguments.
+ * <p>
+ * This is the primitive specialization for {@link Function10} that consumes and produces {@code double} values.
+ */
+@FunctionalInterface
+public interface DoubleToDoubleFunction10 {
+
+    /**
+     * Applies this function to given 10 arguments.
+     *
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @param a3 the 3rd argument
+     * @param a4 the 4th argument
+     * @param a5 the 5th argument
+     * @param a6 the 6th argument
+     * @param a7 the 7th argument
+     * @param a8 the 8th argument
+     * @param a9 the 9th argument
+     * @param a10 the 10th argument
+     * @return the function result
+     */
+    double applyAsDouble(double a1, double a2, double a3, double a4, double a5, double a6, double a7, double a8, double a9, double a10);
+
+    /**
+     * Returns the {@link Function10} that unboxes the arguments, passes them to this function and boxes the result.
+     * <p>
+     * The returned function throws {@link NullPointerException} if any argument is {@code null}.
+     *
+     * @return the {@link Function10} that unboxes the arguments and boxes the result
+     */
+    default @NotNull Function10<Double, Double, Double, Double, Double, Double, Double, Double, Double, Double, Double> boxed() {
+        return this::applyAsDouble;
+    }
+
+}
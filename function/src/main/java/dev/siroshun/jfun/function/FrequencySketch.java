@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+/**
+ * A count-min sketch that estimates the access frequency of the keys with 4-bit counters.
+ * <p>
+ * This class is used to decide whether a new entry should replace the victim entry in {@link MemoCache}.
+ * The counters are halved periodically, so the estimated frequencies reflect the recent accesses.
+ * <p>
+ * This class is not thread-safe, and it should be guarded by the lock of the segment.
+ */
+final class FrequencySketch {
+
+    private static final int MINIMUM_TABLE_LENGTH = 16;
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+
+    /**
+     * Creates a {@link FrequencySketch} for the specified number of entries.
+     *
+     * @param capacity the initial number of the entries in the segment
+     */
+    FrequencySketch(int capacity) {
+        this.ensureCapacity(capacity);
+    }
+
+    /**
+     * Grows the table for the specified number of entries.
+     * <p>
+     * The table is allocated as the segment grows, so a huge maximum size does not allocate the table up front.
+     * When the table grows, the estimated frequencies are discarded.
+     *
+     * @param capacity the number of the entries in the segment
+     */
+    void ensureCapacity(int capacity) {
+        int length = Math.max(MINIMUM_TABLE_LENGTH, Integer.highestOneBit(Math.max(1, capacity - 1) << 1));
+
+        if (this.table != null && length <= this.table.length) {
+            return;
+        }
+
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = (int) Math.min(Integer.MAX_VALUE, Math.max(10, 10L * capacity));
+        this.size = 0;
+    }
+
+    /**
+     * Increments the estimated frequency of the specified hash.
+     *
+     * @param hash the hash of the key
+     */
+    void increment(int hash) {
+        boolean added = false;
+
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= this.incrementAt(this.indexOf(hash, i), this.counterOf(hash, i));
+        }
+
+        if (added && ++this.size == this.sampleSize) {
+            this.reset();
+        }
+    }
+
+    /**
+     * Returns the estimated frequency of the specified hash.
+     *
+     * @param hash the hash of the key
+     * @return the estimated frequency, from {@code 0} to {@code 15}
+     */
+    int frequency(int hash) {
+        int frequency = Integer.MAX_VALUE;
+
+        for (int i = 0; i < SEEDS.length; i++) {
+            int shift = this.counterOf(hash, i) << 2;
+            frequency = Math.min(frequency, (int) ((this.table[this.indexOf(hash, i)] >>> shift) & 0xFL));
+        }
+
+        return frequency;
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int shift = counter << 2;
+        long mask = 0xFL << shift;
+
+        if ((this.table[index] & mask) != mask) {
+            this.table[index] += 1L << shift;
+            return true;
+        }
+
+        return false;
+    }
+
+    private int indexOf(int hash, int i) {
+        int h = hash * SEEDS[i];
+        return (h ^ (h >>> 16)) & this.tableMask;
+    }
+
+    private int counterOf(int hash, int i) {
+        return ((hash >>> (i << 3)) + i) & 0xF;
+    }
+
+    private void reset() {
+        for (int i = 0; i < this.table.length; i++) {
+            this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+        }
+        this.size >>>= 1;
+    }
+}
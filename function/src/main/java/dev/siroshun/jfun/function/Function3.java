@@ -17,6 +17,11 @@
 
 package dev.siroshun.jfun.function;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 /**
  * An interface to create a specified type from 3 arguments.
  *
@@ -28,6 +33,20 @@ package dev.siroshun.jfun.function;
 @FunctionalInterface
 public interface Function3<A1, A2, A3, R> {
 
+    /**
+     * Creates a {@link Function3} that packs the arguments into {@link Tuple3} and passes it to the specified {@link Function}.
+     *
+     * @param function the {@link Function} that takes {@link Tuple3}
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <R> the type of the function result
+     * @return the {@link Function3} that takes the elements of {@link Tuple3} as the arguments
+     */
+    static <A1, A2, A3, R> @NotNull Function3<A1, A2, A3, R> untupled(@NotNull Function<? super Tuple3<A1, A2, A3>, ? extends R> function) {
+        return (a1, a2, a3) -> function.apply(new Tuple3<>(a1, a2, a3));
+    }
+
     /**
      * Applies this function to given 3 arguments.
      *
@@ -38,4 +57,52 @@ public interface Function3<A1, A2, A3, R> {
      */
     R apply(A1 a1, A2 a2, A3 a3);
 
+    /**
+     * Returns the {@link BiFunction} that applies this function with the 1st argument bound to the specified value.
+     * <p>
+     * The returned function holds the bound values directly and calls this function once,
+     * so it does not create a chain of functions.
+     *
+     * @param a1 the 1st argument
+     * @return the {@link BiFunction} that takes the remaining arguments
+     */
+    default @NotNull BiFunction<A2, A3, R> partial(A1 a1) {
+        return (a2, a3) -> this.apply(a1, a2, a3);
+    }
+
+    /**
+     * Returns the {@link Function} that applies this function with the 1st and 2nd arguments bound to the specified values.
+     * <p>
+     * The returned function holds the bound values directly and calls this function once,
+     * so it does not create a chain of functions.
+     *
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @return the {@link Function} that takes the remaining arguments
+     */
+    default @NotNull Function<A3, R> partial(A1 a1, A2 a2) {
+        return a3 -> this.apply(a1, a2, a3);
+    }
+
+    /**
+     * Returns the curried form of this function that takes the arguments one by one.
+     * <p>
+     * Each intermediate function holds the arguments that are already given,
+     * and the last function calls this function once with all arguments.
+     *
+     * @return the curried form of this function
+     */
+    default @NotNull Function<A1, Function<A2, Function<A3, R>>> curried() {
+        return a1 -> a2 -> a3 -> this.apply(a1, a2, a3);
+    }
+
+    /**
+     * Returns the {@link Function} that takes {@link Tuple3} and applies this function to its elements.
+     *
+     * @return the {@link Function} that takes {@link Tuple3}
+     */
+    default @NotNull Function<Tuple3<A1, A2, A3>, R> tupled() {
+        return tuple -> this.apply(tuple.a1(), tuple.a2(), tuple.a3());
+    }
+
 }
@@ -17,6 +17,11 @@
 
 package dev.siroshun.jfun.function;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 /**
  * An interface to create a specified type from 4 arguments.
  *
@@ -29,6 +34,21 @@ package dev.siroshun.jfun.function;
 @FunctionalInterface
 public interface Function4<A1, A2, A3, A4, R> {
 
+    /**
+     * Creates a {@link Function4} that packs the arguments into {@link Tuple4} and passes it to the specified {@link Function}.
+     *
+     * @param function the {@link Function} that takes {@link Tuple4}
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <R> the type of the function result
+     * @return the {@link Function4} that takes the elements of {@link Tuple4} as the arguments
+     */
+    static <A1, A2, A3, A4, R> @NotNull Function4<A1, A2, A3, A4, R> untupled(@NotNull Function<? super Tuple4<A1, A2, A3, A4>, ? extends R> function) {
+        return (a1, a2, a3, a4) -> function.apply(new Tuple4<>(a1, a2, a3, a4));
+    }
+
     /**
      * Applies this function to given 4 arguments.
      *
@@ -40,4 +60,67 @@ public interface Function4<A1, A2, A3, A4, R> {
      */
     R apply(A1 a1, A2 a2, A3 a3, A4 a4);
 
+    /**
+     * Returns the {@link Function3} that applies this function with the 1st argument bound to the specified value.
+     * <p>
+     * The returned function holds the bound values directly and calls this function once,
+     * so it does not create a chain of functions.
+     *
+     * @param a1 the 1st argument
+     * @return the {@link Function3} that takes the remaining arguments
+     */
+    default @NotNull Function3<A2, A3, A4, R> partial(A1 a1) {
+        return (a2, a3, a4) -> this.apply(a1, a2, a3, a4);
+    }
+
+    /**
+     * Returns the {@link BiFunction} that applies this function with the 1st and 2nd arguments bound to the specified values.
+     * <p>
+     * The returned function holds the bound values directly and calls this function once,
+     * so it does not create a chain of functions.
+     *
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @return the {@link BiFunction} that takes the remaining arguments
+     */
+    default @NotNull BiFunction<A3, A4, R> partial(A1 a1, A2 a2) {
+        return (a3, a4) -> this.apply(a1, a2, a3, a4);
+    }
+
+    /**
+     * Returns the {@link Function} that applies this function with the 1st to 3rd arguments bound to the specified values.
+     * <p>
+     * The returned function holds the bound values directly and calls this function once,
+     * so it does not create a chain of functions.
+     *
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @param a3 the 3rd argument
+     * @return the {@link Function} that takes the remaining arguments
+     */
+    default @NotNull Function<A4, R> partial(A1 a1, A2 a2, A3 a3) {
+        return a4 -> this.apply(a1, a2, a3, a4);
+    }
+
+    /**
+     * Returns the curried form of this function that takes the arguments one by one.
+     * <p>
+     * Each intermediate function holds the arguments that are already given,
+     * and the last function calls this function once with all arguments.
+     *
+     * @return the curried form of this function
+     */
+    default @NotNull Function<A1, Function<A2, Function<A3, Function<A4, R>>>> curried() {
+        return a1 -> a2 -> a3 -> a4 -> this.apply(a1, a2, a3, a4);
+    }
+
+    /**
+     * Returns the {@link Function} that takes {@link Tuple4} and applies this function to its elements.
+     *
+     * @return the {@link Function} that takes {@link Tuple4}
+     */
+    default @NotNull Function<Tuple4<A1, A2, A3, A4>, R> tupled() {
+        return tuple -> this.apply(tuple.a1(), tuple.a2(), tuple.a3(), tuple.a4());
+    }
+
 }
@@ -17,6 +17,11 @@
 
 package dev.siroshun.jfun.function;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 /**
  * An interface to create a specified type from 7 arguments.
  *
@@ -32,6 +37,24 @@ package dev.siroshun.jfun.function;
 @FunctionalInterface
 public interface Function7<A1, A2, A3, A4, A5, A6, A7, R> {
 
+    /**
+     * Creates a {@link Function7} that packs the arguments into {@link Tuple7} and passes it to the specified {@link Function}.
+     *
+     * @param function the {@link Function} that takes {@link Tuple7}
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <R> the type of the function result
+     * @return the {@link Function7} that takes the elements of {@link Tuple7} as the arguments
+     */
+    static <A1, A2, A3, A4, A5, A6, A7, R> @NotNull Function7<A1, A2, A3, A4, A5, A6, A7, R> untupled(@NotNull Function<? super Tuple7<A1, A2, A3, A4, A5, A6, A7>, ? extends R> function) {
+        return (a1, a2, a3, a4, a5, a6, a7) -> function.apply(new Tuple7<>(a1, a2, a3, a4, a5, a6, a7));
+    }
+
     /**
      * Applies this function to given 7 arguments.
      *
@@ -46,4 +69,118 @@ public interface Function7<A1, A2, A3, A4, A5, A6, A7, R> {
      */
     R apply(A1 a1, A2 a2, A3 a3, A4 a4, A5 a5, A6 a6, A7 a7);
 
+    /**
+     * Returns the {@link Function6} that applies this function with the 1st argument bound to the specified value.
+     * <p>
+     * The returned function holds the bound values directly and calls this function once,
+     * so it does not create a chain of functions.
+     *
+     * @param a1 the 1st argument
+     * @return the {@link Function6} that takes the remaining arguments
+     */
+    default @NotNull Function6<A2, A3, A4, A5, A6, A7, R> partial(A1 a1) {
+        return (a2, a3, a4, a5, a6, a7) -> this.apply(a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    /**
+     * Returns the {@link Function5} that applies this function with the 1st and 2nd arguments bound to the specified values.
+     * <p>
+     * The returned function holds the bound values directly and calls this function once,
+     * so it does not create a chain of functions.
+     *
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @return the {@link Function5} that takes the remaining arguments
+     */
+    default @NotNull Function5<A3, A4, A5, A6, A7, R> partial(A1 a1, A2 a2) {
+        return (a3, a4, a5, a6, a7) -> this.apply(a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    /**
+     * Returns the {@link Function4} that applies this function with the 1st to 3rd arguments bound to the specified values.
+     * <p>
+     * The returned function holds the bound values directly and calls this function once,
+     * so it does not create a chain of functions.
+     *
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @param a3 the 3rd argument
+     * @return the {@link Function4} that takes the remaining arguments
+     */
+    default @NotNull Function4<A4, A5, A6, A7, R> partial(A1 a1, A2 a2, A3 a3) {
+        return (a4, a5, a6, a7) -> this.apply(a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    /**
+     * Returns the {@link Function3} that applies this function with the 1st to 4th arguments bound to the specified values.
+     * <p>
+     * The returned function holds the bound values directly and calls this function once,
+     * so it does not create a chain of functions.
+     *
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @param a3 the 3rd argument
+     * @param a4 the 4th argument
+     * @return the {@link Function3} that takes the remaining arguments
+     */
+    default @NotNull Function3<A5, A6, A7, R> partial(A1 a1, A2 a2, A3 a3, A4 a4) {
+        return (a5, a6, a7) -> this.apply(a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    /**
+     * Returns the {@link BiFunction} that applies this function with the 1st to 5th arguments bound to the specified values.
+     * <p>
+     * The returned function holds the bound values directly and calls this function once,
+     * so it does not create a chain of functions.
+     *
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @param a3 the 3rd argument
+     * @param a4 the 4th argument
+     * @param a5 the 5th argument
+     * @return the {@link BiFunction} that takes the remaining arguments
+     */
+    default @NotNull BiFunction<A6, A7, R> partial(A1 a1, A2 a2, A3 a3, A4 a4, A5 a5) {
+        return (a6, a7) -> this.apply(a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    /**
+     * Returns the {@link Function} that applies this function with the 1st to 6th arguments bound to the specified values.
+     * <p>
+     * The returned function holds the bound values directly and calls this function once,
+     * so it does not create a chain of functions.
+     *
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @param a3 the 3rd argument
+     * @param a4 the 4th argument
+     * @param a5 the 5th argument
+     * @param a6 the 6th argument
+     * @return the {@link Function} that takes the remaining arguments
+     */
+    default @NotNull Function<A7, R> partial(A1 a1, A2 a2, A3 a3, A4 a4, A5 a5, A6 a6) {
+        return a7 -> this.apply(a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    /**
+     * Returns the curried form of this function that takes the arguments one by one.
+     * <p>
+     * Each intermediate function holds the arguments that are already given,
+     * and the last function calls this function once with all arguments.
+     *
+     * @return the curried form of this function
+     */
+    default @NotNull Function<A1, Function<A2, Function<A3, Function<A4, Function<A5, Function<A6, Function<A7, R>>>>>>> curried() {
+        return a1 -> a2 -> a3 -> a4 -> a5 -> a6 -> a7 -> this.apply(a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    /**
+     * Returns the {@link Function} that takes {@link Tuple7} and applies this function to its elements.
+     *
+     * @return the {@link Function} that takes {@link Tuple7}
+     */
+    default @NotNull Function<Tuple7<A1, A2, A3, A4, A5, A6, A7>, R> tupled() {
+        return tuple -> this.apply(tuple.a1(), tuple.a2(), tuple.a3(), tuple.a4(), tuple.a5(), tuple.a6(), tuple.a7());
+    }
+
 }
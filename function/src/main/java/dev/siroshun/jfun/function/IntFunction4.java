@@ -0,0 +1,54 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An interface to create a specified type from 4 {@code int} arguments.
+ * <p>
+ * This is the {@code int}-consuming primitive specialization for {@link Function4}.
+ *
+ * @param <R> the type of the function result
+ */
+@FunctionalInterface
+public interface IntFunction4<R> {
+
+    /**
+     * Applies this function to given 4 arguments.
+     *
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @param a3 the 3rd argument
+     * @param a4 the 4th argument
+     * @return the function result
+     */
+    R apply(int a1, int a2, int a3, int a4);
+
+    /**
+     * Returns the {@link Function4} that unboxes the arguments and passes them to this function.
+     * <p>
+     * The returned function throws {@link NullPointerException} if any argument is {@code null}.
+     *
+     * @return the {@link Function4} that unboxes the arguments
+     */
+    default @NotNull Function4<Integer, Integer, Integer, Integer, R> boxed() {
+        return this::apply;
+    }
+
+}
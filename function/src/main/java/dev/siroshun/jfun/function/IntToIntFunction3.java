@@ -0,0 +1,51 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An interface to create an {@code int} value from 3 {@code int} arguments.
+ * <p>
+ * This is the primitive specialization for {@link Function3} that consumes and produces {@code int} values.
+ */
+@FunctionalInterface
+public interface IntToIntFunction3 {
+
+    /**
+     * Applies this function to given 3 arguments.
+     *
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @param a3 the 3rd argument
+     * @return the function result
+     */
+    int applyAsInt(int a1, int a2, int a3);
+
+    /**
+     * Returns the {@link Function3} that unboxes the arguments, passes them to this function and boxes the result.
+     * <p>
+     * The returned function throws {@link NullPointerException} if any argument is {@code null}.
+     *
+     * @return the {@link Function3} that unboxes the arguments and boxes the result
+     */
+    default @NotNull Function3<Integer, Integer, Integer, Integer> boxed() {
+        return this::applyAsInt;
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An interface to create a specified type from 3 {@code long} arguments.
+ * <p>
+ * This is the {@code long}-consuming primitive specialization for {@link Function3}.
+ *
+ * @param <R> the type of the function result
+ */
+@FunctionalInterface
+public interface LongFunction3<R> {
+
+    /**
+     * Applies this function to given 3 arguments.
+     *
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @param a3 the 3rd argument
+     * @return the function result
+     */
+    R apply(long a1, long a2, long a3);
+
+    /**
+     * Returns the {@link Function3} that unboxes the arguments and passes them to this function.
+     * <p>
+     * The returned function throws {@link NullPointerException} if any argument is {@code null}.
+     *
+     * @return the {@link Function3} that unboxes the arguments
+     */
+    default @NotNull Function3<Long, Long, Long, R> boxed() {
+        return this::apply;
+    }
+
+}
@@ -0,0 +1,392 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded cache that is used by the memoized functions created by {@link Memoizer}.
+ * <p>
+ * The entries are distributed to the segments by the hash of the arguments, and each segment is guarded by its own lock.
+ * The arguments of the lookup are passed separately and compared with the stored arguments,
+ * so the array of the arguments is created only when a new entry is stored.
+ */
+final class MemoCache {
+
+    /**
+     * The marker object that is returned from {@link #get(int, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object)}
+     * when the entry does not exist.
+     */
+    static final Object MISS = new Object();
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final Memoizer.Eviction eviction;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    MemoCache(long maximumSize, int stripes, Memoizer.Eviction eviction, long expireAfterWriteNanos, LongSupplier ticker) {
+        int segmentCount = Integer.highestOneBit((int) Math.max(1, Math.min(stripes, maximumSize)));
+
+        // splits maximumSize into the segments, so the total capacity does not exceed it
+        long baseCapacity = maximumSize / segmentCount;
+        long remainder = maximumSize % segmentCount;
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int segmentCapacity = (int) Math.min(Integer.MAX_VALUE >> 2, i < remainder ? baseCapacity + 1 : baseCapacity);
+            this.segments[i] = new Segment(segmentCapacity, eviction == Memoizer.Eviction.TINY_LFU);
+        }
+
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        this.eviction = eviction;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Computes the hash of the arguments.
+     * <p>
+     * The unused arguments should be {@code null}.
+     *
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @param a3 the 3rd argument
+     * @param a4 the 4th argument
+     * @param a5 the 5th argument
+     * @param a6 the 6th argument
+     * @param a7 the 7th argument
+     * @param a8 the 8th argument
+     * @param a9 the 9th argument
+     * @param a10 the 10th argument
+     * @return the hash of the arguments
+     */
+    static int hash(Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10) {
+        int h = Objects.hashCode(a1);
+        h = 31 * h + Objects.hashCode(a2);
+        h = 31 * h + Objects.hashCode(a3);
+        h = 31 * h + Objects.hashCode(a4);
+        h = 31 * h + Objects.hashCode(a5);
+        h = 31 * h + Objects.hashCode(a6);
+        h = 31 * h + Objects.hashCode(a7);
+        h = 31 * h + Objects.hashCode(a8);
+        h = 31 * h + Objects.hashCode(a9);
+        h = 31 * h + Objects.hashCode(a10);
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Gets the cached value for the arguments.
+     * <p>
+     * The unused arguments should be {@code null}.
+     *
+     * @param hash the hash of the arguments computed by {@link #hash(Object, Object, Object, Object, Object, Object, Object, Object, Object, Object)}
+     * @param a1 the 1st argument
+     * @param a2 the 2nd argument
+     * @param a3 the 3rd argument
+     * @param a4 the 4th argument
+     * @param a5 the 5th argument
+     * @param a6 the 6th argument
+     * @param a7 the 7th argument
+     * @param a8 the 8th argument
+     * @param a9 the 9th argument
+     * @param a10 the 10th argument
+     * @return the cached value, or {@link #MISS} if the entry does not exist
+     */
+    Object get(int hash, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10) {
+        Segment segment = this.segmentFor(hash);
+        Object value = MISS;
+
+        segment.lock();
+        try {
+            if (segment.sketch != null) {
+                segment.sketch.increment(hash);
+            }
+
+            Entry entry = segment.find(hash, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+
+            if (entry != null) {
+                if (this.isExpired(entry)) {
+                    segment.remove(entry);
+                    this.evictions.increment();
+                } else {
+                    if (this.eviction != Memoizer.Eviction.FIFO) {
+                        segment.moveToTail(entry);
+                    }
+                    value = entry.value;
+                }
+            }
+        } finally {
+            segment.unlock();
+        }
+
+        if (value == MISS) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+
+        return value;
+    }
+
+    /**
+     * Stores the value for the arguments.
+     * <p>
+     * If another thread already stored the value for the same arguments, this method returns that value instead.
+     *
+     * @param hash the hash of the arguments
+     * @param keys the arguments
+     * @param value the value to store
+     * @return the stored value
+     */
+    Object put(int hash, Object[] keys, Object value) {
+        Segment segment = this.segmentFor(hash);
+
+        segment.lock();
+        try {
+            Entry existing = segment.find(hash, keys);
+            if (existing != null && !this.isExpired(existing)) {
+                return existing.value;
+            }
+
+            if (existing != null) {
+                segment.remove(existing);
+                this.evictions.increment();
+            }
+
+            if (segment.size == segment.capacity) {
+                Entry victim = segment.head.after;
+                if (segment.sketch != null && segment.sketch.frequency(hash) <= segment.sketch.frequency(victim.hash)) {
+                    return value; // the new entry is rejected because it is accessed less frequently than the victim
+                }
+                segment.remove(victim);
+                this.evictions.increment();
+            }
+
+            segment.insert(new Entry(hash, keys, value, this.expireAfterWriteNanos < 0 ? 0 : this.ticker.getAsLong()));
+            return value;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void invalidateAll() {
+        for (Segment segment : this.segments) {
+            segment.lock();
+            try {
+                segment.clear();
+            } finally {
+                segment.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of the cached entries.
+     *
+     * @return the number of the cached entries
+     */
+    long size() {
+        long size = 0;
+        for (Segment segment : this.segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the current statistics.
+     *
+     * @return the current statistics
+     */
+    Memoized.Stats stats() {
+        return new Memoized.Stats(this.hits.sum(), this.misses.sum(), this.evictions.sum());
+    }
+
+    private Segment segmentFor(int hash) {
+        return this.segments.length == 1 ? this.segments[0] : this.segments[hash >>> this.segmentShift];
+    }
+
+    private boolean isExpired(Entry entry) {
+        return 0 <= this.expireAfterWriteNanos && this.expireAfterWriteNanos <= this.ticker.getAsLong() - entry.writeTime;
+    }
+
+    @SuppressWarnings("serial")
+    private static final class Segment extends ReentrantLock {
+
+        private static final int INITIAL_TABLE_LENGTH = 16;
+
+        private final int capacity;
+        private final int maximumTableLength;
+        private final Entry head = new Entry(0, null, null, 0); // the sentinel of the eviction order, head.after is the oldest entry
+        private final FrequencySketch sketch;
+        private Entry[] table;
+        private volatile int size;
+
+        private Segment(int capacity, boolean frequencyAware) {
+            // the table starts small and grows with the entries, so a huge capacity does not allocate the table up front
+            this.capacity = capacity;
+            this.maximumTableLength = Integer.highestOneBit(Math.max(1, capacity - 1) << 1);
+            this.table = new Entry[Math.min(INITIAL_TABLE_LENGTH, this.maximumTableLength)];
+            this.head.before = this.head;
+            this.head.after = this.head;
+            this.sketch = frequencyAware ? new FrequencySketch(Math.min(capacity, this.table.length)) : null;
+        }
+
+        private Entry find(int hash, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10) {
+            for (Entry entry = this.table[hash & (this.table.length - 1)]; entry != null; entry = entry.next) {
+                if (entry.hash == hash && entry.matches(a1, a2, a3, a4, a5, a6, a7, a8, a9, a10)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        private Entry find(int hash, Object[] keys) {
+            return this.find(
+                hash,
+                keys[0], keys[1], keys[2], at(keys, 3), at(keys, 4),
+                at(keys, 5), at(keys, 6), at(keys, 7), at(keys, 8), at(keys, 9)
+            );
+        }
+
+        private static Object at(Object[] keys, int index) {
+            return index < keys.length ? keys[index] : null;
+        }
+
+        private void insert(Entry entry) {
+            int index = entry.hash & (this.table.length - 1);
+            entry.next = this.table[index];
+            this.table[index] = entry;
+
+            entry.before = this.head.before;
+            entry.after = this.head;
+            this.head.before.after = entry;
+            this.head.before = entry;
+
+            if (++this.size > this.table.length - (this.table.length >>> 2) && this.table.length < this.maximumTableLength) {
+                this.resize();
+            }
+        }
+
+        private void resize() {
+            Entry[] oldTable = this.table;
+            Entry[] newTable = new Entry[oldTable.length << 1];
+
+            for (Entry entry : oldTable) {
+                while (entry != null) {
+                    Entry next = entry.next;
+                    int index = entry.hash & (newTable.length - 1);
+                    entry.next = newTable[index];
+                    newTable[index] = entry;
+                    entry = next;
+                }
+            }
+
+            this.table = newTable;
+
+            if (this.sketch != null) {
+                this.sketch.ensureCapacity(Math.min(this.capacity, newTable.length));
+            }
+        }
+
+        private void remove(Entry entry) {
+            int index = entry.hash & (this.table.length - 1);
+            Entry previous = null;
+
+            for (Entry current = this.table[index]; current != null; previous = current, current = current.next) {
+                if (current == entry) {
+                    if (previous == null) {
+                        this.table[index] = current.next;
+                    } else {
+                        previous.next = current.next;
+                    }
+                    break;
+                }
+            }
+
+            entry.before.after = entry.after;
+            entry.after.before = entry.before;
+            this.size--;
+        }
+
+        private void moveToTail(Entry entry) {
+            if (this.head.before == entry) {
+                return;
+            }
+
+            entry.before.after = entry.after;
+            entry.after.before = entry.before;
+
+            entry.before = this.head.before;
+            entry.after = this.head;
+            this.head.before.after = entry;
+            this.head.before = entry;
+        }
+
+        private void clear() {
+            Arrays.fill(this.table, null);
+            this.head.before = this.head;
+            this.head.after = this.head;
+            this.size = 0;
+        }
+    }
+
+    private static final class Entry {
+
+        private final int hash;
+        private final Object[] keys;
+        private final Object value;
+        private final long writeTime;
+        private Entry next;
+        private Entry before;
+        private Entry after;
+
+        private Entry(int hash, Object[] keys, Object value, long writeTime) {
+            this.hash = hash;
+            this.keys = keys;
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+
+        private boolean matches(Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10) {
+            Object[] keys = this.keys;
+            int length = keys.length;
+            return Objects.equals(keys[0], a1) && Objects.equals(keys[1], a2) && Objects.equals(keys[2], a3) &&
+                (length < 4 || Objects.equals(keys[3], a4)) &&
+                (length < 5 || Objects.equals(keys[4], a5)) &&
+                (length < 6 || Objects.equals(keys[5], a6)) &&
+                (length < 7 || Objects.equals(keys[6], a7)) &&
+                (length < 8 || Objects.equals(keys[7], a8)) &&
+                (length < 9 || Objects.equals(keys[8], a9)) &&
+                (length < 10 || Objects.equals(keys[9], a10));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A class that holds the memoized function created by {@link Memoizer} and its cache.
+ *
+ * @param <F> the type of the memoized function
+ */
+public final class Memoized<F> {
+
+    private final F function;
+    private final MemoCache cache;
+
+    Memoized(@NotNull F function, @NotNull MemoCache cache) {
+        this.function = function;
+        this.cache = cache;
+    }
+
+    /**
+     * Returns the memoized function.
+     *
+     * @return the memoized function
+     */
+    public @NotNull F function() {
+        return this.function;
+    }
+
+    /**
+     * Returns the current statistics of the cache.
+     *
+     * @return the current statistics of the cache
+     */
+    public @NotNull Stats stats() {
+        return this.cache.stats();
+    }
+
+    /**
+     * Returns the number of the cached entries.
+     *
+     * @return the number of the cached entries
+     */
+    public long size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Removes all cached entries.
+     * <p>
+     * The statistics are not reset.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    @Override
+    public String toString() {
+        return "Memoized{" + "function=" + this.function + ", stats=" + this.stats() + '}';
+    }
+
+    /**
+     * A record that represents the statistics of the cache.
+     *
+     * @param hits      the number of the cache hits
+     * @param misses    the number of the cache misses
+     * @param evictions the number of the evicted or expired entries
+     */
+    public record Stats(long hits, long misses, long evictions) {
+
+        /**
+         * Returns the ratio of the cache hits to all lookups.
+         *
+         * @return the ratio of the cache hits, or {@code 1.0} if there is no lookup
+         */
+        public double hitRate() {
+            long requests = this.hits + this.misses;
+            return requests == 0 ? 1.0 : (double) this.hits / requests;
+        }
+    }
+}
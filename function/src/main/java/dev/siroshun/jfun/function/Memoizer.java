@@ -0,0 +1,428 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * A class to create memoized functions that cache their results in a bounded concurrent cache.
+ * <p>
+ * Each memoized function has its own cache, and the cache is shared by all threads that call the function.
+ * The cache is split into the segments (stripes) that have their own locks,
+ * and the cached entry is found by comparing the arguments directly, so no key object is created on cache hits.
+ * <p>
+ * The function may be called more than once for the same arguments when multiple threads miss the cache at the same time,
+ * and then the result that is stored first is returned to all of them.
+ * The results, including {@code null}, are cached as-is, and the exceptions thrown by the function are not cached.
+ * <p>
+ * The arguments are compared by {@link Object#equals(Object)}, so they should be immutable.
+ * <p>
+ * This class is immutable, and the same {@link Memoizer} can be used to memoize multiple functions.
+ */
+public final class Memoizer {
+
+    /**
+     * Creates a new {@link Builder}.
+     *
+     * @return a new {@link Builder}
+     */
+    @Contract(" -> new")
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    private final long maximumSize;
+    private final @Nullable Duration expireAfterWrite;
+    private final Eviction eviction;
+    private final int stripes;
+    private final LongSupplier ticker;
+
+    private Memoizer(@NotNull Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.expireAfterWrite = builder.expireAfterWrite;
+        this.eviction = builder.eviction;
+        this.stripes = builder.stripes;
+        this.ticker = builder.ticker;
+    }
+
+    /**
+     * Creates a memoized {@link Function3} that caches the results of the specified {@link Function3}.
+     *
+     * @param function the {@link Function3} to memoize
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <R> the type of the function result
+     * @return the {@link Memoized} that holds the memoized {@link Function3}
+     */
+    @SuppressWarnings("unchecked")
+    public <A1, A2, A3, R> @NotNull Memoized<Function3<A1, A2, A3, R>> memoize(@NotNull Function3<? super A1, ? super A2, ? super A3, ? extends R> function) {
+        Objects.requireNonNull(function);
+        MemoCache cache = this.newCache();
+        Function3<A1, A2, A3, R> memoized = (a1, a2, a3) -> {
+            int hash = MemoCache.hash(a1, a2, a3, null, null, null, null, null, null, null);
+            Object value = cache.get(hash, a1, a2, a3, null, null, null, null, null, null, null);
+            return (R) (value != MemoCache.MISS ? value : cache.put(hash, new Object[]{a1, a2, a3}, function.apply(a1, a2, a3)));
+        };
+        return new Memoized<>(memoized, cache);
+    }
+
+    /**
+     * Creates a memoized {@link Function4} that caches the results of the specified {@link Function4}.
+     *
+     * @param function the {@link Function4} to memoize
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <R> the type of the function result
+     * @return the {@link Memoized} that holds the memoized {@link Function4}
+     */
+    @SuppressWarnings("unchecked")
+    public <A1, A2, A3, A4, R> @NotNull Memoized<Function4<A1, A2, A3, A4, R>> memoize(@NotNull Function4<? super A1, ? super A2, ? super A3, ? super A4, ? extends R> function) {
+        Objects.requireNonNull(function);
+        MemoCache cache = this.newCache();
+        Function4<A1, A2, A3, A4, R> memoized = (a1, a2, a3, a4) -> {
+            int hash = MemoCache.hash(a1, a2, a3, a4, null, null, null, null, null, null);
+            Object value = cache.get(hash, a1, a2, a3, a4, null, null, null, null, null, null);
+            return (R) (value != MemoCache.MISS ? value : cache.put(hash, new Object[]{a1, a2, a3, a4}, function.apply(a1, a2, a3, a4)));
+        };
+        return new Memoized<>(memoized, cache);
+    }
+
+    /**
+     * Creates a memoized {@link Function5} that caches the results of the specified {@link Function5}.
+     *
+     * @param function the {@link Function5} to memoize
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <R> the type of the function result
+     * @return the {@link Memoized} that holds the memoized {@link Function5}
+     */
+    @SuppressWarnings("unchecked")
+    public <A1, A2, A3, A4, A5, R> @NotNull Memoized<Function5<A1, A2, A3, A4, A5, R>> memoize(@NotNull Function5<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? extends R> function) {
+        Objects.requireNonNull(function);
+        MemoCache cache = this.newCache();
+        Function5<A1, A2, A3, A4, A5, R> memoized = (a1, a2, a3, a4, a5) -> {
+            int hash = MemoCache.hash(a1, a2, a3, a4, a5, null, null, null, null, null);
+            Object value = cache.get(hash, a1, a2, a3, a4, a5, null, null, null, null, null);
+            return (R) (value != MemoCache.MISS ? value : cache.put(hash, new Object[]{a1, a2, a3, a4, a5}, function.apply(a1, a2, a3, a4, a5)));
+        };
+        return new Memoized<>(memoized, cache);
+    }
+
+    /**
+     * Creates a memoized {@link Function6} that caches the results of the specified {@link Function6}.
+     *
+     * @param function the {@link Function6} to memoize
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <R> the type of the function result
+     * @return the {@link Memoized} that holds the memoized {@link Function6}
+     */
+    @SuppressWarnings("unchecked")
+    public <A1, A2, A3, A4, A5, A6, R> @NotNull Memoized<Function6<A1, A2, A3, A4, A5, A6, R>> memoize(@NotNull Function6<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? extends R> function) {
+        Objects.requireNonNull(function);
+        MemoCache cache = this.newCache();
+        Function6<A1, A2, A3, A4, A5, A6, R> memoized = (a1, a2, a3, a4, a5, a6) -> {
+            int hash = MemoCache.hash(a1, a2, a3, a4, a5, a6, null, null, null, null);
+            Object value = cache.get(hash, a1, a2, a3, a4, a5, a6, null, null, null, null);
+            return (R) (value != MemoCache.MISS ? value : cache.put(hash, new Object[]{a1, a2, a3, a4, a5, a6}, function.apply(a1, a2, a3, a4, a5, a6)));
+        };
+        return new Memoized<>(memoized, cache);
+    }
+
+    /**
+     * Creates a memoized {@link Function7} that caches the results of the specified {@link Function7}.
+     *
+     * @param function the {@link Function7} to memoize
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <R> the type of the function result
+     * @return the {@link Memoized} that holds the memoized {@link Function7}
+     */
+    @SuppressWarnings("unchecked")
+    public <A1, A2, A3, A4, A5, A6, A7, R> @NotNull Memoized<Function7<A1, A2, A3, A4, A5, A6, A7, R>> memoize(@NotNull Function7<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? extends R> function) {
+        Objects.requireNonNull(function);
+        MemoCache cache = this.newCache();
+        Function7<A1, A2, A3, A4, A5, A6, A7, R> memoized = (a1, a2, a3, a4, a5, a6, a7) -> {
+            int hash = MemoCache.hash(a1, a2, a3, a4, a5, a6, a7, null, null, null);
+            Object value = cache.get(hash, a1, a2, a3, a4, a5, a6, a7, null, null, null);
+            return (R) (value != MemoCache.MISS ? value : cache.put(hash, new Object[]{a1, a2, a3, a4, a5, a6, a7}, function.apply(a1, a2, a3, a4, a5, a6, a7)));
+        };
+        return new Memoized<>(memoized, cache);
+    }
+
+    /**
+     * Creates a memoized {@link Function8} that caches the results of the specified {@link Function8}.
+     *
+     * @param function the {@link Function8} to memoize
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <R> the type of the function result
+     * @return the {@link Memoized} that holds the memoized {@link Function8}
+     */
+    @SuppressWarnings("unchecked")
+    public <A1, A2, A3, A4, A5, A6, A7, A8, R> @NotNull Memoized<Function8<A1, A2, A3, A4, A5, A6, A7, A8, R>> memoize(@NotNull Function8<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? extends R> function) {
+        Objects.requireNonNull(function);
+        MemoCache cache = this.newCache();
+        Function8<A1, A2, A3, A4, A5, A6, A7, A8, R> memoized = (a1, a2, a3, a4, a5, a6, a7, a8) -> {
+            int hash = MemoCache.hash(a1, a2, a3, a4, a5, a6, a7, a8, null, null);
+            Object value = cache.get(hash, a1, a2, a3, a4, a5, a6, a7, a8, null, null);
+            return (R) (value != MemoCache.MISS ? value : cache.put(hash, new Object[]{a1, a2, a3, a4, a5, a6, a7, a8}, function.apply(a1, a2, a3, a4, a5, a6, a7, a8)));
+        };
+        return new Memoized<>(memoized, cache);
+    }
+
+    /**
+     * Creates a memoized {@link Function9} that caches the results of the specified {@link Function9}.
+     *
+     * @param function the {@link Function9} to memoize
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <R> the type of the function result
+     * @return the {@link Memoized} that holds the memoized {@link Function9}
+     */
+    @SuppressWarnings("unchecked")
+    public <A1, A2, A3, A4, A5, A6, A7, A8, A9, R> @NotNull Memoized<Function9<A1, A2, A3, A4, A5, A6, A7, A8, A9, R>> memoize(@NotNull Function9<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? extends R> function) {
+        Objects.requireNonNull(function);
+        MemoCache cache = this.newCache();
+        Function9<A1, A2, A3, A4, A5, A6, A7, A8, A9, R> memoized = (a1, a2, a3, a4, a5, a6, a7, a8, a9) -> {
+            int hash = MemoCache.hash(a1, a2, a3, a4, a5, a6, a7, a8, a9, null);
+            Object value = cache.get(hash, a1, a2, a3, a4, a5, a6, a7, a8, a9, null);
+            return (R) (value != MemoCache.MISS ? value : cache.put(hash, new Object[]{a1, a2, a3, a4, a5, a6, a7, a8, a9}, function.apply(a1, a2, a3, a4, a5, a6, a7, a8, a9)));
+        };
+        return new Memoized<>(memoized, cache);
+    }
+
+    /**
+     * Creates a memoized {@link Function10} that caches the results of the specified {@link Function10}.
+     *
+     * @param function the {@link Function10} to memoize
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <A10> the type of the 10th argument
+     * @param <R> the type of the function result
+     * @return the {@link Memoized} that holds the memoized {@link Function10}
+     */
+    @SuppressWarnings("unchecked")
+    public <A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, R> @NotNull Memoized<Function10<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, R>> memoize(@NotNull Function10<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? super A10, ? extends R> function) {
+        Objects.requireNonNull(function);
+        MemoCache cache = this.newCache();
+        Function10<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, R> memoized = (a1, a2, a3, a4, a5, a6, a7, a8, a9, a10) -> {
+            int hash = MemoCache.hash(a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+            Object value = cache.get(hash, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+            return (R) (value != MemoCache.MISS ? value : cache.put(hash, new Object[]{a1, a2, a3, a4, a5, a6, a7, a8, a9, a10}, function.apply(a1, a2, a3, a4, a5, a6, a7, a8, a9, a10)));
+        };
+        return new Memoized<>(memoized, cache);
+    }
+
+    private @NotNull MemoCache newCache() {
+        return new MemoCache(
+            this.maximumSize,
+            this.stripes,
+            this.eviction,
+            this.expireAfterWrite != null ? this.expireAfterWrite.toNanos() : -1,
+            this.ticker
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "Memoizer{" +
+            "maximumSize=" + this.maximumSize +
+            ", expireAfterWrite=" + this.expireAfterWrite +
+            ", eviction=" + this.eviction +
+            ", stripes=" + this.stripes +
+            '}';
+    }
+
+    /**
+     * The policies to choose the entry to evict when the cache is full.
+     */
+    public enum Eviction {
+
+        /**
+         * Evicts the least recently used entry.
+         */
+        LRU,
+
+        /**
+         * Evicts the oldest stored entry regardless of the accesses.
+         * <p>
+         * Unlike {@link #LRU}, the cache hits do not update the order of the entries.
+         */
+        FIFO,
+
+        /**
+         * Evicts the least recently used entry only if the new entry is accessed more frequently than it.
+         * <p>
+         * The access frequencies are estimated by a small count-min sketch in the style of TinyLFU,
+         * so the frequently used entries are not evicted by a burst of the entries that are used only once.
+         */
+        TINY_LFU
+    }
+
+    /**
+     * A builder of {@link Memoizer}.
+     */
+    public static final class Builder {
+
+        private long maximumSize = 1024;
+        private @Nullable Duration expireAfterWrite;
+        private Eviction eviction = Eviction.LRU;
+        private int stripes = 16;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of the cached entries for each memoized function.
+         * <p>
+         * The default value is {@code 1024}.
+         * The size is split among the stripes, so the cache never holds more entries than this size,
+         * but a stripe may evict its entry before the whole cache reaches this size.
+         * The number of the stripes is limited to this size.
+         *
+         * @param maximumSize the maximum number of the cached entries
+         * @return this {@link Builder}
+         * @throws IllegalArgumentException if {@code maximumSize} is not positive
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder maximumSize(long maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be positive.");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the duration that the cached entry expires after it is stored.
+         * <p>
+         * By default, the cached entries do not expire.
+         *
+         * @param duration the duration, or {@code null} to disable the expiration
+         * @return this {@link Builder}
+         * @throws IllegalArgumentException if {@code duration} is negative
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder expireAfterWrite(@Nullable Duration duration) {
+            if (duration != null && duration.isNegative()) {
+                throw new IllegalArgumentException("duration must not be negative.");
+            }
+            this.expireAfterWrite = duration;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Eviction} policy.
+         * <p>
+         * The default policy is {@link Eviction#LRU}.
+         *
+         * @param eviction the {@link Eviction} policy
+         * @return this {@link Builder}
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder eviction(@NotNull Eviction eviction) {
+            this.eviction = Objects.requireNonNull(eviction);
+            return this;
+        }
+
+        /**
+         * Sets the number of the stripes that have their own locks.
+         * <p>
+         * The number is rounded down to the power of two, and the default value is {@code 16}.
+         *
+         * @param stripes the number of the stripes
+         * @return this {@link Builder}
+         * @throws IllegalArgumentException if {@code stripes} is not positive
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder stripes(int stripes) {
+            if (stripes < 1) {
+                throw new IllegalArgumentException("stripes must be positive.");
+            }
+            this.stripes = stripes;
+            return this;
+        }
+
+        /**
+         * Sets the {@link LongSupplier} that provides the current time in nanoseconds for the expiration.
+         * <p>
+         * The default ticker is {@link System#nanoTime()}.
+         *
+         * @param ticker the {@link LongSupplier} that provides the current time in nanoseconds
+         * @return this {@link Builder}
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder ticker(@NotNull LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        /**
+         * Creates a new {@link Memoizer} from this {@link Builder}.
+         *
+         * @return a new {@link Memoizer}
+         */
+        @Contract(" -> new")
+        public @NotNull Memoizer build() {
+            return new Memoizer(this);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * A class to coalesce the concurrent calls with the equal keys into one call.
+ * <p>
+ * When {@link #execute(Object, Supplier)} is called while another call with the equal key is in flight,
+ * it does not call the {@link Supplier}, and waits for the in-flight call to return the same result.
+ * The result is not cached, so the next call after the in-flight call is completed calls the {@link Supplier} again.
+ * <p>
+ * The in-flight calls are tracked by {@link ConcurrentHashMap}, and no lock is held while calling the {@link Supplier}.
+ * The waiting threads are parked without pinning the carrier thread, so this class can be used from virtual threads.
+ * <p>
+ * The result can be any object including {@code Result} of the result module, so the failure is also shared with all waiting threads.
+ * The exception thrown by the {@link Supplier} is rethrown in the calling thread,
+ * and each waiting thread throws a new {@link CompletionException} with it as the cause, so the stack traces of the threads are not mixed up.
+ * The waiting threads can be interrupted, in which case they stop waiting and the in-flight call continues.
+ * Note that calling {@link #execute(Object, Supplier)} with the same key from the {@link Supplier} causes a deadlock.
+ *
+ * @param <K> the type of the key
+ * @param <R> the type of the result
+ */
+public final class SingleFlight<K, R> {
+
+    /**
+     * Creates a {@link Supplier} that coalesces the concurrent calls into one call of the specified {@link Supplier}.
+     *
+     * @param supplier the {@link Supplier} to wrap
+     * @param <R> the type of the result
+     * @return the {@link Supplier} that coalesces the concurrent calls
+     */
+    public static <R> @NotNull Supplier<R> wrap(@NotNull Supplier<? extends R> supplier) {
+        Objects.requireNonNull(supplier);
+        SingleFlight<Boolean, R> flight = new SingleFlight<>();
+        return () -> flight.execute(Boolean.TRUE, supplier);
+    }
+
+    /**
+     * Creates a {@link Function3} that coalesces the concurrent calls with the equal arguments into one call of the specified {@link Function3}.
+     *
+     * @param function the {@link Function3} to wrap
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <R> the type of the function result
+     * @return the {@link Function3} that coalesces the concurrent calls
+     */
+    public static <A1, A2, A3, R> @NotNull Function3<A1, A2, A3, R> wrap(@NotNull Function3<? super A1, ? super A2, ? super A3, ? extends R> function) {
+        Objects.requireNonNull(function);
+        SingleFlight<Tuple3<A1, A2, A3>, R> flight = new SingleFlight<>();
+        return (a1, a2, a3) -> flight.execute(new Tuple3<>(a1, a2, a3), () -> function.apply(a1, a2, a3));
+    }
+
+    /**
+     * Creates a {@link Function4} that coalesces the concurrent calls with the equal arguments into one call of the specified {@link Function4}.
+     *
+     * @param function the {@link Function4} to wrap
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <R> the type of the function result
+     * @return the {@link Function4} that coalesces the concurrent calls
+     */
+    public static <A1, A2, A3, A4, R> @NotNull Function4<A1, A2, A3, A4, R> wrap(@NotNull Function4<? super A1, ? super A2, ? super A3, ? super A4, ? extends R> function) {
+        Objects.requireNonNull(function);
+        SingleFlight<Tuple4<A1, A2, A3, A4>, R> flight = new SingleFlight<>();
+        return (a1, a2, a3, a4) -> flight.execute(new Tuple4<>(a1, a2, a3, a4), () -> function.apply(a1, a2, a3, a4));
+    }
+
+    /**
+     * Creates a {@link Function5} that coalesces the concurrent calls with the equal arguments into one call of the specified {@link Function5}.
+     *
+     * @param function the {@link Function5} to wrap
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <R> the type of the function result
+     * @return the {@link Function5} that coalesces the concurrent calls
+     */
+    public static <A1, A2, A3, A4, A5, R> @NotNull Function5<A1, A2, A3, A4, A5, R> wrap(@NotNull Function5<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? extends R> function) {
+        Objects.requireNonNull(function);
+        SingleFlight<Tuple5<A1, A2, A3, A4, A5>, R> flight = new SingleFlight<>();
+        return (a1, a2, a3, a4, a5) -> flight.execute(new Tuple5<>(a1, a2, a3, a4, a5), () -> function.apply(a1, a2, a3, a4, a5));
+    }
+
+    /**
+     * Creates a {@link Function6} that coalesces the concurrent calls with the equal arguments into one call of the specified {@link Function6}.
+     *
+     * @param function the {@link Function6} to wrap
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <R> the type of the function result
+     * @return the {@link Function6} that coalesces the concurrent calls
+     */
+    public static <A1, A2, A3, A4, A5, A6, R> @NotNull Function6<A1, A2, A3, A4, A5, A6, R> wrap(@NotNull Function6<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? extends R> function) {
+        Objects.requireNonNull(function);
+        SingleFlight<Tuple6<A1, A2, A3, A4, A5, A6>, R> flight = new SingleFlight<>();
+        return (a1, a2, a3, a4, a5, a6) -> flight.execute(new Tuple6<>(a1, a2, a3, a4, a5, a6), () -> function.apply(a1, a2, a3, a4, a5, a6));
+    }
+
+    /**
+     * Creates a {@link Function7} that coalesces the concurrent calls with the equal arguments into one call of the specified {@link Function7}.
+     *
+     * @param function the {@link Function7} to wrap
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <R> the type of the function result
+     * @return the {@link Function7} that coalesces the concurrent calls
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, R> @NotNull Function7<A1, A2, A3, A4, A5, A6, A7, R> wrap(@NotNull Function7<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? extends R> function) {
+        Objects.requireNonNull(function);
+        SingleFlight<Tuple7<A1, A2, A3, A4, A5, A6, A7>, R> flight = new SingleFlight<>();
+        return (a1, a2, a3, a4, a5, a6, a7) -> flight.execute(new Tuple7<>(a1, a2, a3, a4, a5, a6, a7), () -> function.apply(a1, a2, a3, a4, a5, a6, a7));
+    }
+
+    /**
+     * Creates a {@link Function8} that coalesces the concurrent calls with the equal arguments into one call of the specified {@link Function8}.
+     *
+     * @param function the {@link Function8} to wrap
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <R> the type of the function result
+     * @return the {@link Function8} that coalesces the concurrent calls
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, R> @NotNull Function8<A1, A2, A3, A4, A5, A6, A7, A8, R> wrap(@NotNull Function8<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? extends R> function) {
+        Objects.requireNonNull(function);
+        SingleFlight<Tuple8<A1, A2, A3, A4, A5, A6, A7, A8>, R> flight = new SingleFlight<>();
+        return (a1, a2, a3, a4, a5, a6, a7, a8) -> flight.execute(new Tuple8<>(a1, a2, a3, a4, a5, a6, a7, a8), () -> function.apply(a1, a2, a3, a4, a5, a6, a7, a8));
+    }
+
+    /**
+     * Creates a {@link Function9} that coalesces the concurrent calls with the equal arguments into one call of the specified {@link Function9}.
+     *
+     * @param function the {@link Function9} to wrap
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <R> the type of the function result
+     * @return the {@link Function9} that coalesces the concurrent calls
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, R> @NotNull Function9<A1, A2, A3, A4, A5, A6, A7, A8, A9, R> wrap(@NotNull Function9<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? extends R> function) {
+        Objects.requireNonNull(function);
+        SingleFlight<Tuple9<A1, A2, A3, A4, A5, A6, A7, A8, A9>, R> flight = new SingleFlight<>();
+        return (a1, a2, a3, a4, a5, a6, a7, a8, a9) -> flight.execute(new Tuple9<>(a1, a2, a3, a4, a5, a6, a7, a8, a9), () -> function.apply(a1, a2, a3, a4, a5, a6, a7, a8, a9));
+    }
+
+    /**
+     * Creates a {@link Function10} that coalesces the concurrent calls with the equal arguments into one call of the specified {@link Function10}.
+     *
+     * @param function the {@link Function10} to wrap
+     * @param <A1> the type of the 1st argument
+     * @param <A2> the type of the 2nd argument
+     * @param <A3> the type of the 3rd argument
+     * @param <A4> the type of the 4th argument
+     * @param <A5> the type of the 5th argument
+     * @param <A6> the type of the 6th argument
+     * @param <A7> the type of the 7th argument
+     * @param <A8> the type of the 8th argument
+     * @param <A9> the type of the 9th argument
+     * @param <A10> the type of the 10th argument
+     * @param <R> the type of the function result
+     * @return the {@link Function10} that coalesces the concurrent calls
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, R> @NotNull Function10<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, R> wrap(@NotNull Function10<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? super A10, ? extends R> function) {
+        Objects.requireNonNull(function);
+        SingleFlight<Tuple10<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10>, R> flight = new SingleFlight<>();
+        return (a1, a2, a3, a4, a5, a6, a7, a8, a9, a10) -> flight.execute(new Tuple10<>(a1, a2, a3, a4, a5, a6, a7, a8, a9, a10), () -> function.apply(a1, a2, a3, a4, a5, a6, a7, a8, a9, a10));
+    }
+
+    private final ConcurrentHashMap<K, CompletableFuture<R>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link SingleFlight}.
+     */
+    public SingleFlight() {
+    }
+
+    /**
+     * Calls the specified {@link Supplier}, or waits for the in-flight call with the equal key.
+     *
+     * @param key the key to identify the call
+     * @param supplier the {@link Supplier} to call if there is no in-flight call with the equal key
+     * @return the result of the {@link Supplier} or the in-flight call
+     * @throws CompletionException if the in-flight call threw an exception, or the current thread is interrupted while waiting,
+     *                             in which case the interrupted status is set again and the cause is {@link InterruptedException}
+     */
+    public R execute(@NotNull K key, @NotNull Supplier<? extends R> supplier) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        CompletableFuture<R> existing = this.inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            R result = supplier.get();
+            this.inFlight.remove(key, future);
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            this.inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of the in-flight calls.
+     *
+     * @return the number of the in-flight calls
+     */
+    public int inFlightCount() {
+        return this.inFlight.size();
+    }
+
+    private static <R> R await(@NotNull CompletableFuture<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SingleFlight{" + "inFlightCount=" + this.inFlightCount() + '}';
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+/**
+ * An interface to create a specified type from an argument, that may throw an exception.
+ * <p>
+ * This is the variant of {@link java.util.function.Function} that allows throwing checked exceptions.
+ *
+ * @param <T> the type of the argument
+ * @param <R> the type of the function result
+ */
+@FunctionalInterface
+public interface ThrowingFunction<T, R> {
+
+    /**
+     * Applies this function to given argument.
+     *
+     * @param t the argument
+     * @return the function result
+     * @throws Exception if the function fails
+     */
+    R apply(T t) throws Exception;
+
+}
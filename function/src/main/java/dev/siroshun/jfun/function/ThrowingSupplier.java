@@ -0,0 +1,38 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+/**
+ * An interface to supply a value, that may throw an exception.
+ * <p>
+ * This is the variant of {@link java.util.function.Supplier} that allows throwing checked exceptions.
+ *
+ * @param <R> the type of the supplied value
+ */
+@FunctionalInterface
+public interface ThrowingSupplier<R> {
+
+    /**
+     * Gets a value.
+     *
+     * @return the supplied value
+     * @throws Exception if the supplier fails
+     */
+    R get() throws Exception;
+
+}
@@ -0,0 +1,81 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A record that holds 10 elements.
+ * <p>
+ * The elements are held directly in the fields without nested objects,
+ * and {@link #hashCode()} mixes the hash codes of the elements, so the similar tuples are well distributed in hash tables.
+ * <p>
+ * Like other records, the hash code is not cached and is computed from the elements on each call.
+ * This keeps the hash code consistent with mutable elements, and the tuples used as the lookup keys
+ * (e.g. by {@link SingleFlight}) are usually created for each call, so a cached hash code would rarely be reused.
+ *
+ * @param a1 the 1st element
+ * @param a2 the 2nd element
+ * @param a3 the 3rd element
+ * @param a4 the 4th element
+ * @param a5 the 5th element
+ * @param a6 the 6th element
+ * @param a7 the 7th element
+ * @param a8 the 8th element
+ * @param a9 the 9th element
+ * @param a10 the 10th element
+ * @param <A1> the type of the 1st element
+ * @param <A2> the type of the 2nd element
+ * @param <A3> the type of the 3rd element
+ * @param <A4> the type of the 4th element
+ * @param <A5> the type of the 5th element
+ * @param <A6> the type of the 6th element
+ * @param <A7> the type of the 7th element
+ * @param <A8> the type of the 8th element
+ * @param <A9> the type of the 9th element
+ * @param <A10> the type of the 10th element
+ */
+public record Tuple10<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10>(A1 a1, A2 a2, A3 a3, A4 a4, A5 a5, A6 a6, A7 a7, A8 a8, A9 a9, A10 a10) {
+
+    /**
+     * Applies the specified {@link Function10} to the elements of this tuple.
+     *
+     * @param function the {@link Function10} to apply
+     * @param <R> the type of the function result
+     * @return the function result
+     */
+    public <R> R apply(@NotNull Function10<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? super A10, ? extends R> function) {
+        return function.apply(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8, this.a9, this.a10);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 10;
+        h = TupleHash.mix(h, this.a1);
+        h = TupleHash.mix(h, this.a2);
+        h = TupleHash.mix(h, this.a3);
+        h = TupleHash.mix(h, this.a4);
+        h = TupleHash.mix(h, this.a5);
+        h = TupleHash.mix(h, this.a6);
+        h = TupleHash.mix(h, this.a7);
+        h = TupleHash.mix(h, this.a8);
+        h = TupleHash.mix(h, this.a9);
+        h = TupleHash.mix(h, this.a10);
+        return TupleHash.finish(h);
+    }
+}
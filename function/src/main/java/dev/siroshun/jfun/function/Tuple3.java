@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A record that holds 3 elements.
+ * <p>
+ * The elements are held directly in the fields without nested objects,
+ * and {@link #hashCode()} mixes the hash codes of the elements, so the similar tuples are well distributed in hash tables.
+ * <p>
+ * Like other records, the hash code is not cached and is computed from the elements on each call.
+ * This keeps the hash code consistent with mutable elements, and the tuples used as the lookup keys
+ * (e.g. by {@link SingleFlight}) are usually created for each call, so a cached hash code would rarely be reused.
+ *
+ * @param a1 the 1st element
+ * @param a2 the 2nd element
+ * @param a3 the 3rd element
+ * @param <A1> the type of the 1st element
+ * @param <A2> the type of the 2nd element
+ * @param <A3> the type of the 3rd element
+ */
+public record Tuple3<A1, A2, A3>(A1 a1, A2 a2, A3 a3) {
+
+    /**
+     * Applies the specified {@link Function3} to the elements of this tuple.
+     *
+     * @param function the {@link Function3} to apply
+     * @param <R> the type of the function result
+     * @return the function result
+     */
+    public <R> R apply(@NotNull Function3<? super A1, ? super A2, ? super A3, ? extends R> function) {
+        return function.apply(this.a1, this.a2, this.a3);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 3;
+        h = TupleHash.mix(h, this.a1);
+        h = TupleHash.mix(h, this.a2);
+        h = TupleHash.mix(h, this.a3);
+        return TupleHash.finish(h);
+    }
+}
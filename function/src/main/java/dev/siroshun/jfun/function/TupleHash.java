@@ -0,0 +1,50 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import java.util.Objects;
+
+/**
+ * A helper class to compute the hash codes of the tuples.
+ * <p>
+ * The hash codes of the elements are mixed by multiplication and rotation,
+ * and the result is finished by the avalanche function of MurmurHash3, so the similar tuples have well-distributed hash codes.
+ */
+final class TupleHash {
+
+    private static final int C1 = 0xCC9E2D51;
+    private static final int C2 = 0x1B873593;
+
+    static int mix(int h, Object element) {
+        int k = Objects.hashCode(element) * C1;
+        k = Integer.rotateLeft(k, 15) * C2;
+        return Integer.rotateLeft(h ^ k, 13) * 5 + 0xE6546B64;
+    }
+
+    static int finish(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    private TupleHash() {
+        throw new UnsupportedOperationException();
+    }
+}
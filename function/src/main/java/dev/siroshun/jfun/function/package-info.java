@@ -16,6 +16,6 @@
  */
 
 /**
- * A package of function interfaces that have 3-10 arguments.
+ * A package of function interfaces that have 3-10 arguments and utilities for them.
  */
 package dev.siroshun.jfun.function;
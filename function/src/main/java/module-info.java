@@ -16,8 +16,10 @@
  */
 
 /**
- * The module provides function interfaces that have 3-10 arguments.
+ * The module provides function interfaces that have 3-10 arguments and utilities for them.
  */
 module dev.siroshun.jfun.function {
+    requires org.jetbrains.annotations;
+
     exports dev.siroshun.jfun.function;
 }
@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+class BatchTest {
+
+    private static final int SIZE = 100_000;
+
+    @Test
+    void testApply() {
+        Integer[] c1 = {1, 2, 3};
+        String[] c2 = {"a", "b", "c"};
+        Integer[] c3 = {10, 20, 30};
+        String[] out = new String[3];
+
+        Batch.apply((Integer a1, String a2, Integer a3) -> a1 + a2 + a3, c1, c2, c3, out);
+        Assertions.assertArrayEquals(new String[]{"1a10", "2b20", "3c30"}, out);
+    }
+
+    @Test
+    void testApplyList() {
+        Integer[] out = new Integer[2];
+        Batch.apply((Integer a1, Integer a2, Integer a3, Integer a4) -> a1 + a2 + a3 + a4, List.of(1, 2), List.of(3, 4), List.of(5, 6), List.of(7, 8), out);
+        Assertions.assertArrayEquals(new Integer[]{16, 20}, out);
+    }
+
+    @Test
+    void testApplyParallel() {
+        Integer[] c1 = IntStream.range(0, SIZE).boxed().toArray(Integer[]::new);
+        Integer[] c2 = IntStream.range(0, SIZE).map(i -> i * 2).boxed().toArray(Integer[]::new);
+        Integer[] c3 = IntStream.range(0, SIZE).map(i -> i * 3).boxed().toArray(Integer[]::new);
+        Integer[] out = new Integer[SIZE];
+        Integer[] expected = IntStream.range(0, SIZE).map(i -> i * 6).boxed().toArray(Integer[]::new);
+
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            Batch.applyParallel(pool, (Integer a1, Integer a2, Integer a3) -> a1 + a2 + a3, c1, c2, c3, out);
+        }
+        Assertions.assertArrayEquals(expected, out);
+
+        Arrays.fill(out, null);
+        Batch.applyParallel((Integer a1, Integer a2, Integer a3) -> a1 + a2 + a3, Arrays.asList(c1), Arrays.asList(c2), Arrays.asList(c3), out);
+        Assertions.assertArrayEquals(expected, out);
+    }
+
+    @Test
+    void testException() {
+        Integer[] column = IntStream.range(0, SIZE).boxed().toArray(Integer[]::new);
+        Integer[] out = new Integer[SIZE];
+        Assertions.assertThrows(IllegalStateException.class, () -> Batch.applyParallel((Integer a1, Integer a2, Integer a3) -> {
+            if (a1 == SIZE / 2) {
+                throw new IllegalStateException();
+            }
+            return a1;
+        }, column, column, column, out));
+    }
+
+    @Test
+    void testLengthMismatch() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Batch.apply((Integer a1, Integer a2, Integer a3) -> a1, new Integer[1], new Integer[2], new Integer[1], new Integer[1]));
+    }
+}
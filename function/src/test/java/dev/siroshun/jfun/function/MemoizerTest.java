@@ -0,0 +1,194 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class MemoizerTest {
+
+    @Test
+    void testCacheHit() {
+        AtomicInteger calls = new AtomicInteger();
+        Memoized<Function3<Integer, Integer, Integer, Integer>> memoized = Memoizer.builder().build().memoize((Integer a1, Integer a2, Integer a3) -> {
+            calls.incrementAndGet();
+            return a1 + a2 + a3;
+        });
+
+        Function3<Integer, Integer, Integer, Integer> function = memoized.function();
+        Assertions.assertEquals(6, function.apply(1, 2, 3));
+        Assertions.assertEquals(6, function.apply(1, 2, 3));
+        Assertions.assertEquals(7, function.apply(1, 2, 4));
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(new Memoized.Stats(1, 2, 0), memoized.stats());
+        Assertions.assertEquals(2, memoized.size());
+
+        memoized.invalidateAll();
+        Assertions.assertEquals(0, memoized.size());
+        Assertions.assertEquals(6, function.apply(1, 2, 3));
+        Assertions.assertEquals(3, calls.get());
+    }
+
+    @Test
+    void testNullArgumentsAndResult() {
+        AtomicInteger calls = new AtomicInteger();
+        Function4<String, String, String, String, String> function = Memoizer.builder().build().<String, String, String, String, String>memoize((a1, a2, a3, a4) -> {
+            calls.incrementAndGet();
+            return null;
+        }).function();
+
+        Assertions.assertNull(function.apply(null, "a", null, "b"));
+        Assertions.assertNull(function.apply(null, "a", null, "b"));
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testTenArguments() {
+        AtomicInteger calls = new AtomicInteger();
+        Function10<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function =
+            Memoizer.builder().build().<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>memoize(
+                (a1, a2, a3, a4, a5, a6, a7, a8, a9, a10) -> {
+                    calls.incrementAndGet();
+                    return a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + a9 + a10;
+                }
+            ).function();
+
+        Assertions.assertEquals(55, function.apply(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        Assertions.assertEquals(55, function.apply(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        Assertions.assertEquals(56, function.apply(1, 2, 3, 4, 5, 6, 7, 8, 9, 11));
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testLruEviction() {
+        Memoized<Function3<Integer, Integer, Integer, Integer>> memoized =
+            Memoizer.builder().maximumSize(2).stripes(1).build().memoize((Integer a1, Integer a2, Integer a3) -> a1);
+        Function3<Integer, Integer, Integer, Integer> function = memoized.function();
+
+        function.apply(1, 0, 0);
+        function.apply(2, 0, 0);
+        function.apply(1, 0, 0); // 1 becomes the most recently used
+        function.apply(3, 0, 0); // evicts 2
+        function.apply(1, 0, 0);
+
+        Assertions.assertEquals(new Memoized.Stats(2, 3, 1), memoized.stats());
+        Assertions.assertEquals(2, memoized.size());
+    }
+
+    @Test
+    void testMaximumSizeIsNotExceeded() {
+        for (long maximumSize : new long[]{1, 5, 20, 1000}) {
+            Memoized<Function3<Integer, Integer, Integer, Integer>> memoized =
+                Memoizer.builder().maximumSize(maximumSize).stripes(16).build().memoize((Integer a1, Integer a2, Integer a3) -> a1);
+            Function3<Integer, Integer, Integer, Integer> function = memoized.function();
+
+            for (int i = 0; i < 10_000; i++) {
+                function.apply(i, 0, 0);
+            }
+
+            Assertions.assertTrue(memoized.size() <= maximumSize, "maximumSize: " + maximumSize + ", size: " + memoized.size());
+        }
+    }
+
+    @Test
+    void testHugeMaximumSize() {
+        for (Memoizer.Eviction eviction : Memoizer.Eviction.values()) {
+            Memoized<Function3<Integer, Integer, Integer, Integer>> memoized =
+                Memoizer.builder().maximumSize(Long.MAX_VALUE).eviction(eviction).build().memoize((Integer a1, Integer a2, Integer a3) -> a1);
+            Function3<Integer, Integer, Integer, Integer> function = memoized.function();
+
+            for (int i = 0; i < 10_000; i++) {
+                function.apply(i, 0, 0);
+            }
+
+            for (int i = 0; i < 10_000; i++) {
+                function.apply(i, 0, 0);
+            }
+
+            Assertions.assertEquals(10_000, memoized.size());
+            Assertions.assertEquals(new Memoized.Stats(10_000, 10_000, 0), memoized.stats());
+        }
+    }
+
+    @Test
+    void testFifoEviction() {
+        Memoized<Function3<Integer, Integer, Integer, Integer>> memoized =
+            Memoizer.builder().maximumSize(2).stripes(1).eviction(Memoizer.Eviction.FIFO).build().memoize((Integer a1, Integer a2, Integer a3) -> a1);
+        Function3<Integer, Integer, Integer, Integer> function = memoized.function();
+
+        function.apply(1, 0, 0);
+        function.apply(2, 0, 0);
+        function.apply(1, 0, 0);
+        function.apply(3, 0, 0); // evicts 1
+        function.apply(1, 0, 0);
+
+        Assertions.assertEquals(new Memoized.Stats(1, 4, 2), memoized.stats());
+    }
+
+    @Test
+    void testTinyLfuKeepsFrequentEntries() {
+        Memoized<Function3<Integer, Integer, Integer, Integer>> memoized =
+            Memoizer.builder().maximumSize(2).stripes(1).eviction(Memoizer.Eviction.TINY_LFU).build().memoize((Integer a1, Integer a2, Integer a3) -> a1);
+        Function3<Integer, Integer, Integer, Integer> function = memoized.function();
+
+        for (int i = 0; i < 5; i++) {
+            function.apply(1, 0, 0);
+            function.apply(2, 0, 0);
+        }
+
+        for (int i = 100; i < 110; i++) {
+            function.apply(i, 0, 0); // used only once, so not admitted
+        }
+
+        long hits = memoized.stats().hits();
+        function.apply(1, 0, 0);
+        function.apply(2, 0, 0);
+        Assertions.assertEquals(hits + 2, memoized.stats().hits());
+    }
+
+    @Test
+    void testExpireAfterWrite() {
+        AtomicLong time = new AtomicLong();
+        AtomicInteger calls = new AtomicInteger();
+        Function3<Integer, Integer, Integer, Integer> function =
+            Memoizer.builder().expireAfterWrite(Duration.ofNanos(10)).ticker(time::get).build().memoize((Integer a1, Integer a2, Integer a3) -> {
+                calls.incrementAndGet();
+                return a1;
+            }).function();
+
+        function.apply(1, 2, 3);
+        time.set(9);
+        function.apply(1, 2, 3);
+        Assertions.assertEquals(1, calls.get());
+
+        time.set(10);
+        function.apply(1, 2, 3);
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Memoizer.builder().maximumSize(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Memoizer.builder().stripes(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Memoizer.builder().expireAfterWrite(Duration.ofSeconds(-1)));
+    }
+}
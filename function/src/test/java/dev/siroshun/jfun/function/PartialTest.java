@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+class PartialTest {
+
+    @Test
+    void testPartial() {
+        Function5<String, String, String, String, String, String> function = (a1, a2, a3, a4, a5) -> a1 + a2 + a3 + a4 + a5;
+
+        Function4<String, String, String, String, String> bound1 = function.partial("a");
+        Function3<String, String, String, String> bound2 = function.partial("a", "b");
+        BiFunction<String, String, String> bound3 = function.partial("a", "b", "c");
+        Function<String, String> bound4 = function.partial("a", "b", "c", "d");
+
+        Assertions.assertEquals("abcde", bound1.apply("b", "c", "d", "e"));
+        Assertions.assertEquals("abcde", bound2.apply("c", "d", "e"));
+        Assertions.assertEquals("abcde", bound3.apply("d", "e"));
+        Assertions.assertEquals("abcde", bound4.apply("e"));
+    }
+
+    @Test
+    void testPartialTenArguments() {
+        Function10<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function =
+            (a1, a2, a3, a4, a5, a6, a7, a8, a9, a10) -> a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + a9 + a10;
+        Assertions.assertEquals(55, function.partial(1, 2, 3, 4, 5, 6, 7, 8, 9).apply(10));
+        Assertions.assertEquals(55, function.partial(1).apply(2, 3, 4, 5, 6, 7, 8, 9, 10));
+    }
+
+    @Test
+    void testCurried() {
+        Function3<Integer, Integer, Integer, Integer> function = (a1, a2, a3) -> a1 * 100 + a2 * 10 + a3;
+        Assertions.assertEquals(123, function.curried().apply(1).apply(2).apply(3));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveFunctionTest {
+
+    @Test
+    void testToPrimitiveBoxed() {
+        ToIntFunction3<String, String, String> toInt = (a1, a2, a3) -> a1.length() + a2.length() + a3.length();
+        Assertions.assertEquals(6, toInt.applyAsInt("a", "bb", "ccc"));
+        Assertions.assertEquals(6, toInt.boxed().apply("a", "bb", "ccc"));
+
+        ToDoubleFunction4<Double, Double, Double, Double> toDouble = (a1, a2, a3, a4) -> a1 * a2 * a3 * a4;
+        Assertions.assertEquals(24.0, toDouble.boxed().apply(1.0, 2.0, 3.0, 4.0));
+    }
+
+    @Test
+    void testFromPrimitiveBoxed() {
+        LongFunction3<String> function = (a1, a2, a3) -> a1 + ":" + a2 + ":" + a3;
+        Assertions.assertEquals("1:2:3", function.boxed().apply(1L, 2L, 3L));
+        Assertions.assertThrows(NullPointerException.class, () -> function.boxed().apply(1L, null, 3L));
+    }
+
+    @Test
+    void testPrimitiveToPrimitiveBoxed() {
+        IntToIntFunction10 function = (a1, a2, a3, a4, a5, a6, a7, a8, a9, a10) -> a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + a9 + a10;
+        Assertions.assertEquals(55, function.applyAsInt(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        Assertions.assertEquals(55, function.boxed().apply(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+
+        DoubleToDoubleFunction3 hypot = (x, y, z) -> Math.sqrt(x * x + y * y + z * z);
+        Assertions.assertEquals(3.0, hypot.boxed().apply(1.0, 2.0, 2.0));
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+class SingleFlightTest {
+
+    private static final int THREADS = 32;
+
+    @Test
+    void testCoalesce() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Function3<Integer, Integer, Integer, Object> function = SingleFlight.wrap((Integer a1, Integer a2, Integer a3) -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Object();
+        });
+
+        AtomicReferenceArray<Object> results = new AtomicReferenceArray<>(THREADS);
+        List<Thread> threads = new ArrayList<>();
+        threads.add(Thread.ofVirtual().start(() -> results.set(0, function.apply(1, 2, 3))));
+        started.await();
+
+        for (int i = 1; i < THREADS; i++) {
+            int index = i;
+            threads.add(Thread.ofVirtual().start(() -> results.set(index, function.apply(1, 2, 3))));
+        }
+
+        awaitWaiting(threads);
+        release.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(1, calls.get());
+        for (int i = 1; i < THREADS; i++) {
+            Assertions.assertSame(results.get(0), results.get(i));
+        }
+    }
+
+    @Test
+    void testDifferentKeys() {
+        AtomicInteger calls = new AtomicInteger();
+        Function3<Integer, Integer, Integer, Integer> function = SingleFlight.wrap((Integer a1, Integer a2, Integer a3) -> {
+            calls.incrementAndGet();
+            return a1 + a2 + a3;
+        });
+
+        Assertions.assertEquals(6, function.apply(1, 2, 3));
+        Assertions.assertEquals(6, function.apply(1, 2, 3)); // not cached after the completion
+        Assertions.assertEquals(7, function.apply(1, 2, 4));
+        Assertions.assertEquals(3, calls.get());
+    }
+
+    @Test
+    void testException() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException exception = new IllegalStateException();
+
+        Supplier<Object> supplier = SingleFlight.wrap(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw exception;
+        });
+
+        AtomicReferenceArray<Throwable> thrown = new AtomicReferenceArray<>(2);
+        Thread leader = Thread.ofVirtual().start(() -> {
+            try {
+                supplier.get();
+            } catch (Throwable e) {
+                thrown.set(0, e);
+            }
+        });
+        started.await();
+
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                supplier.get();
+            } catch (Throwable e) {
+                thrown.set(1, e);
+            }
+        });
+
+        awaitWaiting(List.of(waiter));
+        release.countDown();
+        leader.join();
+        waiter.join();
+
+        Assertions.assertSame(exception, thrown.get(0));
+        Assertions.assertInstanceOf(CompletionException.class, thrown.get(1));
+        Assertions.assertSame(exception, thrown.get(1).getCause());
+    }
+
+    @Test
+    void testInterruptWaiter() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Supplier<String> supplier = SingleFlight.wrap(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "value";
+        });
+
+        AtomicReferenceArray<Object> results = new AtomicReferenceArray<>(3);
+        Thread leader = Thread.ofVirtual().start(() -> results.set(0, supplier.get()));
+        started.await();
+
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                supplier.get();
+            } catch (CompletionException e) {
+                results.set(1, e.getCause());
+                results.set(2, Thread.currentThread().isInterrupted());
+            }
+        });
+
+        awaitWaiting(List.of(waiter));
+        waiter.interrupt();
+        waiter.join();
+
+        Assertions.assertInstanceOf(InterruptedException.class, results.get(1));
+        Assertions.assertEquals(Boolean.TRUE, results.get(2));
+
+        release.countDown();
+        leader.join();
+        Assertions.assertEquals("value", results.get(0));
+    }
+
+    @Test
+    void testInFlightCount() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        Assertions.assertEquals(1, flight.execute("key", flight::inFlightCount));
+        Assertions.assertEquals(0, flight.inFlightCount());
+    }
+
+    private static void awaitWaiting(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.WAITING && thread.isAlive()) {
+                Thread.sleep(1);
+            }
+        }
+    }
+}
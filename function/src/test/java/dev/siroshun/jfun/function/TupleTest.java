@@ -0,0 +1,65 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+class TupleTest {
+
+    @Test
+    void testEqualsAndHashCode() {
+        Tuple3<String, Integer, Object> tuple = new Tuple3<>("a", 1, null);
+        Assertions.assertEquals(new Tuple3<>("a", 1, null), tuple);
+        Assertions.assertEquals(new Tuple3<>("a", 1, null).hashCode(), tuple.hashCode());
+        Assertions.assertNotEquals(new Tuple3<>("a", 2, null), tuple);
+    }
+
+    @Test
+    void testHashDistribution() {
+        Set<Integer> hashes = new HashSet<>();
+        for (int i = 0; i < 32; i++) {
+            for (int j = 0; j < 32; j++) {
+                hashes.add(new Tuple3<>(i, j, 0).hashCode() & 0x3FF); // the low bits used by the small hash tables
+            }
+        }
+        Assertions.assertTrue(600 < hashes.size(), "the low bits should be well-distributed: " + hashes.size());
+    }
+
+    @Test
+    void testTupledAndUntupled() {
+        Function4<Integer, Integer, Integer, Integer, Integer> function = (a1, a2, a3, a4) -> a1 * 1000 + a2 * 100 + a3 * 10 + a4;
+        Function<Tuple4<Integer, Integer, Integer, Integer>, Integer> tupled = function.tupled();
+
+        Assertions.assertEquals(1234, tupled.apply(new Tuple4<>(1, 2, 3, 4)));
+        Assertions.assertEquals(1234, Function4.untupled(tupled).apply(1, 2, 3, 4));
+        Assertions.assertEquals(1234, new Tuple4<>(1, 2, 3, 4).apply(function));
+    }
+
+    @Test
+    void testTenElements() {
+        Tuple10<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> tuple =
+            new Tuple10<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        Assertions.assertEquals(55, tuple.<Integer>apply((a1, a2, a3, a4, a5, a6, a7, a8, a9, a10) -> a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + a9 + a10));
+        Assertions.assertEquals(10, tuple.a10());
+    }
+}
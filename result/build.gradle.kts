@@ -21,5 +21,6 @@ plugins {
 }
 
 dependencies {
+    api(projects.jfunFunction)
     testImplementation(projects.jfunResultAssertion)
 }
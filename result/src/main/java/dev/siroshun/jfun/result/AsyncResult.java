@@ -0,0 +1,344 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncResult} is a {@link Result} that will be available in the future.
+ * <p>
+ * This class wraps {@link CompletableFuture} of {@link Result} and provides the operations of {@link Result} that are composed directly on the future.
+ * None of the methods of this class block the calling thread.
+ * <p>
+ * If the future is already completed normally, the operations are applied immediately without adding a stage to the future,
+ * and the operations that do not apply to the completed {@link Result} (e.g. {@link #map(Function)} of {@link Result.Failure})
+ * return this {@link AsyncResult} itself instead of creating a new one.
+ * <p>
+ * {@link AsyncResult} separates the failure from the exceptional completion:
+ * <ul>
+ *     <li>{@link Result.Failure} is a normal completion of the future, and it is processed by the methods such as {@link #mapError(Function)} and {@link #recover(Function)}</li>
+ *     <li>The exceptional completion (e.g. the exception thrown by the functions) is propagated as-is,
+ *     and it can be converted to {@link Result} only by {@link #handleException(Function)}</li>
+ * </ul>
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ */
+public final class AsyncResult<T, E> {
+
+    /**
+     * Creates an {@link AsyncResult} from the specified {@link CompletionStage}.
+     *
+     * @param stage the {@link CompletionStage} that will be completed with {@link Result}
+     * @param <T>   the type of the success value
+     * @param <E>   the type of the error value
+     * @return an {@link AsyncResult} that will be completed with the {@link Result} of the specified {@link CompletionStage}
+     * @throws NullPointerException if the {@link CompletionStage} is completed with {@code null}
+     */
+    @Contract("_ -> new")
+    public static <T, E> @NotNull AsyncResult<T, E> of(@NotNull CompletionStage<? extends Result<T, E>> stage) {
+        return new AsyncResult<>(stage.toCompletableFuture().thenApply(Objects::requireNonNull));
+    }
+
+    /**
+     * Creates an {@link AsyncResult} that is already completed with the specified {@link Result}.
+     *
+     * @param result the {@link Result}
+     * @param <T>    the type of the success value
+     * @param <E>    the type of the error value
+     * @return an {@link AsyncResult} that is already completed with the specified {@link Result}
+     */
+    @Contract("_ -> new")
+    public static <T, E> @NotNull AsyncResult<T, E> completed(@NotNull Result<T, E> result) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(Objects.requireNonNull(result)));
+    }
+
+    /**
+     * Creates an {@link AsyncResult} that is already completed with {@link Result.Success} of the specified value.
+     *
+     * @param value the success value
+     * @param <T>   the type of the success value
+     * @param <E>   the type of the error value
+     * @return an {@link AsyncResult} that is already completed with {@link Result.Success}
+     */
+    @Contract("_ -> new")
+    public static <T, E> @NotNull AsyncResult<T, E> success(@Nullable T value) {
+        return completed(Result.success(value));
+    }
+
+    /**
+     * Creates an {@link AsyncResult} that is already completed with {@link Result.Failure} of the specified error.
+     *
+     * @param error the error value
+     * @param <T>   the type of the success value
+     * @param <E>   the type of the error value
+     * @return an {@link AsyncResult} that is already completed with {@link Result.Failure}
+     */
+    @Contract("_ -> new")
+    public static <T, E> @NotNull AsyncResult<T, E> failure(@Nullable E error) {
+        return completed(Result.failure(error));
+    }
+
+    /**
+     * Creates an {@link AsyncResult} that will be completed with the {@link Result} supplied by the specified {@link Supplier} on the specified {@link Executor}.
+     *
+     * @param supplier the {@link Supplier} that provides the {@link Result}
+     * @param executor the {@link Executor} to run the {@link Supplier}
+     * @param <T>      the type of the success value
+     * @param <E>      the type of the error value
+     * @return an {@link AsyncResult} that will be completed with the supplied {@link Result}
+     */
+    @Contract("_, _ -> new")
+    public static <T, E> @NotNull AsyncResult<T, E> supplyAsync(@NotNull Supplier<? extends Result<T, E>> supplier, @NotNull Executor executor) {
+        return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Objects.requireNonNull(supplier.get()), executor));
+    }
+
+    private final CompletableFuture<Result<T, E>> future;
+
+    private AsyncResult(@NotNull CompletableFuture<Result<T, E>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Returns {@code true} if this {@link AsyncResult} is completed normally or exceptionally.
+     *
+     * @return {@code true} if this {@link AsyncResult} is completed
+     */
+    public boolean isDone() {
+        return this.future.isDone();
+    }
+
+    /**
+     * Maps the value from {@link T} to {@link U} using the specified {@link Function} when the {@link Result} is available.
+     *
+     * @param mapper the {@link Function} converts the value
+     * @param <U>    the new type of the success value
+     * @return the new {@link AsyncResult}
+     * @see Result#map(Function)
+     */
+    public <U> @NotNull AsyncResult<U, E> map(@NotNull Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        Result<T, E> completed = this.resultNow();
+        return completed != null && completed.isFailure() ? this.cast() : this.then(completed, result -> result.map(mapper));
+    }
+
+    /**
+     * Maps the error from {@link E} to {@link O} using the specified {@link Function} when the {@link Result} is available.
+     *
+     * @param mapper the {@link Function} converts the error
+     * @param <O>    the new type of the error value
+     * @return the new {@link AsyncResult}
+     * @see Result#mapError(Function)
+     */
+    public <O> @NotNull AsyncResult<T, O> mapError(@NotNull Function<? super E, ? extends O> mapper) {
+        Objects.requireNonNull(mapper);
+        Result<T, E> completed = this.resultNow();
+        return completed != null && completed.isSuccess() ? this.cast() : this.then(completed, result -> result.mapError(mapper));
+    }
+
+    /**
+     * Maps and flatten the {@link Result} using the specified {@link Function} when the {@link Result} is available and {@link Result.Success}.
+     *
+     * @param onSuccess the {@link Function} processes the success value, then returns new {@link Result}
+     * @param <U>       the new type of the success value
+     * @return the new {@link AsyncResult}
+     * @see Result#flatMap(Function)
+     */
+    public <U> @NotNull AsyncResult<U, E> flatMap(@NotNull Function<? super T, Result<U, E>> onSuccess) {
+        Objects.requireNonNull(onSuccess);
+        Result<T, E> completed = this.resultNow();
+        return completed != null && completed.isFailure() ? this.cast() : this.then(completed, result -> result.flatMap(onSuccess));
+    }
+
+    /**
+     * Maps and flatten the {@link Result} using the specified {@link Function} that returns {@link AsyncResult}
+     * when the {@link Result} is available and {@link Result.Success}.
+     * <p>
+     * If the {@link Result} is {@link Result.Failure}, the {@link Function} is not called.
+     *
+     * @param onSuccess the {@link Function} processes the success value, then returns new {@link AsyncResult}
+     * @param <U>       the new type of the success value
+     * @return the new {@link AsyncResult}
+     */
+    public <U> @NotNull AsyncResult<U, E> flatMapAsync(@NotNull Function<? super T, AsyncResult<U, E>> onSuccess) {
+        Objects.requireNonNull(onSuccess);
+        Result<T, E> completed = this.resultNow();
+
+        if (completed != null) {
+            if (completed.isFailure()) {
+                return this.cast();
+            }
+            try {
+                return Objects.requireNonNull(onSuccess.apply(completed.unwrap()));
+            } catch (Throwable e) {
+                return new AsyncResult<>(CompletableFuture.failedFuture(new CompletionException(e)));
+            }
+        }
+
+        return new AsyncResult<>(this.future.thenCompose(result ->
+            result.isSuccess() ?
+                onSuccess.apply(result.unwrap()).future :
+                CompletableFuture.completedFuture(result.asFailure())
+        ));
+    }
+
+    /**
+     * Recovers the error using the specified {@link Function} when the {@link Result} is available and {@link Result.Failure}.
+     *
+     * @param onFailure the {@link Function} recovers the error, and provides the success value
+     * @return the new {@link AsyncResult}
+     * @see Result#recover(Function)
+     */
+    public @NotNull AsyncResult<T, E> recover(@NotNull Function<? super E, ? extends T> onFailure) {
+        Objects.requireNonNull(onFailure);
+        Result<T, E> completed = this.resultNow();
+        return completed != null && completed.isSuccess() ? this : this.then(completed, result -> result.recover(onFailure));
+    }
+
+    /**
+     * Tries recovering the error using the specified {@link Function} when the {@link Result} is available and {@link Result.Failure}.
+     *
+     * @param onFailure the {@link Function} tries recovering the error, and provides the new {@link Result}
+     * @param <E2>      the new type of the error value
+     * @return the new {@link AsyncResult}
+     * @see Result#tryRecover(Function)
+     */
+    public <E2> @NotNull AsyncResult<T, E2> tryRecover(@NotNull Function<? super E, Result<T, E2>> onFailure) {
+        Objects.requireNonNull(onFailure);
+        Result<T, E> completed = this.resultNow();
+        return completed != null && completed.isSuccess() ? this.cast() : this.then(completed, result -> result.tryRecover(onFailure));
+    }
+
+    /**
+     * Calls the specified {@link Consumer} with the success value when the {@link Result} is available and {@link Result.Success}.
+     *
+     * @param onSuccess the {@link Consumer} that accepts the success value
+     * @return the new {@link AsyncResult}
+     * @see Result#inspect(Consumer)
+     */
+    public @NotNull AsyncResult<T, E> inspect(@NotNull Consumer<? super T> onSuccess) {
+        Objects.requireNonNull(onSuccess);
+        Result<T, E> completed = this.resultNow();
+        return completed != null && completed.isFailure() ? this : this.then(completed, result -> result.inspect(onSuccess));
+    }
+
+    /**
+     * Calls the specified {@link Consumer} with the error value when the {@link Result} is available and {@link Result.Failure}.
+     *
+     * @param onFailure the {@link Consumer} that accepts the error value
+     * @return the new {@link AsyncResult}
+     * @see Result#inspectError(Consumer)
+     */
+    public @NotNull AsyncResult<T, E> inspectError(@NotNull Consumer<? super E> onFailure) {
+        Objects.requireNonNull(onFailure);
+        Result<T, E> completed = this.resultNow();
+        return completed != null && completed.isSuccess() ? this : this.then(completed, result -> result.inspectError(onFailure));
+    }
+
+    /**
+     * Converts the exceptional completion to {@link Result} using the specified {@link Function}.
+     * <p>
+     * The {@link Throwable} passed to the {@link Function} is unwrapped from {@link CompletionException}.
+     * If this {@link AsyncResult} is completed normally, the {@link Function} is not called.
+     *
+     * @param onException the {@link Function} converts the {@link Throwable} to {@link Result}
+     * @return the new {@link AsyncResult}
+     */
+    public @NotNull AsyncResult<T, E> handleException(@NotNull Function<? super Throwable, Result<T, E>> onException) {
+        Objects.requireNonNull(onException);
+        if (this.future.state() == Future.State.SUCCESS) {
+            return this;
+        }
+        return new AsyncResult<>(this.future.exceptionally(ex -> {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            return Objects.requireNonNull(onException.apply(cause));
+        }));
+    }
+
+    /**
+     * Returns the {@link CompletableFuture} that will be completed with the success value,
+     * or completed exceptionally with the {@link Throwable} created from the error value.
+     *
+     * @param toException the {@link Function} to create the {@link Throwable} from the error value
+     * @return the {@link CompletableFuture} that will be completed with the success value
+     */
+    @Contract("_ -> new")
+    public @NotNull CompletableFuture<T> toValueFuture(@NotNull Function<? super E, ? extends Throwable> toException) {
+        Objects.requireNonNull(toException);
+        return this.future.thenCompose(result ->
+            result.isSuccess() ?
+                CompletableFuture.completedFuture(result.unwrap()) :
+                CompletableFuture.failedFuture(toException.apply(result.unwrapError()))
+        );
+    }
+
+    /**
+     * Returns the {@link CompletableFuture} that will be completed with the {@link Result}.
+     * <p>
+     * This method returns the underlying {@link CompletableFuture} without copying it,
+     * so completing it also completes this {@link AsyncResult}.
+     *
+     * @return the {@link CompletableFuture} that will be completed with the {@link Result}
+     */
+    public @NotNull CompletableFuture<Result<T, E>> toCompletableFuture() {
+        return this.future;
+    }
+
+    private @Nullable Result<T, E> resultNow() {
+        return this.future.state() == Future.State.SUCCESS ? this.future.resultNow() : null;
+    }
+
+    private <U, O> @NotNull AsyncResult<U, O> then(@Nullable Result<T, E> completed, @NotNull Function<? super Result<T, E>, Result<U, O>> stage) {
+        if (completed == null) {
+            return new AsyncResult<>(this.future.thenApply(stage));
+        }
+
+        Result<U, O> result;
+
+        try {
+            result = stage.apply(completed);
+        } catch (Throwable e) {
+            // the same as the exceptional completion of thenApply
+            return new AsyncResult<>(CompletableFuture.failedFuture(new CompletionException(e)));
+        }
+
+        return result == completed ? this.cast() : completed(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U, O> @NotNull AsyncResult<U, O> cast() {
+        return (AsyncResult<U, O>) this;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncResult{" + "future=" + this.future + '}';
+    }
+}
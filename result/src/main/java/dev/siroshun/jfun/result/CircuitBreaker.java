@@ -0,0 +1,602 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A circuit breaker that stops calling a failing dependency.
+ * <p>
+ * The circuit breaker records the outcomes of the recent calls in a sliding window of a fixed size.
+ * A call is recorded as failed when it returns {@link Result.Failure} that matches {@link Builder#failureIf(Predicate)} or throws an exception,
+ * and as slow when it takes longer than {@link Builder#slowCallDuration(Duration)}.
+ * <p>
+ * The circuit breaker has three {@link State}s:
+ * <ul>
+ *     <li>{@link State#CLOSED}: calls are permitted. When the failure rate or the slow call rate reaches the threshold, the state becomes {@link State#OPEN}.</li>
+ *     <li>{@link State#OPEN}: calls are not permitted, and the decorated functions return the fallback failure immediately. After {@link Builder#waitInOpen(Duration)}, the state becomes {@link State#HALF_OPEN}.</li>
+ *     <li>{@link State#HALF_OPEN}: a limited number of trial calls are permitted. When they are completed, the state becomes {@link State#CLOSED} or {@link State#OPEN} again depending on their outcomes.
+ *     If they are not completed within {@link Builder#maxWaitInHalfOpen(Duration)}, the state becomes {@link State#OPEN} again.</li>
+ * </ul>
+ * <p>
+ * This class does not use locks. The window is updated with atomic operations, so the rates are approximate while the calls are recorded concurrently.
+ *
+ * @param <E> the type of the error value
+ */
+public final class CircuitBreaker<E> {
+
+    private static final int FAILURE = 1;
+    private static final int SLOW = 2;
+    private static final int RECORDED = 4;
+
+    /**
+     * Creates a new {@link Builder}.
+     *
+     * @param <E> the type of the error value
+     * @return a new {@link Builder}
+     */
+    @Contract(value = "-> new", pure = true)
+    public static <E> @NotNull Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final double slowCallRateThreshold;
+    private final long waitInOpenNanos;
+    private final long maxWaitInHalfOpenNanos;
+    private final int permittedCallsInHalfOpen;
+    private final Predicate<? super E> failureIf;
+    private final LongSupplier clock;
+    private final @Nullable StateListener listener;
+    private final AtomicReference<Phase> phase;
+
+    private CircuitBreaker(@NotNull Builder<E> builder) {
+        this.windowSize = builder.windowSize;
+        this.minimumCalls = Math.min(builder.minimumCalls, builder.windowSize);
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallNanos = builder.slowCallDuration != null ? saturatedNanos(builder.slowCallDuration) : Long.MAX_VALUE;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.waitInOpenNanos = saturatedNanos(builder.waitInOpen);
+        this.maxWaitInHalfOpenNanos = saturatedNanos(builder.maxWaitInHalfOpen);
+        this.permittedCallsInHalfOpen = builder.permittedCallsInHalfOpen;
+        this.failureIf = builder.failureIf;
+        this.clock = builder.clock;
+        this.listener = builder.listener;
+        this.phase = new AtomicReference<>(new Phase(State.CLOSED, this.windowSize, this.clock.getAsLong()));
+    }
+
+    /**
+     * Decorates the specified {@link Function} with this circuit breaker.
+     * <p>
+     * While the circuit breaker does not permit calls, the returned {@link Function} returns {@link Result.Failure}
+     * with the value supplied by {@code onOpen} without calling the original {@link Function}.
+     *
+     * @param function the {@link Function} to decorate
+     * @param onOpen   the {@link Supplier} of the error value returned while the circuit breaker is open
+     * @param <T>      the type of the input
+     * @param <U>      the type of the success value
+     * @return the decorated {@link Function}
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public <T, U> @NotNull Function<T, Result<U, E>> decorate(@NotNull Function<? super T, ? extends Result<U, E>> function,
+                                                             @NotNull Supplier<? extends E> onOpen) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(onOpen);
+        return input -> this.call(() -> function.apply(input), onOpen);
+    }
+
+    /**
+     * Decorates the specified {@link Supplier} with this circuit breaker.
+     * <p>
+     * While the circuit breaker does not permit calls, the returned {@link Supplier} returns {@link Result.Failure}
+     * with the value supplied by {@code onOpen} without calling the original {@link Supplier}.
+     *
+     * @param supplier the {@link Supplier} to decorate
+     * @param onOpen   the {@link Supplier} of the error value returned while the circuit breaker is open
+     * @param <T>      the type of the success value
+     * @return the decorated {@link Supplier}
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public <T> @NotNull Supplier<Result<T, E>> decorate(@NotNull Supplier<? extends Result<T, E>> supplier,
+                                                        @NotNull Supplier<? extends E> onOpen) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(onOpen);
+        return () -> this.call(supplier, onOpen);
+    }
+
+    /**
+     * Calls the specified {@link Supplier} if this circuit breaker permits the call.
+     *
+     * @param supplier the {@link Supplier} to call
+     * @param onOpen   the {@link Supplier} of the error value returned while the circuit breaker is open
+     * @param <T>      the type of the success value
+     * @return the {@link Result} returned by the {@link Supplier}, or {@link Result.Failure} with the value supplied by {@code onOpen}
+     */
+    public <T> @NotNull Result<T, E> call(@NotNull Supplier<? extends Result<T, E>> supplier, @NotNull Supplier<? extends E> onOpen) {
+        Phase current = this.acquirePermission();
+        if (current == null) {
+            return Result.failure(onOpen.get());
+        }
+
+        long start = this.clock.getAsLong();
+        Result<T, E> result;
+
+        try {
+            result = Objects.requireNonNull(supplier.get());
+        } catch (Throwable e) {
+            this.record(current, FAILURE | (this.clock.getAsLong() - start < this.slowCallNanos ? 0 : SLOW));
+            throw e;
+        }
+
+        int outcome = result.isFailure() && this.failureIf.test(result.unwrapError()) ? FAILURE : 0;
+        if (this.slowCallNanos <= this.clock.getAsLong() - start) {
+            outcome |= SLOW;
+        }
+
+        this.record(current, outcome);
+        return result;
+    }
+
+    /**
+     * Returns the current {@link State} of this circuit breaker.
+     * <p>
+     * This method does not change the state, so this method may return {@link State#OPEN}
+     * even if the wait time has elapsed and the next call will be permitted.
+     *
+     * @return the current {@link State}
+     */
+    public @NotNull State state() {
+        return this.phase.get().state;
+    }
+
+    /**
+     * Returns the failure rate of the calls recorded in the current window.
+     *
+     * @return the failure rate from {@code 0.0} to {@code 1.0}, or {@code 0.0} if no call is recorded
+     */
+    public double failureRate() {
+        Phase current = this.phase.get();
+        int calls = current.calls();
+        return calls == 0 ? 0.0 : (double) current.failures.get() / calls;
+    }
+
+    /**
+     * Returns the slow call rate of the calls recorded in the current window.
+     *
+     * @return the slow call rate from {@code 0.0} to {@code 1.0}, or {@code 0.0} if no call is recorded
+     */
+    public double slowCallRate() {
+        Phase current = this.phase.get();
+        int calls = current.calls();
+        return calls == 0 ? 0.0 : (double) current.slowCalls.get() / calls;
+    }
+
+    /**
+     * Resets this circuit breaker to {@link State#CLOSED} and clears the recorded calls.
+     */
+    public void reset() {
+        Phase previous = this.phase.getAndSet(new Phase(State.CLOSED, this.windowSize, this.clock.getAsLong()));
+        if (previous.state != State.CLOSED) {
+            this.notifyTransition(previous.state, State.CLOSED);
+        }
+    }
+
+    private @Nullable Phase acquirePermission() {
+        while (true) {
+            Phase current = this.phase.get();
+            switch (current.state) {
+                case CLOSED -> {
+                    return current;
+                }
+                case OPEN -> {
+                    if (this.clock.getAsLong() - current.createdAt < this.waitInOpenNanos) {
+                        return null;
+                    }
+                    this.transition(current, State.HALF_OPEN);
+                }
+                case HALF_OPEN -> {
+                    if (this.clock.getAsLong() - current.createdAt < this.maxWaitInHalfOpenNanos) {
+                        return current.tryAcquirePermit() ? current : null;
+                    }
+                    // the trial calls are not completed in time
+                    this.transition(current, State.OPEN);
+                }
+            }
+        }
+    }
+
+    private void record(@NotNull Phase current, int outcome) {
+        if (this.phase.get() != current) {
+            return; // the call was permitted in the previous phase
+        }
+
+        int calls = current.record(outcome);
+
+        if (current.state == State.CLOSED) {
+            if (this.minimumCalls <= calls && this.exceedsThreshold(current, calls)) {
+                this.transition(current, State.OPEN);
+            }
+        } else if (current.state == State.HALF_OPEN && this.permittedCallsInHalfOpen <= calls) {
+            this.transition(current, this.exceedsThreshold(current, calls) ? State.OPEN : State.CLOSED);
+        }
+    }
+
+    private boolean exceedsThreshold(@NotNull Phase current, int calls) {
+        return this.failureRateThreshold * calls <= current.failures.get() || this.slowCallRateThreshold * calls <= current.slowCalls.get();
+    }
+
+    private void transition(@NotNull Phase from, @NotNull State to) {
+        long now = this.clock.getAsLong();
+        Phase next = switch (to) {
+            case CLOSED -> new Phase(State.CLOSED, this.windowSize, now);
+            case OPEN -> new Phase(State.OPEN, 1, now);
+            case HALF_OPEN -> new Phase(State.HALF_OPEN, this.permittedCallsInHalfOpen, now);
+        };
+
+        if (this.phase.compareAndSet(from, next)) {
+            this.notifyTransition(from.state, to);
+        }
+    }
+
+    private void notifyTransition(@NotNull State from, @NotNull State to) {
+        ResultEvents.circuitBreakerTransition(from, to);
+        if (this.listener != null) {
+            this.listener.onTransition(from, to);
+        }
+    }
+
+    private static long saturatedNanos(@NotNull Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE; // the durations are validated to be non-negative
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" +
+            "state=" + this.state() +
+            ", failureRate=" + this.failureRate() +
+            ", slowCallRate=" + this.slowCallRate() +
+            '}';
+    }
+
+    /**
+     * The states of {@link CircuitBreaker}.
+     */
+    public enum State {
+        /**
+         * The calls are permitted, and their outcomes are recorded.
+         */
+        CLOSED,
+        /**
+         * The calls are not permitted.
+         */
+        OPEN,
+        /**
+         * A limited number of trial calls are permitted.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * A listener that is notified when the {@link State} of {@link CircuitBreaker} is changed.
+     * <p>
+     * The listener is called on the thread that caused the transition, so it should return quickly.
+     */
+    @FunctionalInterface
+    public interface StateListener {
+
+        /**
+         * Called when the {@link State} is changed.
+         *
+         * @param from the previous {@link State}
+         * @param to   the new {@link State}
+         */
+        void onTransition(@NotNull State from, @NotNull State to);
+
+    }
+
+    private static final class Phase {
+
+        private final State state;
+        private final long createdAt;
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong index = new AtomicLong();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+        private final AtomicInteger permits;
+
+        private Phase(@NotNull State state, int windowSize, long createdAt) {
+            this.state = state;
+            this.createdAt = createdAt;
+            this.outcomes = new AtomicIntegerArray(windowSize);
+            this.permits = new AtomicInteger(state == State.HALF_OPEN ? windowSize : 0);
+        }
+
+        private boolean tryAcquirePermit() {
+            int current;
+            do {
+                current = this.permits.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!this.permits.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        private int record(int outcome) {
+            long i = this.index.getAndIncrement();
+            int previous = this.outcomes.getAndSet((int) (i % this.outcomes.length()), outcome | RECORDED);
+
+            int failureDelta = (outcome & FAILURE) - (previous & FAILURE);
+            if (failureDelta != 0) {
+                this.failures.addAndGet(failureDelta);
+            }
+
+            int slowDelta = ((outcome & SLOW) - (previous & SLOW)) / SLOW;
+            if (slowDelta != 0) {
+                this.slowCalls.addAndGet(slowDelta);
+            }
+
+            return (int) Math.min(i + 1, this.outcomes.length());
+        }
+
+        private int calls() {
+            return (int) Math.min(this.index.get(), this.outcomes.length());
+        }
+    }
+
+    /**
+     * A builder of {@link CircuitBreaker}.
+     *
+     * @param <E> the type of the error value
+     */
+    public static final class Builder<E> {
+
+        private int windowSize = 100;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+        private @Nullable Duration slowCallDuration;
+        private double slowCallRateThreshold = 1.0;
+        private Duration waitInOpen = Duration.ofSeconds(60);
+        private Duration maxWaitInHalfOpen = Duration.ofSeconds(60);
+        private int permittedCallsInHalfOpen = 10;
+        private Predicate<? super E> failureIf = error -> true;
+        private LongSupplier clock = System::nanoTime;
+        private @Nullable StateListener listener;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of the recent calls to record.
+         * <p>
+         * The default value is {@code 100}.
+         *
+         * @param windowSize the number of the recent calls to record
+         * @return this builder
+         * @throws IllegalArgumentException if {@code windowSize} is not positive
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> windowSize(int windowSize) {
+            if (windowSize < 1) {
+                throw new IllegalArgumentException("windowSize must be positive.");
+            }
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Sets the minimum number of the recorded calls before the rates are evaluated.
+         * <p>
+         * The default value is {@code 10}. If it is greater than the window size, the window size is used.
+         *
+         * @param minimumCalls the minimum number of the recorded calls
+         * @return this builder
+         * @throws IllegalArgumentException if {@code minimumCalls} is not positive
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> minimumCalls(int minimumCalls) {
+            if (minimumCalls < 1) {
+                throw new IllegalArgumentException("minimumCalls must be positive.");
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets the failure rate to open the circuit breaker.
+         * <p>
+         * The default value is {@code 0.5}.
+         *
+         * @param failureRateThreshold the failure rate, greater than {@code 0.0} and up to {@code 1.0}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code failureRateThreshold} is out of range
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> failureRateThreshold(double failureRateThreshold) {
+            checkRate(failureRateThreshold, "failureRateThreshold");
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the duration to consider a call as slow.
+         * <p>
+         * By default, no call is considered as slow.
+         *
+         * @param slowCallDuration the duration to consider a call as slow, or {@code null} to disable the slow call detection
+         * @return this builder
+         * @throws IllegalArgumentException if {@code slowCallDuration} is negative
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> slowCallDuration(@Nullable Duration slowCallDuration) {
+            if (slowCallDuration != null && slowCallDuration.isNegative()) {
+                throw new IllegalArgumentException("slowCallDuration must not be negative.");
+            }
+            this.slowCallDuration = slowCallDuration;
+            return this;
+        }
+
+        /**
+         * Sets the slow call rate to open the circuit breaker.
+         * <p>
+         * The default value is {@code 1.0}.
+         *
+         * @param slowCallRateThreshold the slow call rate, greater than {@code 0.0} and up to {@code 1.0}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code slowCallRateThreshold} is out of range
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> slowCallRateThreshold(double slowCallRateThreshold) {
+            checkRate(slowCallRateThreshold, "slowCallRateThreshold");
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the time to wait in {@link State#OPEN} before permitting the trial calls.
+         * <p>
+         * The default value is 60 seconds.
+         *
+         * @param waitInOpen the time to wait in {@link State#OPEN}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code waitInOpen} is negative
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> waitInOpen(@NotNull Duration waitInOpen) {
+            if (waitInOpen.isNegative()) {
+                throw new IllegalArgumentException("waitInOpen must not be negative.");
+            }
+            this.waitInOpen = waitInOpen;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time to wait in {@link State#HALF_OPEN} for the trial calls to be completed.
+         * <p>
+         * If the trial calls are not completed within this time, for example because a trial call hangs,
+         * the state becomes {@link State#OPEN} again. The default value is 60 seconds.
+         *
+         * @param maxWaitInHalfOpen the maximum time to wait in {@link State#HALF_OPEN}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxWaitInHalfOpen} is not positive
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> maxWaitInHalfOpen(@NotNull Duration maxWaitInHalfOpen) {
+            if (maxWaitInHalfOpen.isNegative() || maxWaitInHalfOpen.isZero()) {
+                throw new IllegalArgumentException("maxWaitInHalfOpen must be positive.");
+            }
+            this.maxWaitInHalfOpen = maxWaitInHalfOpen;
+            return this;
+        }
+
+        /**
+         * Sets the number of the trial calls permitted in {@link State#HALF_OPEN}.
+         * <p>
+         * The default value is {@code 10}.
+         *
+         * @param permittedCallsInHalfOpen the number of the trial calls
+         * @return this builder
+         * @throws IllegalArgumentException if {@code permittedCallsInHalfOpen} is not positive
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> permittedCallsInHalfOpen(int permittedCallsInHalfOpen) {
+            if (permittedCallsInHalfOpen < 1) {
+                throw new IllegalArgumentException("permittedCallsInHalfOpen must be positive.");
+            }
+            this.permittedCallsInHalfOpen = permittedCallsInHalfOpen;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Predicate} to check if the error value should be recorded as a failure.
+         * <p>
+         * By default, all {@link Result.Failure}s are recorded as failures.
+         * The error values that do not match the {@link Predicate}, such as validation errors caused by the caller, are recorded as successful calls.
+         *
+         * @param failureIf the {@link Predicate} that returns {@code true} if the error value should be recorded as a failure
+         * @return this builder
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> failureIf(@NotNull Predicate<? super E> failureIf) {
+            this.failureIf = Objects.requireNonNull(failureIf);
+            return this;
+        }
+
+        /**
+         * Sets the clock that returns the current time in nanoseconds.
+         * <p>
+         * The default clock is {@link System#nanoTime()}.
+         *
+         * @param clock the clock that returns the current time in nanoseconds
+         * @return this builder
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> clock(@NotNull LongSupplier clock) {
+            this.clock = Objects.requireNonNull(clock);
+            return this;
+        }
+
+        /**
+         * Sets the {@link StateListener} to be notified of the state transitions.
+         *
+         * @param listener the {@link StateListener}, or {@code null} to remove the listener
+         * @return this builder
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> listener(@Nullable StateListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Creates a new {@link CircuitBreaker} from this builder.
+         *
+         * @return a new {@link CircuitBreaker}
+         */
+        @Contract("-> new")
+        public @NotNull CircuitBreaker<E> build() {
+            return new CircuitBreaker<>(this);
+        }
+
+        private static void checkRate(double rate, @NotNull String name) {
+            if (!(0 < rate && rate <= 1)) {
+                throw new IllegalArgumentException(name + " must be greater than 0.0 and up to 1.0.");
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A point in time by which the work should be completed.
+ * <p>
+ * {@link #run(Supplier, Supplier)} runs a task on a virtual thread, and returns the caller-defined timeout failure
+ * if the task is not completed by this deadline. The timed-out task is interrupted, so the task that checks the interrupt status
+ * or waits for the interruptible operations stops early.
+ * <p>
+ * While the task is running, this deadline is available as {@link #current()} on the thread of the task.
+ * The nested {@link #run(Supplier, Supplier)} uses the earlier of its own deadline and the current one,
+ * so the remaining time of the outer deadline is propagated to the nested calls.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Creates a {@link Deadline} that expires after the specified timeout from now.
+     *
+     * @param timeout the timeout
+     * @return a new {@link Deadline}
+     */
+    @Contract("_ -> new")
+    public static @NotNull Deadline after(@NotNull Duration timeout) {
+        return new Deadline(System.nanoTime() + saturatedNanos(timeout));
+    }
+
+    /**
+     * Returns the {@link Deadline} of the task that is running on the current thread.
+     *
+     * @return the current {@link Deadline}, or {@code null} if the current thread is not running a task with a deadline
+     */
+    public static @Nullable Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Decorates the specified {@link Function} to run each call with the specified timeout.
+     * <p>
+     * Each call of the returned {@link Function} creates a new {@link Deadline} using {@link #after(Duration)},
+     * and runs the original {@link Function} with {@link #run(Supplier, Supplier)}.
+     * If the current thread is interrupted while waiting, the returned {@link Function} cancels the call,
+     * restores the interrupt status, and returns the timeout failure.
+     *
+     * @param timeout   the timeout of each call
+     * @param function  the {@link Function} to decorate
+     * @param onTimeout the {@link Supplier} of the error value returned when the call is timed out
+     * @param <T>       the type of the input
+     * @param <U>       the type of the success value
+     * @param <E>       the type of the error value
+     * @return the decorated {@link Function}
+     */
+    @Contract(value = "_, _, _ -> new", pure = true)
+    public static <T, U, E> @NotNull Function<T, Result<U, E>> decorate(@NotNull Duration timeout,
+                                                                       @NotNull Function<? super T, ? extends Result<U, E>> function,
+                                                                       @NotNull Supplier<? extends E> onTimeout) {
+        Objects.requireNonNull(timeout);
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(onTimeout);
+        return input -> {
+            try {
+                return Deadline.after(timeout).run(() -> function.apply(input), onTimeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Result.failure(onTimeout.get());
+            }
+        };
+    }
+
+    private final long expiresAt;
+
+    private Deadline(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Returns the remaining time until this deadline.
+     *
+     * @return the remaining time, or {@link Duration#ZERO} if this deadline has expired
+     */
+    public @NotNull Duration remaining() {
+        return Duration.ofNanos(this.remainingNanos());
+    }
+
+    /**
+     * Returns the remaining time until this deadline in nanoseconds.
+     *
+     * @return the remaining time in nanoseconds, or {@code 0} if this deadline has expired
+     */
+    public long remainingNanos() {
+        return Math.max(0, this.expiresAt - System.nanoTime());
+    }
+
+    /**
+     * Checks if this deadline has expired.
+     *
+     * @return {@code true} if this deadline has expired, otherwise {@code false}
+     */
+    public boolean isExpired() {
+        return this.expiresAt - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Returns the earlier of this deadline and the specified deadline.
+     *
+     * @param other the other {@link Deadline}, or {@code null}
+     * @return the earlier {@link Deadline}
+     */
+    public @NotNull Deadline min(@Nullable Deadline other) {
+        return other == null || this.expiresAt - other.expiresAt <= 0 ? this : other;
+    }
+
+    /**
+     * Runs the specified task on a virtual thread, and waits for its {@link Result} until this deadline.
+     * <p>
+     * If the current thread is running a task with {@link #current()} deadline, the earlier deadline is used.
+     * If the deadline has already expired, the task is not run.
+     * If the task is not completed by the deadline, the task is interrupted, and {@link Result.Failure} with the value supplied by {@code onTimeout} is returned.
+     * If the task completes after the deadline but before it is interrupted, its outcome is used instead.
+     *
+     * @param task      the task to run
+     * @param onTimeout the {@link Supplier} of the error value returned when the task is timed out
+     * @param <T>       the type of the success value
+     * @param <E>       the type of the error value
+     * @return the {@link Result} returned by the task, or {@link Result.Failure} with the value supplied by {@code onTimeout}
+     * @throws InterruptedException if the current thread is interrupted while waiting, in which case the task is also interrupted
+     * @throws CompletionException  if the task throws an exception
+     */
+    public <T, E> @NotNull Result<T, E> run(@NotNull Supplier<? extends Result<T, E>> task,
+                                            @NotNull Supplier<? extends E> onTimeout) throws InterruptedException {
+        Objects.requireNonNull(task);
+        Objects.requireNonNull(onTimeout);
+
+        Deadline deadline = this.min(current());
+
+        if (deadline.isExpired()) {
+            return Result.failure(onTimeout.get());
+        }
+
+        FutureTask<Result<T, E>> future = new FutureTask<>(() -> {
+            CURRENT.set(deadline);
+            return Objects.requireNonNull(task.get());
+        });
+
+        Thread.ofVirtual().start(future);
+
+        try {
+            return future.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (future.cancel(true)) {
+                return Result.failure(onTimeout.get());
+            }
+            // the task has completed between the timeout and the cancellation, so its outcome is kept
+            if (future.state() == Future.State.FAILED) {
+                throw new CompletionException(future.exceptionNow());
+            }
+            return future.resultNow();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Deadline other && this.expiresAt == other.expiresAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.expiresAt);
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{" + "remaining=" + this.remaining() + '}';
+    }
+
+    private static long saturatedNanos(@NotNull Duration duration) {
+        long nanos;
+        try {
+            nanos = duration.toNanos();
+        } catch (ArithmeticException e) {
+            nanos = duration.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        // keeps the difference between two deadlines in range
+        return Math.clamp(nanos, Long.MIN_VALUE / 4, Long.MAX_VALUE / 4);
+    }
+}
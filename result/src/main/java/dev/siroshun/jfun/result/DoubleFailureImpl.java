@@ -0,0 +1,150 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+record DoubleFailureImpl<E>(@Nullable E e) implements DoubleResult.Failure<E> {
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final DoubleFailureImpl INSTANCE = new DoubleFailureImpl(null);
+
+    @SuppressWarnings("unchecked")
+    static <E> @NotNull DoubleFailureImpl<E> nullFailure() {
+        return (DoubleFailureImpl<E>) INSTANCE;
+    }
+
+    /**
+     * Returns the {@link DoubleFailureImpl} that holds the specified error.
+     *
+     * @param e   the error value
+     * @param <E> the type of the error value
+     * @return the shared {@link DoubleFailureImpl} if {@code e} is {@code null}, or the new {@link DoubleFailureImpl}
+     */
+    static <E> @NotNull DoubleFailureImpl<E> of(@Nullable E e) {
+        ResultEvents.failureCreated(e);
+        return e != null ? new DoubleFailureImpl<>(e) : nullFailure();
+    }
+
+    @Override
+    public boolean isSuccess() {
+        return false;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return true;
+    }
+
+    @Override
+    public @NotNull OptionalDouble toOptional() {
+        return OptionalDouble.empty();
+    }
+
+    @Override
+    public @NotNull Optional<E> toOptionalError() {
+        return Optional.ofNullable(this.e);
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> map(@NotNull DoubleUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public @NotNull IntResult<E> mapToInt(@NotNull DoubleToIntFunction mapper) {
+        return IntResult.failure(this.e);
+    }
+
+    @Override
+    public @NotNull LongResult<E> mapToLong(@NotNull DoubleToLongFunction mapper) {
+        return LongResult.failure(this.e);
+    }
+
+    @Override
+    public @NotNull <U> Result<U, E> mapToObj(@NotNull DoubleFunction<? extends U> mapper) {
+        return Result.failure(this.e);
+    }
+
+    @Override
+    public @NotNull <O> DoubleResult<O> mapError(@NotNull Function<? super E, ? extends O> mapper) {
+        return DoubleResult.failure(mapper.apply(this.e));
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> flatMap(@NotNull DoubleFunction<DoubleResult<E>> onSuccess) {
+        return this;
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> inspect(@NotNull DoubleConsumer onSuccess) {
+        return this;
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> inspectError(@NotNull Consumer<? super E> onFailure) {
+        onFailure.accept(this.e);
+        return this;
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> recover(@NotNull ToDoubleFunction<? super E> onFailure) {
+        DoubleResult<E> result = DoubleResult.success(onFailure.applyAsDouble(this.e));
+        ResultEvents.recovered(this.e, true);
+        return result;
+    }
+
+    @Override
+    public double unwrap() throws NoSuchElementException {
+        throw UnwrapExceptions.create("DoubleResult.Failure cannot unwrap value.");
+    }
+
+    @Override
+    public double unwrapOr(double defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public double unwrapOrGet(@NotNull DoubleSupplier supplier) {
+        return supplier.getAsDouble();
+    }
+
+    @Override
+    public E unwrapError() throws NoSuchElementException {
+        return this.e;
+    }
+
+    @Override
+    public @NotNull Result<Double, E> boxed() {
+        return Result.failure(this.e);
+    }
+}
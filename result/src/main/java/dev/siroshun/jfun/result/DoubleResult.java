@@ -0,0 +1,275 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link DoubleResult} is a primitive specialization of {@link Result} that holds a {@code double} value as the success value.
+ * <p>
+ * Unlike {@code Result<Double, E>}, {@link Success} of this type stores the value without boxing it.
+ *
+ * @param <E> the type of the error value
+ */
+public sealed interface DoubleResult<E> permits DoubleResult.Success, DoubleResult.Failure {
+
+    /**
+     * Returns a {@link Success} with the specified value.
+     *
+     * @param value the result value
+     * @param <E>   the type of the error value
+     * @return a {@link Success} the specified value
+     */
+    static <E> DoubleResult.@NotNull Success<E> success(double value) {
+        return new DoubleSuccessImpl<>(value);
+    }
+
+    /**
+     * Returns a {@link Failure} without value.
+     * <p>
+     * Returning {@link DoubleResult} has {@code null} as the error.
+     * <p>
+     * This method always returns the same instance.
+     *
+     * @param <E> the type of the error value
+     * @return a {@link Failure} without value
+     */
+    static <E> DoubleResult.@NotNull Failure<E> failure() {
+        return DoubleFailureImpl.of(null);
+    }
+
+    /**
+     * Returns a {@link Failure} with the specified error.
+     * <p>
+     * If {@code e} is {@code null}, this method returns {@link #failure()}.
+     *
+     * @param e   the error
+     * @param <E> the type of the error value
+     * @return a {@link Failure} the specified value
+     */
+    static <E> DoubleResult.@NotNull Failure<E> failure(@Nullable E e) {
+        return DoubleFailureImpl.of(e);
+    }
+
+    /**
+     * Converts the specified {@link Result} to {@link DoubleResult}.
+     *
+     * @param result the {@link Result} to convert
+     * @param <E>    the type of the error value
+     * @return the {@link DoubleResult} that has the same value or error as the specified {@link Result}
+     * @throws NullPointerException if the {@link Result} is {@link Result.Success} and its value is {@code null}
+     */
+    static <E> @NotNull DoubleResult<E> from(@NotNull Result<Double, E> result) {
+        return result.isSuccess() ? success(result.unwrap()) : failure(result.unwrapError());
+    }
+
+    /**
+     * Returns {@code true} if this {@link DoubleResult} is {@link Success}.
+     *
+     * @return {@code true} if this {@link DoubleResult} is {@link Success}
+     */
+    boolean isSuccess();
+
+    /**
+     * Returns {@code true} if this {@link DoubleResult} is {@link Failure}.
+     *
+     * @return {@code true} if this {@link DoubleResult} is {@link Failure}
+     */
+    boolean isFailure();
+
+    /**
+     * Returns the value wrapped by the {@link OptionalDouble}.
+     * <p>
+     * If this {@link DoubleResult} is {@link Failure}, this method returns {@link OptionalDouble#empty()}.
+     *
+     * @return the value wrapped by the {@link OptionalDouble}
+     */
+    @NotNull OptionalDouble toOptional();
+
+    /**
+     * Returns the error wrapped by the {@link Optional}.
+     * <p>
+     * If this {@link DoubleResult} is {@link Success} or the error of {@link Failure} is {@code null},
+     * this method returns {@link Optional#empty()}.
+     *
+     * @return the error wrapped by the {@link Optional}
+     */
+    @NotNull Optional<E> toOptionalError();
+
+    /**
+     * Maps the value using the specified {@link DoubleUnaryOperator}.
+     * <p>
+     * If this {@link DoubleResult} is {@link Failure}, this method does nothing.
+     * <p>
+     * If the {@link DoubleUnaryOperator} returns the same value, this method returns this instance.
+     *
+     * @param mapper the {@link DoubleUnaryOperator} converts the value
+     * @return the new {@link Success}, or same instance if this {@link DoubleResult} is {@link Failure}
+     */
+    @NotNull DoubleResult<E> map(@NotNull DoubleUnaryOperator mapper);
+
+    /**
+     * Maps the value from {@code double} to {@code int} using the specified {@link DoubleToIntFunction}.
+     * <p>
+     * If this {@link DoubleResult} is {@link Failure}, this method does nothing.
+     *
+     * @param mapper the {@link DoubleToIntFunction} converts the value
+     * @return the new {@link IntResult.Success}, or {@link IntResult.Failure} with the same error if this {@link DoubleResult} is {@link Failure}
+     */
+    @NotNull IntResult<E> mapToInt(@NotNull DoubleToIntFunction mapper);
+
+    /**
+     * Maps the value from {@code double} to {@code long} using the specified {@link DoubleToLongFunction}.
+     * <p>
+     * If this {@link DoubleResult} is {@link Failure}, this method does nothing.
+     *
+     * @param mapper the {@link DoubleToLongFunction} converts the value
+     * @return the new {@link LongResult.Success}, or {@link LongResult.Failure} with the same error if this {@link DoubleResult} is {@link Failure}
+     */
+    @NotNull LongResult<E> mapToLong(@NotNull DoubleToLongFunction mapper);
+
+    /**
+     * Maps the value from {@code double} to {@link U} using the specified {@link DoubleFunction}.
+     * <p>
+     * If this {@link DoubleResult} is {@link Failure}, this method does nothing.
+     *
+     * @param mapper the {@link DoubleFunction} converts the value
+     * @param <U>    the new type of the success value
+     * @return the new {@link Result.Success}, or {@link Result.Failure} with the same error if this {@link DoubleResult} is {@link Failure}
+     */
+    <U> @NotNull Result<U, E> mapToObj(@NotNull DoubleFunction<? extends U> mapper);
+
+    /**
+     * Maps the error from {@link E} to {@link O} using the specified {@link Function}.
+     * <p>
+     * If this {@link DoubleResult} is {@link Success}, this method does nothing.
+     *
+     * @param mapper the {@link Function} converts the value
+     * @param <O>    the new type of the error value
+     * @return the new {@link Failure}, or same instance if this {@link DoubleResult} is {@link Success}
+     */
+    <O> @NotNull DoubleResult<O> mapError(@NotNull Function<? super E, ? extends O> mapper);
+
+    /**
+     * Maps and flatten the {@link DoubleResult} using the specified {@link DoubleFunction} when this {@link DoubleResult} is {@link Success}.
+     *
+     * @param onSuccess the {@link DoubleFunction} processes the success value, then returns new {@link DoubleResult}
+     * @return the {@link DoubleResult} returned from {@link DoubleFunction}
+     * @throws NullPointerException if the {@link DoubleFunction} returns {@code null} as {@link DoubleResult}
+     */
+    @NotNull DoubleResult<E> flatMap(@NotNull DoubleFunction<DoubleResult<E>> onSuccess);
+
+    /**
+     * Calls the specified {@link DoubleConsumer} with the success value if this {@link DoubleResult} is {@link Success}.
+     *
+     * @param onSuccess the {@link DoubleConsumer} that accepts the success value
+     * @return the same instance
+     */
+    @NotNull DoubleResult<E> inspect(@NotNull DoubleConsumer onSuccess);
+
+    /**
+     * Calls the specified {@link Consumer} with the error value if this {@link DoubleResult} is {@link Failure}.
+     *
+     * @param onFailure the {@link Consumer} that accepts the error value
+     * @return the same instance
+     */
+    @NotNull DoubleResult<E> inspectError(@NotNull Consumer<? super E> onFailure);
+
+    /**
+     * Recovers the error and creates a new {@link Success} result.
+     * <p>
+     * If this {@link DoubleResult} is {@link Success}, this method does nothing.
+     *
+     * @param onFailure the {@link ToDoubleFunction} recovers the error, and provides the success value
+     * @return the new {@link Success}, or same instance if this {@link DoubleResult} is already {@link Success}
+     */
+    @NotNull DoubleResult<E> recover(@NotNull ToDoubleFunction<? super E> onFailure);
+
+    /**
+     * Unwraps the success value.
+     * <p>
+     * If this {@link DoubleResult} is {@link Failure}, this method throws a {@link NoSuchElementException}.
+     *
+     * @return the success value
+     * @throws NoSuchElementException if this {@link DoubleResult} is {@link Failure}
+     */
+    double unwrap() throws NoSuchElementException;
+
+    /**
+     * Unwraps the success value, or returns the specified {@code defaultValue} if this {@link DoubleResult} is {@link Failure}.
+     *
+     * @param defaultValue the alternative value
+     * @return the success value, or the specified {@code defaultValue} if this {@link DoubleResult} is {@link Failure}
+     */
+    double unwrapOr(double defaultValue);
+
+    /**
+     * Unwraps the success value, or get the value from the specified {@link DoubleSupplier} if this {@link DoubleResult} is {@link Failure}.
+     *
+     * @param supplier the {@link DoubleSupplier} to get the alternative value
+     * @return the success value, or the value supplied by the specified {@link DoubleSupplier} if this {@link DoubleResult} is {@link Failure}
+     */
+    double unwrapOrGet(@NotNull DoubleSupplier supplier);
+
+    /**
+     * Unwraps the error value.
+     * <p>
+     * If this {@link DoubleResult} is {@link Success}, this method throws a {@link NoSuchElementException}.
+     *
+     * @return the error value
+     * @throws NoSuchElementException if this {@link DoubleResult} is {@link Success}
+     */
+    E unwrapError() throws NoSuchElementException;
+
+    /**
+     * Converts this {@link DoubleResult} to {@link Result} by boxing the success value.
+     *
+     * @return the {@link Result} that has the same value or error as this {@link DoubleResult}
+     */
+    @NotNull Result<Double, E> boxed();
+
+    /**
+     * An interface that represents the success {@link DoubleResult}.
+     *
+     * @param <E> the type of the error value
+     */
+    sealed interface Success<E> extends DoubleResult<E> permits DoubleSuccessImpl {
+    }
+
+    /**
+     * An interface that represents the failure {@link DoubleResult}.
+     *
+     * @param <E> the type of the error value
+     */
+    sealed interface Failure<E> extends DoubleResult<E> permits DoubleFailureImpl {
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+record DoubleSuccessImpl<E>(double value) implements DoubleResult.Success<E> {
+
+    @Override
+    public boolean isSuccess() {
+        return true;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return false;
+    }
+
+    @Override
+    public @NotNull OptionalDouble toOptional() {
+        return OptionalDouble.of(this.value);
+    }
+
+    @Override
+    public @NotNull Optional<E> toOptionalError() {
+        return Optional.empty();
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> map(@NotNull DoubleUnaryOperator mapper) {
+        double mapped = mapper.applyAsDouble(this.value);
+        return Double.doubleToRawLongBits(mapped) == Double.doubleToRawLongBits(this.value) ? this : DoubleResult.success(mapped);
+    }
+
+    @Override
+    public @NotNull IntResult<E> mapToInt(@NotNull DoubleToIntFunction mapper) {
+        return IntResult.success(mapper.applyAsInt(this.value));
+    }
+
+    @Override
+    public @NotNull LongResult<E> mapToLong(@NotNull DoubleToLongFunction mapper) {
+        return LongResult.success(mapper.applyAsLong(this.value));
+    }
+
+    @Override
+    public @NotNull <U> Result<U, E> mapToObj(@NotNull DoubleFunction<? extends U> mapper) {
+        return Result.success(mapper.apply(this.value));
+    }
+
+    @Override
+    public @NotNull <O> DoubleResult<O> mapError(@NotNull Function<? super E, ? extends O> mapper) {
+        return this.castError();
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> flatMap(@NotNull DoubleFunction<DoubleResult<E>> onSuccess) {
+        return Objects.requireNonNull(onSuccess.apply(this.value));
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> inspect(@NotNull DoubleConsumer onSuccess) {
+        onSuccess.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> inspectError(@NotNull Consumer<? super E> onFailure) {
+        return this;
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> recover(@NotNull ToDoubleFunction<? super E> onFailure) {
+        return this;
+    }
+
+    @Override
+    public double unwrap() throws NoSuchElementException {
+        return this.value;
+    }
+
+    @Override
+    public double unwrapOr(double defaultValue) {
+        return this.value;
+    }
+
+    @Override
+    public double unwrapOrGet(@NotNull DoubleSupplier supplier) {
+        return this.value;
+    }
+
+    @Override
+    public E unwrapError() throws NoSuchElementException {
+        throw UnwrapExceptions.create("DoubleResult.Success cannot unwrap error.");
+    }
+
+    @Override
+    public @NotNull Result<Double, E> boxed() {
+        return Result.success(this.value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Contract("-> this")
+    private <E2> DoubleResult.@NotNull Success<E2> castError() {
+        return (DoubleResult.Success<E2>) this;
+    }
+}
@@ -33,11 +33,49 @@ record FailureImpl<T, E>(@Nullable E e) implements Result.Failure<T, E> {
     @SuppressWarnings({"rawtypes", "unchecked"})
     private static final FailureImpl INSTANCE = new FailureImpl(null);
 
+    @SuppressWarnings("rawtypes")
+    private static final ClassValue<FailureImpl[]> ENUM_FAILURES = new ClassValue<>() {
+        @Override
+        protected FailureImpl[] computeValue(@NotNull Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            FailureImpl[] failures = new FailureImpl[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                failures[i] = new FailureImpl<>(constants[i]);
+            }
+            return failures;
+        }
+    };
+
     @SuppressWarnings("unchecked")
     static <T, E> @NotNull FailureImpl<T, E> nullFailure() {
         return (FailureImpl<T, E>) INSTANCE;
     }
 
+    /**
+     * Returns the {@link FailureImpl} that holds the specified error.
+     * <p>
+     * If the error is an enum constant, the shared instance that is created for each constant is returned.
+     *
+     * @param e   the error value
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return the shared {@link FailureImpl} if exists, or the new {@link FailureImpl}
+     */
+    @SuppressWarnings("unchecked")
+    static <T, E> @NotNull FailureImpl<T, E> of(@Nullable E e) {
+        ResultEvents.failureCreated(e);
+
+        if (e == null) {
+            return nullFailure();
+        }
+
+        if (e instanceof Enum<?> constant) {
+            return ENUM_FAILURES.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
+
+        return new FailureImpl<>(e);
+    }
+
     @Override
     public boolean isSuccess() {
         return false;
@@ -80,7 +118,8 @@ record FailureImpl<T, E>(@Nullable E e) implements Result.Failure<T, E> {
 
     @Override
     public @NotNull <O> Result<T, O> mapError(@NotNull Function<? super E, ? extends O> mapper) {
-        return Result.failure(mapper.apply(this.e));
+        O mapped = mapper.apply(this.e);
+        return mapped == this.e ? this.castError() : Result.failure(mapped);
     }
 
     @Override
@@ -111,17 +150,21 @@ record FailureImpl<T, E>(@Nullable E e) implements Result.Failure<T, E> {
 
     @Override
     public @NotNull Result<T, E> recover(@NotNull Function<? super E, ? extends T> onFailure) {
-        return Result.success(onFailure.apply(this.e));
+        Result<T, E> result = Result.success(onFailure.apply(this.e));
+        ResultEvents.recovered(this.e, true);
+        return result;
     }
 
     @Override
     public @NotNull <E2> Result<T, E2> tryRecover(@NotNull Function<? super E, Result<T, E2>> onFailure) {
-        return Objects.requireNonNull(onFailure.apply(this.e));
+        Result<T, E2> result = Objects.requireNonNull(onFailure.apply(this.e));
+        ResultEvents.recovered(this.e, result.isSuccess());
+        return result;
     }
 
     @Override
     public T unwrap() throws NoSuchElementException {
-        throw new NoSuchElementException("Result.Failure cannot unwrap value.");
+        throw UnwrapExceptions.create("Result.Failure cannot unwrap value.");
     }
 
     @Override
@@ -134,11 +177,21 @@ record FailureImpl<T, E>(@Nullable E e) implements Result.Failure<T, E> {
         return supplier.get();
     }
 
+    @Override
+    public @Nullable T unwrapOrNull() {
+        return null;
+    }
+
     @Override
     public E unwrapError() throws NoSuchElementException {
         return this.e;
     }
 
+    @Override
+    public @Nullable E unwrapErrorOrNull() {
+        return this.e;
+    }
+
     @Override
     public <E2> Result.@NotNull Success<T, E2> asSuccess() {
         throw new ClassCastException("Result.Failure cannot cast to Result.Success.");
@@ -154,4 +207,10 @@ record FailureImpl<T, E>(@Nullable E e) implements Result.Failure<T, E> {
     private <U> Result.@NotNull Failure<U, E> cast() {
         return (Result.Failure<U, E>) this;
     }
+
+    @SuppressWarnings("unchecked")
+    @Contract("-> this")
+    private <O> Result.@NotNull Failure<T, O> castError() {
+        return (Result.Failure<T, O>) this;
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool that shares the {@link Result.Failure} instances for the equal error values.
+ * <p>
+ * {@link Result#failure(Object)} already shares the instances for the enum constants,
+ * and this class can be used to share the instances for the other error values such as the constant strings or the error codes.
+ * The error values must be immutable, and must implement {@link Object#equals(Object)} and {@link Object#hashCode()} consistently.
+ * <p>
+ * When the pool reaches the maximum size, the new error values are no longer pooled,
+ * and {@link #failure(Object)} creates a new {@link Result.Failure} for them. The pooled instances are never evicted.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <E> the type of the error value
+ */
+public final class FailureInterner<E> {
+
+    /**
+     * Creates a new {@link FailureInterner} that pools up to the specified number of error values.
+     *
+     * @param maximumSize the maximum number of the pooled error values
+     * @param <E>         the type of the error value
+     * @return a new {@link FailureInterner}
+     * @throws IllegalArgumentException if {@code maximumSize} is negative
+     */
+    @Contract("_ -> new")
+    public static <E> @NotNull FailureInterner<E> create(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative.");
+        }
+        return new FailureInterner<>(maximumSize);
+    }
+
+    private final ConcurrentHashMap<E, FailureImpl<?, E>> failures = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maximumSize;
+
+    private FailureInterner(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns a {@link Result.Failure} with the specified error.
+     * <p>
+     * If the equal error value is already pooled, this method returns the pooled instance.
+     * Otherwise, this method pools and returns a new instance if the pool is not full.
+     *
+     * @param error the error value
+     * @param <T>   the type of the success value
+     * @return a {@link Result.Failure} with the specified error
+     * @see Result#failure(Object)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result.@NotNull Failure<T, E> failure(@Nullable E error) {
+        if (error == null || error instanceof Enum<?>) {
+            return Result.failure(error);
+        }
+
+        ResultEvents.failureCreated(error);
+
+        FailureImpl<?, E> pooled = this.failures.get(error);
+
+        if (pooled == null) {
+            pooled = this.pool(error);
+        }
+
+        return (Result.Failure<T, E>) pooled;
+    }
+
+    private @NotNull FailureImpl<?, E> pool(@NotNull E error) {
+        int current;
+        do {
+            current = this.size.get();
+            if (this.maximumSize <= current) {
+                return new FailureImpl<>(error);
+            }
+        } while (!this.size.compareAndSet(current, current + 1));
+
+        FailureImpl<?, E> created = new FailureImpl<>(error);
+        FailureImpl<?, E> existing = this.failures.putIfAbsent(error, created);
+
+        if (existing != null) { // pooled by another thread
+            this.size.decrementAndGet();
+            return existing;
+        }
+
+        return created;
+    }
+
+    /**
+     * Returns the number of the pooled error values.
+     *
+     * @return the number of the pooled error values
+     */
+    public int size() {
+        return this.failures.size();
+    }
+
+    /**
+     * Returns the maximum number of the pooled error values.
+     *
+     * @return the maximum number of the pooled error values
+     */
+    public int maximumSize() {
+        return this.maximumSize;
+    }
+
+    @Override
+    public String toString() {
+        return "FailureInterner{" + "size=" + this.size() + ", maximumSize=" + this.maximumSize + '}';
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Runs {@link Supplier}s of {@link Result} concurrently with the bounded concurrency,
+ * and stops the remaining tasks when a decisive {@link Result} is returned.
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ */
+final class FanOut<T, E> {
+
+    static final Executor VIRTUAL_THREAD_EXECUTOR = command -> Thread.ofVirtual().start(command);
+
+    private final List<? extends Supplier<? extends Result<? extends T, ? extends E>>> tasks;
+    private final int maxConcurrency;
+    private final Executor executor;
+    private final Handler<T, E> handler;
+
+    private final AtomicReferenceArray<FutureTask<?>> futures;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private final AtomicBoolean decided = new AtomicBoolean();
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    private @Nullable Result<? extends T, ? extends E> decisiveResult; // published by done
+    private @Nullable Throwable exception; // published by done
+
+    FanOut(@NotNull List<? extends Supplier<? extends Result<? extends T, ? extends E>>> tasks, int maxConcurrency,
+           @NotNull Executor executor, @NotNull Handler<T, E> handler) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive.");
+        }
+
+        this.tasks = List.copyOf(tasks);
+        this.maxConcurrency = maxConcurrency;
+        this.executor = Objects.requireNonNull(executor);
+        this.handler = handler;
+        this.futures = new AtomicReferenceArray<>(this.tasks.size());
+        this.remaining = new AtomicInteger(this.tasks.size());
+    }
+
+    /**
+     * Runs all tasks and waits for the decisive {@link Result} or the completion of all tasks.
+     *
+     * @return the decisive {@link Result}, or {@code null} if all tasks are completed without the decisive {@link Result}
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws CompletionException  if a task throws an exception or the {@link Executor} rejects a task
+     */
+    @Nullable Result<? extends T, ? extends E> run() throws InterruptedException {
+        if (this.tasks.isEmpty()) {
+            return null;
+        }
+
+        for (int i = 0, initial = Math.min(this.maxConcurrency, this.tasks.size()); i < initial; i++) {
+            this.launchNext();
+        }
+
+        try {
+            this.done.await();
+        } catch (InterruptedException e) {
+            this.decide(-1, null, null);
+            throw e;
+        }
+
+        if (this.exception != null) {
+            throw new CompletionException(this.exception);
+        }
+
+        return this.decisiveResult;
+    }
+
+    private void launchNext() {
+        int index = this.nextIndex.getAndIncrement();
+
+        if (this.tasks.size() <= index || this.decided.get()) {
+            return;
+        }
+
+        FutureTask<Void> future = new FutureTask<>(() -> this.runTask(index), null);
+        this.futures.set(index, future);
+
+        if (this.decided.get()) { // decided while creating the task, it may not be cancelled by decide
+            future.cancel(false);
+            return;
+        }
+
+        try {
+            this.executor.execute(future);
+        } catch (Throwable e) {
+            this.decide(index, null, e);
+        }
+    }
+
+    private void runTask(int index) {
+        Result<? extends T, ? extends E> result;
+
+        try {
+            result = Objects.requireNonNull(this.tasks.get(index).get());
+        } catch (Throwable e) {
+            this.decide(index, null, e);
+            return;
+        }
+
+        if (this.handler.handle(index, result)) {
+            this.decide(index, result, null);
+        } else if (this.remaining.decrementAndGet() == 0) {
+            this.done.countDown();
+        } else {
+            this.launchNext();
+        }
+    }
+
+    private void decide(int index, @Nullable Result<? extends T, ? extends E> result, @Nullable Throwable exception) {
+        if (!this.decided.compareAndSet(false, true)) {
+            return;
+        }
+
+        this.decisiveResult = result;
+        this.exception = exception;
+
+        for (int i = 0, size = this.futures.length(); i < size; i++) {
+            FutureTask<?> future = this.futures.get(i);
+            if (future != null && i != index) { // the task of the index is the current thread
+                future.cancel(true);
+            }
+        }
+
+        this.done.countDown();
+    }
+
+    /**
+     * A handler of the {@link Result} returned from the task.
+     *
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     */
+    @FunctionalInterface
+    interface Handler<T, E> {
+
+        /**
+         * Handles the {@link Result} returned from the task.
+         * <p>
+         * This method may be called concurrently from multiple threads.
+         *
+         * @param index  the index of the task
+         * @param result the {@link Result} returned from the task
+         * @return {@code true} if the {@link Result} is decisive and the remaining tasks should be cancelled
+         */
+        boolean handle(int index, @NotNull Result<? extends T, ? extends E> result);
+
+    }
+}
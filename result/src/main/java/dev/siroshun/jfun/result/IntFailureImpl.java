@@ -0,0 +1,150 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+record IntFailureImpl<E>(@Nullable E e) implements IntResult.Failure<E> {
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final IntFailureImpl INSTANCE = new IntFailureImpl(null);
+
+    @SuppressWarnings("unchecked")
+    static <E> @NotNull IntFailureImpl<E> nullFailure() {
+        return (IntFailureImpl<E>) INSTANCE;
+    }
+
+    /**
+     * Returns the {@link IntFailureImpl} that holds the specified error.
+     *
+     * @param e   the error value
+     * @param <E> the type of the error value
+     * @return the shared {@link IntFailureImpl} if {@code e} is {@code null}, or the new {@link IntFailureImpl}
+     */
+    static <E> @NotNull IntFailureImpl<E> of(@Nullable E e) {
+        ResultEvents.failureCreated(e);
+        return e != null ? new IntFailureImpl<>(e) : nullFailure();
+    }
+
+    @Override
+    public boolean isSuccess() {
+        return false;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return true;
+    }
+
+    @Override
+    public @NotNull OptionalInt toOptional() {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public @NotNull Optional<E> toOptionalError() {
+        return Optional.ofNullable(this.e);
+    }
+
+    @Override
+    public @NotNull IntResult<E> map(@NotNull IntUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public @NotNull LongResult<E> mapToLong(@NotNull IntToLongFunction mapper) {
+        return LongResult.failure(this.e);
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> mapToDouble(@NotNull IntToDoubleFunction mapper) {
+        return DoubleResult.failure(this.e);
+    }
+
+    @Override
+    public @NotNull <U> Result<U, E> mapToObj(@NotNull IntFunction<? extends U> mapper) {
+        return Result.failure(this.e);
+    }
+
+    @Override
+    public @NotNull <O> IntResult<O> mapError(@NotNull Function<? super E, ? extends O> mapper) {
+        return IntResult.failure(mapper.apply(this.e));
+    }
+
+    @Override
+    public @NotNull IntResult<E> flatMap(@NotNull IntFunction<IntResult<E>> onSuccess) {
+        return this;
+    }
+
+    @Override
+    public @NotNull IntResult<E> inspect(@NotNull IntConsumer onSuccess) {
+        return this;
+    }
+
+    @Override
+    public @NotNull IntResult<E> inspectError(@NotNull Consumer<? super E> onFailure) {
+        onFailure.accept(this.e);
+        return this;
+    }
+
+    @Override
+    public @NotNull IntResult<E> recover(@NotNull ToIntFunction<? super E> onFailure) {
+        IntResult<E> result = IntResult.success(onFailure.applyAsInt(this.e));
+        ResultEvents.recovered(this.e, true);
+        return result;
+    }
+
+    @Override
+    public int unwrap() throws NoSuchElementException {
+        throw UnwrapExceptions.create("IntResult.Failure cannot unwrap value.");
+    }
+
+    @Override
+    public int unwrapOr(int defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public int unwrapOrGet(@NotNull IntSupplier supplier) {
+        return supplier.getAsInt();
+    }
+
+    @Override
+    public E unwrapError() throws NoSuchElementException {
+        return this.e;
+    }
+
+    @Override
+    public @NotNull Result<Integer, E> boxed() {
+        return Result.failure(this.e);
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link IntResult} is a primitive specialization of {@link Result} that holds an {@code int} value as the success value.
+ * <p>
+ * Unlike {@code Result<Integer, E>}, {@link Success} of this type stores the value without boxing it.
+ *
+ * @param <E> the type of the error value
+ */
+public sealed interface IntResult<E> permits IntResult.Success, IntResult.Failure {
+
+    /**
+     * Returns a {@link Success} with the specified value.
+     *
+     * @param value the result value
+     * @param <E>   the type of the error value
+     * @return a {@link Success} the specified value
+     */
+    static <E> IntResult.@NotNull Success<E> success(int value) {
+        return new IntSuccessImpl<>(value);
+    }
+
+    /**
+     * Returns a {@link Failure} without value.
+     * <p>
+     * Returning {@link IntResult} has {@code null} as the error.
+     * <p>
+     * This method always returns the same instance.
+     *
+     * @param <E> the type of the error value
+     * @return a {@link Failure} without value
+     */
+    static <E> IntResult.@NotNull Failure<E> failure() {
+        return IntFailureImpl.of(null);
+    }
+
+    /**
+     * Returns a {@link Failure} with the specified error.
+     * <p>
+     * If {@code e} is {@code null}, this method returns {@link #failure()}.
+     *
+     * @param e   the error
+     * @param <E> the type of the error value
+     * @return a {@link Failure} the specified value
+     */
+    static <E> IntResult.@NotNull Failure<E> failure(@Nullable E e) {
+        return IntFailureImpl.of(e);
+    }
+
+    /**
+     * Converts the specified {@link Result} to {@link IntResult}.
+     *
+     * @param result the {@link Result} to convert
+     * @param <E>    the type of the error value
+     * @return the {@link IntResult} that has the same value or error as the specified {@link Result}
+     * @throws NullPointerException if the {@link Result} is {@link Result.Success} and its value is {@code null}
+     */
+    static <E> @NotNull IntResult<E> from(@NotNull Result<Integer, E> result) {
+        return result.isSuccess() ? success(result.unwrap()) : failure(result.unwrapError());
+    }
+
+    /**
+     * Returns {@code true} if this {@link IntResult} is {@link Success}.
+     *
+     * @return {@code true} if this {@link IntResult} is {@link Success}
+     */
+    boolean isSuccess();
+
+    /**
+     * Returns {@code true} if this {@link IntResult} is {@link Failure}.
+     *
+     * @return {@code true} if this {@link IntResult} is {@link Failure}
+     */
+    boolean isFailure();
+
+    /**
+     * Returns the value wrapped by the {@link OptionalInt}.
+     * <p>
+     * If this {@link IntResult} is {@link Failure}, this method returns {@link OptionalInt#empty()}.
+     *
+     * @return the value wrapped by the {@link OptionalInt}
+     */
+    @NotNull OptionalInt toOptional();
+
+    /**
+     * Returns the error wrapped by the {@link Optional}.
+     * <p>
+     * If this {@link IntResult} is {@link Success} or the error of {@link Failure} is {@code null},
+     * this method returns {@link Optional#empty()}.
+     *
+     * @return the error wrapped by the {@link Optional}
+     */
+    @NotNull Optional<E> toOptionalError();
+
+    /**
+     * Maps the value using the specified {@link IntUnaryOperator}.
+     * <p>
+     * If this {@link IntResult} is {@link Failure}, this method does nothing.
+     * <p>
+     * If the {@link IntUnaryOperator} returns the same value, this method returns this instance.
+     *
+     * @param mapper the {@link IntUnaryOperator} converts the value
+     * @return the new {@link Success}, or same instance if this {@link IntResult} is {@link Failure}
+     */
+    @NotNull IntResult<E> map(@NotNull IntUnaryOperator mapper);
+
+    /**
+     * Maps the value from {@code int} to {@code long} using the specified {@link IntToLongFunction}.
+     * <p>
+     * If this {@link IntResult} is {@link Failure}, this method does nothing.
+     *
+     * @param mapper the {@link IntToLongFunction} converts the value
+     * @return the new {@link LongResult.Success}, or {@link LongResult.Failure} with the same error if this {@link IntResult} is {@link Failure}
+     */
+    @NotNull LongResult<E> mapToLong(@NotNull IntToLongFunction mapper);
+
+    /**
+     * Maps the value from {@code int} to {@code double} using the specified {@link IntToDoubleFunction}.
+     * <p>
+     * If this {@link IntResult} is {@link Failure}, this method does nothing.
+     *
+     * @param mapper the {@link IntToDoubleFunction} converts the value
+     * @return the new {@link DoubleResult.Success}, or {@link DoubleResult.Failure} with the same error if this {@link IntResult} is {@link Failure}
+     */
+    @NotNull DoubleResult<E> mapToDouble(@NotNull IntToDoubleFunction mapper);
+
+    /**
+     * Maps the value from {@code int} to {@link U} using the specified {@link IntFunction}.
+     * <p>
+     * If this {@link IntResult} is {@link Failure}, this method does nothing.
+     *
+     * @param mapper the {@link IntFunction} converts the value
+     * @param <U>    the new type of the success value
+     * @return the new {@link Result.Success}, or {@link Result.Failure} with the same error if this {@link IntResult} is {@link Failure}
+     */
+    <U> @NotNull Result<U, E> mapToObj(@NotNull IntFunction<? extends U> mapper);
+
+    /**
+     * Maps the error from {@link E} to {@link O} using the specified {@link Function}.
+     * <p>
+     * If this {@link IntResult} is {@link Success}, this method does nothing.
+     *
+     * @param mapper the {@link Function} converts the value
+     * @param <O>    the new type of the error value
+     * @return the new {@link Failure}, or same instance if this {@link IntResult} is {@link Success}
+     */
+    <O> @NotNull IntResult<O> mapError(@NotNull Function<? super E, ? extends O> mapper);
+
+    /**
+     * Maps and flatten the {@link IntResult} using the specified {@link IntFunction} when this {@link IntResult} is {@link Success}.
+     *
+     * @param onSuccess the {@link IntFunction} processes the success value, then returns new {@link IntResult}
+     * @return the {@link IntResult} returned from {@link IntFunction}
+     * @throws NullPointerException if the {@link IntFunction} returns {@code null} as {@link IntResult}
+     */
+    @NotNull IntResult<E> flatMap(@NotNull IntFunction<IntResult<E>> onSuccess);
+
+    /**
+     * Calls the specified {@link IntConsumer} with the success value if this {@link IntResult} is {@link Success}.
+     *
+     * @param onSuccess the {@link IntConsumer} that accepts the success value
+     * @return the same instance
+     */
+    @NotNull IntResult<E> inspect(@NotNull IntConsumer onSuccess);
+
+    /**
+     * Calls the specified {@link Consumer} with the error value if this {@link IntResult} is {@link Failure}.
+     *
+     * @param onFailure the {@link Consumer} that accepts the error value
+     * @return the same instance
+     */
+    @NotNull IntResult<E> inspectError(@NotNull Consumer<? super E> onFailure);
+
+    /**
+     * Recovers the error and creates a new {@link Success} result.
+     * <p>
+     * If this {@link IntResult} is {@link Success}, this method does nothing.
+     *
+     * @param onFailure the {@link ToIntFunction} recovers the error, and provides the success value
+     * @return the new {@link Success}, or same instance if this {@link IntResult} is already {@link Success}
+     */
+    @NotNull IntResult<E> recover(@NotNull ToIntFunction<? super E> onFailure);
+
+    /**
+     * Unwraps the success value.
+     * <p>
+     * If this {@link IntResult} is {@link Failure}, this method throws a {@link NoSuchElementException}.
+     *
+     * @return the success value
+     * @throws NoSuchElementException if this {@link IntResult} is {@link Failure}
+     */
+    int unwrap() throws NoSuchElementException;
+
+    /**
+     * Unwraps the success value, or returns the specified {@code defaultValue} if this {@link IntResult} is {@link Failure}.
+     *
+     * @param defaultValue the alternative value
+     * @return the success value, or the specified {@code defaultValue} if this {@link IntResult} is {@link Failure}
+     */
+    int unwrapOr(int defaultValue);
+
+    /**
+     * Unwraps the success value, or get the value from the specified {@link IntSupplier} if this {@link IntResult} is {@link Failure}.
+     *
+     * @param supplier the {@link IntSupplier} to get the alternative value
+     * @return the success value, or the value supplied by the specified {@link IntSupplier} if this {@link IntResult} is {@link Failure}
+     */
+    int unwrapOrGet(@NotNull IntSupplier supplier);
+
+    /**
+     * Unwraps the error value.
+     * <p>
+     * If this {@link IntResult} is {@link Success}, this method throws a {@link NoSuchElementException}.
+     *
+     * @return the error value
+     * @throws NoSuchElementException if this {@link IntResult} is {@link Success}
+     */
+    E unwrapError() throws NoSuchElementException;
+
+    /**
+     * Converts this {@link IntResult} to {@link Result} by boxing the success value.
+     *
+     * @return the {@link Result} that has the same value or error as this {@link IntResult}
+     */
+    @NotNull Result<Integer, E> boxed();
+
+    /**
+     * An interface that represents the success {@link IntResult}.
+     *
+     * @param <E> the type of the error value
+     */
+    sealed interface Success<E> extends IntResult<E> permits IntSuccessImpl {
+    }
+
+    /**
+     * An interface that represents the failure {@link IntResult}.
+     *
+     * @param <E> the type of the error value
+     */
+    sealed interface Failure<E> extends IntResult<E> permits IntFailureImpl {
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+record IntSuccessImpl<E>(int value) implements IntResult.Success<E> {
+
+    @Override
+    public boolean isSuccess() {
+        return true;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return false;
+    }
+
+    @Override
+    public @NotNull OptionalInt toOptional() {
+        return OptionalInt.of(this.value);
+    }
+
+    @Override
+    public @NotNull Optional<E> toOptionalError() {
+        return Optional.empty();
+    }
+
+    @Override
+    public @NotNull IntResult<E> map(@NotNull IntUnaryOperator mapper) {
+        int mapped = mapper.applyAsInt(this.value);
+        return mapped == this.value ? this : IntResult.success(mapped);
+    }
+
+    @Override
+    public @NotNull LongResult<E> mapToLong(@NotNull IntToLongFunction mapper) {
+        return LongResult.success(mapper.applyAsLong(this.value));
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> mapToDouble(@NotNull IntToDoubleFunction mapper) {
+        return DoubleResult.success(mapper.applyAsDouble(this.value));
+    }
+
+    @Override
+    public @NotNull <U> Result<U, E> mapToObj(@NotNull IntFunction<? extends U> mapper) {
+        return Result.success(mapper.apply(this.value));
+    }
+
+    @Override
+    public @NotNull <O> IntResult<O> mapError(@NotNull Function<? super E, ? extends O> mapper) {
+        return this.castError();
+    }
+
+    @Override
+    public @NotNull IntResult<E> flatMap(@NotNull IntFunction<IntResult<E>> onSuccess) {
+        return Objects.requireNonNull(onSuccess.apply(this.value));
+    }
+
+    @Override
+    public @NotNull IntResult<E> inspect(@NotNull IntConsumer onSuccess) {
+        onSuccess.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public @NotNull IntResult<E> inspectError(@NotNull Consumer<? super E> onFailure) {
+        return this;
+    }
+
+    @Override
+    public @NotNull IntResult<E> recover(@NotNull ToIntFunction<? super E> onFailure) {
+        return this;
+    }
+
+    @Override
+    public int unwrap() throws NoSuchElementException {
+        return this.value;
+    }
+
+    @Override
+    public int unwrapOr(int defaultValue) {
+        return this.value;
+    }
+
+    @Override
+    public int unwrapOrGet(@NotNull IntSupplier supplier) {
+        return this.value;
+    }
+
+    @Override
+    public E unwrapError() throws NoSuchElementException {
+        throw UnwrapExceptions.create("IntResult.Success cannot unwrap error.");
+    }
+
+    @Override
+    public @NotNull Result<Integer, E> boxed() {
+        return Result.success(this.value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Contract("-> this")
+    private <E2> IntResult.@NotNull Success<E2> castError() {
+        return (IntResult.Success<E2>) this;
+    }
+}
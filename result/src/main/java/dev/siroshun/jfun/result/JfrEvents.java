@@ -0,0 +1,206 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The implementation of {@link ResultEvents} that uses {@code jdk.jfr}.
+ * <p>
+ * This class must be used only through {@link ResultEvents}, which checks that {@code jdk.jfr} is available.
+ */
+final class JfrEvents {
+
+    private static final int SAMPLING = Math.max(1, Integer.getInteger(ResultEvents.SAMPLING_PROPERTY, 1));
+
+    private static final Map<Class<?>, LongAdder> FAILURE_COUNTS = new ConcurrentHashMap<>();
+    private static final AtomicBoolean FAILURE_COUNT_REGISTERED = new AtomicBoolean();
+
+    static void failureCreated(@Nullable Object error) {
+        FailureCreatedEvent event = new FailureCreatedEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+
+        // the periodic event is registered when a recording enables the failure events for the first time
+        if (!FAILURE_COUNT_REGISTERED.get() && FAILURE_COUNT_REGISTERED.compareAndSet(false, true)) {
+            FlightRecorder.addPeriodicEvent(FailureCountEvent.class, JfrEvents::emitFailureCounts);
+        }
+
+        Class<?> errorClass = error != null ? error.getClass() : null;
+
+        if (errorClass != null) {
+            LongAdder counter = FAILURE_COUNTS.get(errorClass);
+            if (counter == null) {
+                counter = FAILURE_COUNTS.computeIfAbsent(errorClass, ignored -> new LongAdder());
+            }
+            counter.increment();
+        }
+
+        if (sampled() && event.shouldCommit()) {
+            event.errorClass = errorClass;
+            event.commit();
+        }
+    }
+
+    static void unwrapFailed(@NotNull String message) {
+        UnwrapFailedEvent event = new UnwrapFailedEvent();
+        if (event.isEnabled() && sampled() && event.shouldCommit()) {
+            event.message = message;
+            event.commit();
+        }
+    }
+
+    static void recovered(@Nullable Object error, boolean recovered) {
+        RecoveredEvent event = new RecoveredEvent();
+        if (event.isEnabled() && sampled() && event.shouldCommit()) {
+            event.errorClass = error != null ? error.getClass() : null;
+            event.recovered = recovered;
+            event.commit();
+        }
+    }
+
+    static @Nullable Object beginRetry(int attempt, @Nullable Object error) {
+        RetryEvent event = new RetryEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.attempt = attempt;
+        event.errorClass = error != null ? error.getClass() : null;
+        event.begin();
+        return event;
+    }
+
+    static void endRetry(@NotNull Object event) {
+        ((RetryEvent) event).commit();
+    }
+
+    static void circuitBreakerTransition(@NotNull CircuitBreaker.State from, @NotNull CircuitBreaker.State to) {
+        CircuitBreakerTransitionEvent event = new CircuitBreakerTransitionEvent();
+        if (event.shouldCommit()) {
+            event.from = from.name();
+            event.to = to.name();
+            event.commit();
+        }
+    }
+
+    private static boolean sampled() {
+        return SAMPLING == 1 || ThreadLocalRandom.current().nextInt(SAMPLING) == 0;
+    }
+
+    private static void emitFailureCounts() {
+        for (var entry : FAILURE_COUNTS.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count != 0) {
+                FailureCountEvent event = new FailureCountEvent();
+                event.errorClass = entry.getKey();
+                event.count = count;
+                event.commit();
+            }
+        }
+    }
+
+    private JfrEvents() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Name(ResultEvents.FAILURE_CREATED)
+    @Label("Result Failure Created")
+    @Description("A Result.Failure is created.")
+    @Category({"jfun", "Result"})
+    @StackTrace
+    static final class FailureCreatedEvent extends Event {
+        @Label("Error Class")
+        Class<?> errorClass;
+    }
+
+    @Name(ResultEvents.FAILURE_COUNT)
+    @Label("Result Failure Count")
+    @Description("The number of the Result.Failures created for the error class since the last emission.")
+    @Category({"jfun", "Result"})
+    @Period("everyChunk")
+    @StackTrace(false)
+    static final class FailureCountEvent extends Event {
+        @Label("Error Class")
+        Class<?> errorClass;
+        @Label("Count")
+        long count;
+    }
+
+    @Name(ResultEvents.UNWRAP_FAILED)
+    @Label("Result Unwrap Failed")
+    @Description("Unwrapping the value or the error that does not exist.")
+    @Category({"jfun", "Result"})
+    @StackTrace
+    static final class UnwrapFailedEvent extends Event {
+        @Label("Message")
+        String message;
+    }
+
+    @Name(ResultEvents.RECOVERED)
+    @Label("Result Recovered")
+    @Description("A Result.Failure is recovered.")
+    @Category({"jfun", "Result"})
+    @StackTrace
+    static final class RecoveredEvent extends Event {
+        @Label("Error Class")
+        Class<?> errorClass;
+        @Label("Recovered")
+        @Description("Whether the recovery returned a success.")
+        boolean recovered;
+    }
+
+    @Name(ResultEvents.RETRY)
+    @Label("Result Retry")
+    @Description("RetryPolicy waits for the next attempt.")
+    @Category({"jfun", "Result"})
+    @StackTrace(false)
+    static final class RetryEvent extends Event {
+        @Label("Attempt")
+        int attempt;
+        @Label("Error Class")
+        Class<?> errorClass;
+    }
+
+    @Name(ResultEvents.CIRCUIT_BREAKER_TRANSITION)
+    @Label("Circuit Breaker Transition")
+    @Description("The state of CircuitBreaker is changed.")
+    @Category({"jfun", "Result"})
+    @StackTrace(false)
+    static final class CircuitBreakerTransitionEvent extends Event {
+        @Label("From")
+        String from;
+        @Label("To")
+        String to;
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link LazyResult} is a {@link Result} that is computed when it is observed for the first time.
+ * <p>
+ * The operations such as {@link #map(Function)} and {@link #flatMap(Function)} do not run anything,
+ * and they only record the computation for the new {@link LazyResult}.
+ * The computation runs when the {@link Result} is observed by the methods such as {@link #get()}, {@link #isSuccess()},
+ * {@link #unwrap()} and {@link #toOptional()}.
+ * <p>
+ * The computation runs at most once even if this {@link LazyResult} is observed from multiple threads at the same time,
+ * and the computed {@link Result} is reused after that.
+ * If the computation throws an exception, the exception is propagated to the caller,
+ * and the computation runs again when this {@link LazyResult} is observed next time.
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ */
+public final class LazyResult<T, E> {
+
+    /**
+     * Creates a {@link LazyResult} that is computed by the specified {@link Supplier}.
+     *
+     * @param supplier the {@link Supplier} that provides the {@link Result}
+     * @param <T>      the type of the success value
+     * @param <E>      the type of the error value
+     * @return a {@link LazyResult} that is computed by the specified {@link Supplier}
+     */
+    @Contract("_ -> new")
+    public static <T, E> @NotNull LazyResult<T, E> of(@NotNull Supplier<? extends Result<T, E>> supplier) {
+        return new LazyResult<>(Objects.requireNonNull(supplier));
+    }
+
+    /**
+     * Creates a {@link LazyResult} that is already computed with the specified {@link Result}.
+     *
+     * @param result the {@link Result}
+     * @param <T>    the type of the success value
+     * @param <E>    the type of the error value
+     * @return a {@link LazyResult} that is already computed with the specified {@link Result}
+     */
+    @Contract("_ -> new")
+    public static <T, E> @NotNull LazyResult<T, E> evaluated(@NotNull Result<T, E> result) {
+        LazyResult<T, E> lazy = new LazyResult<>(null);
+        lazy.result = Objects.requireNonNull(result);
+        return lazy;
+    }
+
+    private static final VarHandle LOCK;
+
+    static {
+        try {
+            LOCK = MethodHandles.lookup().findVarHandle(LazyResult.class, "lock", ReentrantLock.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // created by the first computation, and released after the result is computed
+    // (ReentrantLock instead of synchronized, so the waiting virtual threads do not pin their carriers)
+    private volatile @Nullable ReentrantLock lock;
+    private @Nullable Supplier<? extends Result<T, E>> supplier;
+    private volatile Result<T, E> result;
+
+    private LazyResult(@Nullable Supplier<? extends Result<T, E>> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Returns the {@link Result}, computing it if it is not computed yet.
+     *
+     * @return the {@link Result}
+     * @throws NullPointerException if the {@link Supplier} returns {@code null}
+     */
+    public @NotNull Result<T, E> get() {
+        Result<T, E> result = this.result;
+        return result != null ? result : this.compute();
+    }
+
+    private @NotNull Result<T, E> compute() {
+        ReentrantLock lock = this.lock;
+
+        if (lock == null) {
+            ReentrantLock created = new ReentrantLock();
+            lock = (ReentrantLock) LOCK.compareAndExchange(this, null, created);
+            if (lock == null) {
+                lock = created;
+            }
+        }
+
+        lock.lock();
+        try {
+            Result<T, E> result = this.result;
+
+            if (result == null) {
+                result = Objects.requireNonNull(Objects.requireNonNull(this.supplier).get());
+                this.result = result;
+                this.supplier = null; // the supplier and the captured values are no longer needed
+                this.lock = null; // the threads that see the result do not need the lock
+            }
+
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the {@link Result} is already computed.
+     * <p>
+     * This method does not compute the {@link Result}.
+     *
+     * @return {@code true} if the {@link Result} is already computed
+     */
+    public boolean isEvaluated() {
+        return this.result != null;
+    }
+
+    /**
+     * Checks if the {@link Result} is {@link Result.Success}, computing it if it is not computed yet.
+     *
+     * @return {@code true} if the {@link Result} is {@link Result.Success}, otherwise {@code false}
+     * @see Result#isSuccess()
+     */
+    public boolean isSuccess() {
+        return this.get().isSuccess();
+    }
+
+    /**
+     * Checks if the {@link Result} is {@link Result.Failure}, computing it if it is not computed yet.
+     *
+     * @return {@code true} if the {@link Result} is {@link Result.Failure}, otherwise {@code false}
+     * @see Result#isFailure()
+     */
+    public boolean isFailure() {
+        return this.get().isFailure();
+    }
+
+    /**
+     * Gets the value as {@link Optional}, computing the {@link Result} if it is not computed yet.
+     *
+     * @return the {@link Optional} of the success value, or {@link Optional#empty()} if the {@link Result} is {@link Result.Failure}
+     * @see Result#toOptional()
+     */
+    public @NotNull Optional<T> toOptional() {
+        return this.get().toOptional();
+    }
+
+    /**
+     * Gets the error as {@link Optional}, computing the {@link Result} if it is not computed yet.
+     *
+     * @return the {@link Optional} of the error value, or {@link Optional#empty()} if the {@link Result} is {@link Result.Success}
+     * @see Result#toOptionalError()
+     */
+    public @NotNull Optional<E> toOptionalError() {
+        return this.get().toOptionalError();
+    }
+
+    /**
+     * Gets the success value, computing the {@link Result} if it is not computed yet.
+     *
+     * @return the success value
+     * @throws NoSuchElementException if the {@link Result} is {@link Result.Failure}
+     * @see Result#unwrap()
+     */
+    public T unwrap() {
+        return this.get().unwrap();
+    }
+
+    /**
+     * Gets the success value or the specified default value, computing the {@link Result} if it is not computed yet.
+     *
+     * @param defaultValue the default value
+     * @return the success value, or the default value if the {@link Result} is {@link Result.Failure}
+     * @see Result#unwrapOr(Object)
+     */
+    public T unwrapOr(T defaultValue) {
+        return this.get().unwrapOr(defaultValue);
+    }
+
+    /**
+     * Gets the error value, computing the {@link Result} if it is not computed yet.
+     *
+     * @return the error value
+     * @throws NoSuchElementException if the {@link Result} is {@link Result.Success}
+     * @see Result#unwrapError()
+     */
+    public E unwrapError() {
+        return this.get().unwrapError();
+    }
+
+    /**
+     * Maps the value from {@link T} to {@link U} using the specified {@link Function} when the {@link Result} is computed.
+     *
+     * @param mapper the {@link Function} converts the value
+     * @param <U>    the new type of the success value
+     * @return the new {@link LazyResult}
+     * @see Result#map(Function)
+     */
+    @Contract("_ -> new")
+    public <U> @NotNull LazyResult<U, E> map(@NotNull Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return new LazyResult<>(() -> this.get().map(mapper));
+    }
+
+    /**
+     * Maps the error from {@link E} to {@link O} using the specified {@link Function} when the {@link Result} is computed.
+     *
+     * @param mapper the {@link Function} converts the error
+     * @param <O>    the new type of the error value
+     * @return the new {@link LazyResult}
+     * @see Result#mapError(Function)
+     */
+    @Contract("_ -> new")
+    public <O> @NotNull LazyResult<T, O> mapError(@NotNull Function<? super E, ? extends O> mapper) {
+        Objects.requireNonNull(mapper);
+        return new LazyResult<>(() -> this.get().mapError(mapper));
+    }
+
+    /**
+     * Maps and flatten the {@link Result} using the specified {@link Function} when the {@link Result} is computed and {@link Result.Success}.
+     *
+     * @param onSuccess the {@link Function} processes the success value, then returns new {@link Result}
+     * @param <U>       the new type of the success value
+     * @return the new {@link LazyResult}
+     * @see Result#flatMap(Function)
+     */
+    @Contract("_ -> new")
+    public <U> @NotNull LazyResult<U, E> flatMap(@NotNull Function<? super T, Result<U, E>> onSuccess) {
+        Objects.requireNonNull(onSuccess);
+        return new LazyResult<>(() -> this.get().flatMap(onSuccess));
+    }
+
+    /**
+     * Recovers the error using the specified {@link Function} when the {@link Result} is computed and {@link Result.Failure}.
+     *
+     * @param onFailure the {@link Function} recovers the error, and provides the success value
+     * @return the new {@link LazyResult}
+     * @see Result#recover(Function)
+     */
+    @Contract("_ -> new")
+    public @NotNull LazyResult<T, E> recover(@NotNull Function<? super E, ? extends T> onFailure) {
+        Objects.requireNonNull(onFailure);
+        return new LazyResult<>(() -> this.get().recover(onFailure));
+    }
+
+    /**
+     * Tries recovering the error using the specified {@link Function} when the {@link Result} is computed and {@link Result.Failure}.
+     *
+     * @param onFailure the {@link Function} tries recovering the error, and provides the new {@link Result}
+     * @param <E2>      the new type of the error value
+     * @return the new {@link LazyResult}
+     * @see Result#tryRecover(Function)
+     */
+    @Contract("_ -> new")
+    public <E2> @NotNull LazyResult<T, E2> tryRecover(@NotNull Function<? super E, Result<T, E2>> onFailure) {
+        Objects.requireNonNull(onFailure);
+        return new LazyResult<>(() -> this.get().tryRecover(onFailure));
+    }
+
+    @Override
+    public String toString() {
+        Result<T, E> result = this.result;
+        return "LazyResult{" + (result != null ? "result=" + result : "not evaluated") + '}';
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+record LongFailureImpl<E>(@Nullable E e) implements LongResult.Failure<E> {
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final LongFailureImpl INSTANCE = new LongFailureImpl(null);
+
+    @SuppressWarnings("unchecked")
+    static <E> @NotNull LongFailureImpl<E> nullFailure() {
+        return (LongFailureImpl<E>) INSTANCE;
+    }
+
+    /**
+     * Returns the {@link LongFailureImpl} that holds the specified error.
+     *
+     * @param e   the error value
+     * @param <E> the type of the error value
+     * @return the shared {@link LongFailureImpl} if {@code e} is {@code null}, or the new {@link LongFailureImpl}
+     */
+    static <E> @NotNull LongFailureImpl<E> of(@Nullable E e) {
+        ResultEvents.failureCreated(e);
+        return e != null ? new LongFailureImpl<>(e) : nullFailure();
+    }
+
+    @Override
+    public boolean isSuccess() {
+        return false;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return true;
+    }
+
+    @Override
+    public @NotNull OptionalLong toOptional() {
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public @NotNull Optional<E> toOptionalError() {
+        return Optional.ofNullable(this.e);
+    }
+
+    @Override
+    public @NotNull LongResult<E> map(@NotNull LongUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public @NotNull IntResult<E> mapToInt(@NotNull LongToIntFunction mapper) {
+        return IntResult.failure(this.e);
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> mapToDouble(@NotNull LongToDoubleFunction mapper) {
+        return DoubleResult.failure(this.e);
+    }
+
+    @Override
+    public @NotNull <U> Result<U, E> mapToObj(@NotNull LongFunction<? extends U> mapper) {
+        return Result.failure(this.e);
+    }
+
+    @Override
+    public @NotNull <O> LongResult<O> mapError(@NotNull Function<? super E, ? extends O> mapper) {
+        return LongResult.failure(mapper.apply(this.e));
+    }
+
+    @Override
+    public @NotNull LongResult<E> flatMap(@NotNull LongFunction<LongResult<E>> onSuccess) {
+        return this;
+    }
+
+    @Override
+    public @NotNull LongResult<E> inspect(@NotNull LongConsumer onSuccess) {
+        return this;
+    }
+
+    @Override
+    public @NotNull LongResult<E> inspectError(@NotNull Consumer<? super E> onFailure) {
+        onFailure.accept(this.e);
+        return this;
+    }
+
+    @Override
+    public @NotNull LongResult<E> recover(@NotNull ToLongFunction<? super E> onFailure) {
+        LongResult<E> result = LongResult.success(onFailure.applyAsLong(this.e));
+        ResultEvents.recovered(this.e, true);
+        return result;
+    }
+
+    @Override
+    public long unwrap() throws NoSuchElementException {
+        throw UnwrapExceptions.create("LongResult.Failure cannot unwrap value.");
+    }
+
+    @Override
+    public long unwrapOr(long defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public long unwrapOrGet(@NotNull LongSupplier supplier) {
+        return supplier.getAsLong();
+    }
+
+    @Override
+    public E unwrapError() throws NoSuchElementException {
+        return this.e;
+    }
+
+    @Override
+    public @NotNull Result<Long, E> boxed() {
+        return Result.failure(this.e);
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link LongResult} is a primitive specialization of {@link Result} that holds a {@code long} value as the success value.
+ * <p>
+ * Unlike {@code Result<Long, E>}, {@link Success} of this type stores the value without boxing it.
+ *
+ * @param <E> the type of the error value
+ */
+public sealed interface LongResult<E> permits LongResult.Success, LongResult.Failure {
+
+    /**
+     * Returns a {@link Success} with the specified value.
+     *
+     * @param value the result value
+     * @param <E>   the type of the error value
+     * @return a {@link Success} the specified value
+     */
+    static <E> LongResult.@NotNull Success<E> success(long value) {
+        return new LongSuccessImpl<>(value);
+    }
+
+    /**
+     * Returns a {@link Failure} without value.
+     * <p>
+     * Returning {@link LongResult} has {@code null} as the error.
+     * <p>
+     * This method always returns the same instance.
+     *
+     * @param <E> the type of the error value
+     * @return a {@link Failure} without value
+     */
+    static <E> LongResult.@NotNull Failure<E> failure() {
+        return LongFailureImpl.of(null);
+    }
+
+    /**
+     * Returns a {@link Failure} with the specified error.
+     * <p>
+     * If {@code e} is {@code null}, this method returns {@link #failure()}.
+     *
+     * @param e   the error
+     * @param <E> the type of the error value
+     * @return a {@link Failure} the specified value
+     */
+    static <E> LongResult.@NotNull Failure<E> failure(@Nullable E e) {
+        return LongFailureImpl.of(e);
+    }
+
+    /**
+     * Converts the specified {@link Result} to {@link LongResult}.
+     *
+     * @param result the {@link Result} to convert
+     * @param <E>    the type of the error value
+     * @return the {@link LongResult} that has the same value or error as the specified {@link Result}
+     * @throws NullPointerException if the {@link Result} is {@link Result.Success} and its value is {@code null}
+     */
+    static <E> @NotNull LongResult<E> from(@NotNull Result<Long, E> result) {
+        return result.isSuccess() ? success(result.unwrap()) : failure(result.unwrapError());
+    }
+
+    /**
+     * Returns {@code true} if this {@link LongResult} is {@link Success}.
+     *
+     * @return {@code true} if this {@link LongResult} is {@link Success}
+     */
+    boolean isSuccess();
+
+    /**
+     * Returns {@code true} if this {@link LongResult} is {@link Failure}.
+     *
+     * @return {@code true} if this {@link LongResult} is {@link Failure}
+     */
+    boolean isFailure();
+
+    /**
+     * Returns the value wrapped by the {@link OptionalLong}.
+     * <p>
+     * If this {@link LongResult} is {@link Failure}, this method returns {@link OptionalLong#empty()}.
+     *
+     * @return the value wrapped by the {@link OptionalLong}
+     */
+    @NotNull OptionalLong toOptional();
+
+    /**
+     * Returns the error wrapped by the {@link Optional}.
+     * <p>
+     * If this {@link LongResult} is {@link Success} or the error of {@link Failure} is {@code null},
+     * this method returns {@link Optional#empty()}.
+     *
+     * @return the error wrapped by the {@link Optional}
+     */
+    @NotNull Optional<E> toOptionalError();
+
+    /**
+     * Maps the value using the specified {@link LongUnaryOperator}.
+     * <p>
+     * If this {@link LongResult} is {@link Failure}, this method does nothing.
+     * <p>
+     * If the {@link LongUnaryOperator} returns the same value, this method returns this instance.
+     *
+     * @param mapper the {@link LongUnaryOperator} converts the value
+     * @return the new {@link Success}, or same instance if this {@link LongResult} is {@link Failure}
+     */
+    @NotNull LongResult<E> map(@NotNull LongUnaryOperator mapper);
+
+    /**
+     * Maps the value from {@code long} to {@code int} using the specified {@link LongToIntFunction}.
+     * <p>
+     * If this {@link LongResult} is {@link Failure}, this method does nothing.
+     *
+     * @param mapper the {@link LongToIntFunction} converts the value
+     * @return the new {@link IntResult.Success}, or {@link IntResult.Failure} with the same error if this {@link LongResult} is {@link Failure}
+     */
+    @NotNull IntResult<E> mapToInt(@NotNull LongToIntFunction mapper);
+
+    /**
+     * Maps the value from {@code long} to {@code double} using the specified {@link LongToDoubleFunction}.
+     * <p>
+     * If this {@link LongResult} is {@link Failure}, this method does nothing.
+     *
+     * @param mapper the {@link LongToDoubleFunction} converts the value
+     * @return the new {@link DoubleResult.Success}, or {@link DoubleResult.Failure} with the same error if this {@link LongResult} is {@link Failure}
+     */
+    @NotNull DoubleResult<E> mapToDouble(@NotNull LongToDoubleFunction mapper);
+
+    /**
+     * Maps the value from {@code long} to {@link U} using the specified {@link LongFunction}.
+     * <p>
+     * If this {@link LongResult} is {@link Failure}, this method does nothing.
+     *
+     * @param mapper the {@link LongFunction} converts the value
+     * @param <U>    the new type of the success value
+     * @return the new {@link Result.Success}, or {@link Result.Failure} with the same error if this {@link LongResult} is {@link Failure}
+     */
+    <U> @NotNull Result<U, E> mapToObj(@NotNull LongFunction<? extends U> mapper);
+
+    /**
+     * Maps the error from {@link E} to {@link O} using the specified {@link Function}.
+     * <p>
+     * If this {@link LongResult} is {@link Success}, this method does nothing.
+     *
+     * @param mapper the {@link Function} converts the value
+     * @param <O>    the new type of the error value
+     * @return the new {@link Failure}, or same instance if this {@link LongResult} is {@link Success}
+     */
+    <O> @NotNull LongResult<O> mapError(@NotNull Function<? super E, ? extends O> mapper);
+
+    /**
+     * Maps and flatten the {@link LongResult} using the specified {@link LongFunction} when this {@link LongResult} is {@link Success}.
+     *
+     * @param onSuccess the {@link LongFunction} processes the success value, then returns new {@link LongResult}
+     * @return the {@link LongResult} returned from {@link LongFunction}
+     * @throws NullPointerException if the {@link LongFunction} returns {@code null} as {@link LongResult}
+     */
+    @NotNull LongResult<E> flatMap(@NotNull LongFunction<LongResult<E>> onSuccess);
+
+    /**
+     * Calls the specified {@link LongConsumer} with the success value if this {@link LongResult} is {@link Success}.
+     *
+     * @param onSuccess the {@link LongConsumer} that accepts the success value
+     * @return the same instance
+     */
+    @NotNull LongResult<E> inspect(@NotNull LongConsumer onSuccess);
+
+    /**
+     * Calls the specified {@link Consumer} with the error value if this {@link LongResult} is {@link Failure}.
+     *
+     * @param onFailure the {@link Consumer} that accepts the error value
+     * @return the same instance
+     */
+    @NotNull LongResult<E> inspectError(@NotNull Consumer<? super E> onFailure);
+
+    /**
+     * Recovers the error and creates a new {@link Success} result.
+     * <p>
+     * If this {@link LongResult} is {@link Success}, this method does nothing.
+     *
+     * @param onFailure the {@link ToLongFunction} recovers the error, and provides the success value
+     * @return the new {@link Success}, or same instance if this {@link LongResult} is already {@link Success}
+     */
+    @NotNull LongResult<E> recover(@NotNull ToLongFunction<? super E> onFailure);
+
+    /**
+     * Unwraps the success value.
+     * <p>
+     * If this {@link LongResult} is {@link Failure}, this method throws a {@link NoSuchElementException}.
+     *
+     * @return the success value
+     * @throws NoSuchElementException if this {@link LongResult} is {@link Failure}
+     */
+    long unwrap() throws NoSuchElementException;
+
+    /**
+     * Unwraps the success value, or returns the specified {@code defaultValue} if this {@link LongResult} is {@link Failure}.
+     *
+     * @param defaultValue the alternative value
+     * @return the success value, or the specified {@code defaultValue} if this {@link LongResult} is {@link Failure}
+     */
+    long unwrapOr(long defaultValue);
+
+    /**
+     * Unwraps the success value, or get the value from the specified {@link LongSupplier} if this {@link LongResult} is {@link Failure}.
+     *
+     * @param supplier the {@link LongSupplier} to get the alternative value
+     * @return the success value, or the value supplied by the specified {@link LongSupplier} if this {@link LongResult} is {@link Failure}
+     */
+    long unwrapOrGet(@NotNull LongSupplier supplier);
+
+    /**
+     * Unwraps the error value.
+     * <p>
+     * If this {@link LongResult} is {@link Success}, this method throws a {@link NoSuchElementException}.
+     *
+     * @return the error value
+     * @throws NoSuchElementException if this {@link LongResult} is {@link Success}
+     */
+    E unwrapError() throws NoSuchElementException;
+
+    /**
+     * Converts this {@link LongResult} to {@link Result} by boxing the success value.
+     *
+     * @return the {@link Result} that has the same value or error as this {@link LongResult}
+     */
+    @NotNull Result<Long, E> boxed();
+
+    /**
+     * An interface that represents the success {@link LongResult}.
+     *
+     * @param <E> the type of the error value
+     */
+    sealed interface Success<E> extends LongResult<E> permits LongSuccessImpl {
+    }
+
+    /**
+     * An interface that represents the failure {@link LongResult}.
+     *
+     * @param <E> the type of the error value
+     */
+    sealed interface Failure<E> extends LongResult<E> permits LongFailureImpl {
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+record LongSuccessImpl<E>(long value) implements LongResult.Success<E> {
+
+    @Override
+    public boolean isSuccess() {
+        return true;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return false;
+    }
+
+    @Override
+    public @NotNull OptionalLong toOptional() {
+        return OptionalLong.of(this.value);
+    }
+
+    @Override
+    public @NotNull Optional<E> toOptionalError() {
+        return Optional.empty();
+    }
+
+    @Override
+    public @NotNull LongResult<E> map(@NotNull LongUnaryOperator mapper) {
+        long mapped = mapper.applyAsLong(this.value);
+        return mapped == this.value ? this : LongResult.success(mapped);
+    }
+
+    @Override
+    public @NotNull IntResult<E> mapToInt(@NotNull LongToIntFunction mapper) {
+        return IntResult.success(mapper.applyAsInt(this.value));
+    }
+
+    @Override
+    public @NotNull DoubleResult<E> mapToDouble(@NotNull LongToDoubleFunction mapper) {
+        return DoubleResult.success(mapper.applyAsDouble(this.value));
+    }
+
+    @Override
+    public @NotNull <U> Result<U, E> mapToObj(@NotNull LongFunction<? extends U> mapper) {
+        return Result.success(mapper.apply(this.value));
+    }
+
+    @Override
+    public @NotNull <O> LongResult<O> mapError(@NotNull Function<? super E, ? extends O> mapper) {
+        return this.castError();
+    }
+
+    @Override
+    public @NotNull LongResult<E> flatMap(@NotNull LongFunction<LongResult<E>> onSuccess) {
+        return Objects.requireNonNull(onSuccess.apply(this.value));
+    }
+
+    @Override
+    public @NotNull LongResult<E> inspect(@NotNull LongConsumer onSuccess) {
+        onSuccess.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public @NotNull LongResult<E> inspectError(@NotNull Consumer<? super E> onFailure) {
+        return this;
+    }
+
+    @Override
+    public @NotNull LongResult<E> recover(@NotNull ToLongFunction<? super E> onFailure) {
+        return this;
+    }
+
+    @Override
+    public long unwrap() throws NoSuchElementException {
+        return this.value;
+    }
+
+    @Override
+    public long unwrapOr(long defaultValue) {
+        return this.value;
+    }
+
+    @Override
+    public long unwrapOrGet(@NotNull LongSupplier supplier) {
+        return this.value;
+    }
+
+    @Override
+    public E unwrapError() throws NoSuchElementException {
+        throw UnwrapExceptions.create("LongResult.Success cannot unwrap error.");
+    }
+
+    @Override
+    public @NotNull Result<Long, E> boxed() {
+        return Result.success(this.value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Contract("-> this")
+    private <E2> LongResult.@NotNull Success<E2> castError() {
+        return (LongResult.Success<E2>) this;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+record MultiInvalidImpl<T, E>(@NotNull List<E> errors) implements Validation.Invalid<T, E> {
+
+    /**
+     * Creates a {@link MultiInvalidImpl} that holds the copy of the specified errors.
+     *
+     * @param errors the {@link List} of the error values, that must have two or more errors
+     * @param <T>    the type of the valid value
+     * @param <E>    the type of the error value
+     * @return a new {@link MultiInvalidImpl}
+     */
+    @SuppressWarnings("unchecked")
+    static <T, E> @NotNull MultiInvalidImpl<T, E> copyOf(@NotNull List<? extends E> errors) {
+        return wrap((E[]) errors.toArray());
+    }
+
+    /**
+     * Creates a {@link MultiInvalidImpl} that holds the specified array without copying it.
+     *
+     * @param errors the array of the error values, that must have two or more errors
+     * @param <T>    the type of the valid value
+     * @param <E>    the type of the error value
+     * @return a new {@link MultiInvalidImpl}
+     */
+    static <T, E> @NotNull MultiInvalidImpl<T, E> wrap(E @NotNull [] errors) {
+        return new MultiInvalidImpl<>(Collections.unmodifiableList(Arrays.asList(errors)));
+    }
+
+    @Override
+    public boolean isValid() {
+        return false;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return true;
+    }
+
+    @Override
+    public T unwrap() throws NoSuchElementException {
+        throw UnwrapExceptions.create("Validation.Invalid cannot unwrap value.");
+    }
+
+    @Override
+    public int errorCount() {
+        return this.errors.size();
+    }
+
+    @Override
+    public void forEachError(@NotNull Consumer<? super E> consumer) {
+        for (int i = 0, size = this.errors.size(); i < size; i++) {
+            consumer.accept(this.errors.get(i));
+        }
+    }
+
+    @Override
+    public @NotNull <U> Validation<U, E> map(@NotNull Function<? super T, ? extends U> mapper) {
+        return this.cast();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull <O> Validation<T, O> mapError(@NotNull Function<? super E, ? extends O> mapper) {
+        Object[] mapped = new Object[this.errors.size()];
+        for (int i = 0; i < mapped.length; i++) {
+            mapped[i] = mapper.apply(this.errors.get(i));
+        }
+        return wrap((O[]) mapped);
+    }
+
+    @Override
+    public @NotNull <U> Validation<U, E> flatMap(@NotNull Function<? super T, ? extends Validation<U, E>> mapper) {
+        return this.cast();
+    }
+
+    @Override
+    public @NotNull Result<T, List<E>> toResult() {
+        return Result.failure(this.errors);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Contract("-> this")
+    private <U> Validation.@NotNull Invalid<U, E> cast() {
+        return (Validation.Invalid<U, E>) this;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * A state of {@link Results#traverseParallel(java.util.concurrent.ForkJoinPool, Object[], Function)}.
+ *
+ * @param <T> the type of the input
+ * @param <E> the type of the error value
+ */
+final class ParallelTraversal<T, E> {
+
+    private final T[] inputs;
+    private final Object[] outputs;
+    private final Function<? super T, ? extends Result<?, ? extends E>> function;
+    private final int threshold;
+
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private E error; // published to the caller by the completion of the fork/join task
+
+    ParallelTraversal(@NotNull T[] inputs, @NotNull Object[] outputs,
+                      @NotNull Function<? super T, ? extends Result<?, ? extends E>> function, int parallelism) {
+        this.inputs = inputs;
+        this.outputs = outputs;
+        this.function = function;
+        // splits the inputs into about 4 chunks per worker to balance the load
+        this.threshold = Math.max(1, inputs.length / (Math.max(1, parallelism) << 2));
+    }
+
+    @NotNull RecursiveAction createTask() {
+        return new Task(0, this.inputs.length);
+    }
+
+    boolean isFailed() {
+        return this.failed.get();
+    }
+
+    E error() {
+        return this.error;
+    }
+
+    private void processRange(int from, int to) {
+        T[] inputs = this.inputs;
+        Object[] outputs = this.outputs;
+        Function<? super T, ? extends Result<?, ? extends E>> function = this.function;
+
+        for (int i = from; i < to; i++) {
+            if (this.failed.get()) {
+                return;
+            }
+
+            Result<?, ? extends E> result = Objects.requireNonNull(function.apply(inputs[i]));
+
+            if (result.isSuccess()) {
+                outputs[i] = result.unwrap();
+            } else {
+                this.fail(result.unwrapError());
+                return;
+            }
+        }
+    }
+
+    private void fail(E error) {
+        if (this.failed.compareAndSet(false, true)) {
+            this.error = error;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class Task extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        private Task(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (ParallelTraversal.this.failed.get()) {
+                return;
+            }
+
+            if (this.to - this.from <= ParallelTraversal.this.threshold) {
+                ParallelTraversal.this.processRange(this.from, this.to);
+                return;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new Task(this.from, middle), new Task(middle, this.to));
+        }
+    }
+}
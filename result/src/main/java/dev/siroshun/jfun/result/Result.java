@@ -17,6 +17,7 @@
 
 package dev.siroshun.jfun.result;
 
+import dev.siroshun.jfun.function.ThrowingSupplier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -53,6 +54,10 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      * Returns a {@link Success} with the specified value.
      * <p>
      * If {@code value} is {@code null}, this method returns {@link #success()}.
+     * <p>
+     * If {@code value} is a canonical instance such as {@link Boolean#TRUE}, {@link Boolean#FALSE},
+     * the {@link Integer} cached by {@link Integer#valueOf(int)}, the empty string literal or the empty immutable collection,
+     * this method returns the shared instance instead of creating a new one.
      *
      * @param value the result value
      * @param <T>   the type of the success value
@@ -60,7 +65,7 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      * @return a {@link Success} the specified value
      */
     static <T, E> Result.@NotNull Success<T, E> success(@Nullable T value) {
-        return value != null ? new SuccessImpl<>(value) : SuccessImpl.nullSuccess();
+        return SuccessImpl.of(value);
     }
 
     /**
@@ -75,13 +80,16 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      * @return a {@link Failure} without value
      */
     static <T, E> Result.@NotNull Failure<T, E> failure() {
-        return FailureImpl.nullFailure();
+        return FailureImpl.of(null);
     }
 
     /**
      * Returns a {@link Failure} with the specified error.
      * <p>
      * If {@code value} is {@code null}, this method returns {@link #failure()}.
+     * <p>
+     * If {@code e} is an enum constant, this method returns the shared instance that is created for each constant.
+     * To share the instances of the other error values, use {@link FailureInterner}.
      *
      * @param e   the error
      * @param <T> the type of the success value
@@ -89,7 +97,54 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      * @return a {@link Failure} the specified value
      */
     static <T, E> Result.@NotNull Failure<T, E> failure(@Nullable E e) {
-        return e != null ? new FailureImpl<>(e) : FailureImpl.nullFailure();
+        return FailureImpl.of(e);
+    }
+
+    /**
+     * Calls the specified {@link ThrowingSupplier}, and returns its result as {@link Result}.
+     * <p>
+     * If the {@link ThrowingSupplier} throws an {@link Exception}, this method returns {@link Failure} of it.
+     * If the thrown exception is {@link InterruptedException}, the interrupt status of the current thread is restored.
+     * {@link Error}s are not caught.
+     *
+     * @param supplier the {@link ThrowingSupplier} to call
+     * @param <T>      the type of the success value
+     * @return the {@link Success} of the supplied value, or the {@link Failure} of the thrown {@link Exception}
+     */
+    static <T> @NotNull Result<T, Exception> catching(@NotNull ThrowingSupplier<? extends T> supplier) {
+        return catching(supplier, Function.identity());
+    }
+
+    /**
+     * Calls the specified {@link ThrowingSupplier}, and returns its result as {@link Result}.
+     * <p>
+     * If the {@link ThrowingSupplier} throws an {@link Exception}, this method converts it to the error value using {@code onException},
+     * and returns {@link Failure} of the error value.
+     * Converting the {@link Exception} to a small value such as an enum constant avoids retaining the stack trace of the {@link Exception}.
+     * <p>
+     * If the thrown exception is {@link InterruptedException}, the interrupt status of the current thread is restored.
+     * {@link Error}s are not caught.
+     *
+     * @param supplier    the {@link ThrowingSupplier} to call
+     * @param onException the {@link Function} to convert the thrown {@link Exception} to the error value
+     * @param <T>         the type of the success value
+     * @param <E>         the type of the error value
+     * @return the {@link Success} of the supplied value, or the {@link Failure} of the error value
+     */
+    static <T, E> @NotNull Result<T, E> catching(@NotNull ThrowingSupplier<? extends T> supplier,
+                                                 @NotNull Function<? super Exception, ? extends E> onException) {
+        T value;
+
+        try {
+            value = supplier.get();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return failure(onException.apply(e));
+        }
+
+        return success(value);
     }
 
     /**
@@ -130,6 +185,8 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      * Maps the value from {@link T} to {@link U} using the specified {@link Function}.
      * <p>
      * If this {@link Result} is {@link Failure}, this method does nothing.
+     * <p>
+     * If the {@link Function} returns the same instance as the current value, this method returns this instance.
      *
      * @param mapper the {@link Function} converts the value
      * @param <U>    the new type of the success value
@@ -173,6 +230,8 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      * Maps the error from {@link E} to {@link O} using the specified {@link Function}.
      * <p>
      * If this {@link Result} is {@link Success}, this method does nothing.
+     * <p>
+     * If the {@link Function} returns the same instance as the current error, this method returns this instance.
      *
      * @param mapper the {@link Function} converts the value
      * @param <O>    the new type of the error value
@@ -254,6 +313,10 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      * Unwraps the success value.
      * <p>
      * If this {@link Result} is {@link Failure}, this method throws a {@link NoSuchElementException}.
+     * <p>
+     * If the system property {@code dev.siroshun.jfun.result.stacklessExceptions} is {@code true},
+     * the thrown {@link NoSuchElementException} does not have the stack trace.
+     * To avoid creating the exception at all, use {@link #unwrapOrNull()} instead.
      *
      * @return the success value
      * @throws NoSuchElementException if this {@link Result} is {@link Failure}
@@ -276,16 +339,38 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      */
     T unwrapOrGet(@NotNull Supplier<? extends T> supplier);
 
+    /**
+     * Unwraps the success value, or returns {@code null} if this {@link Result} is {@link Failure}.
+     * <p>
+     * Note that this method also returns {@code null} if this {@link Result} is {@link Success} of {@code null}.
+     *
+     * @return the success value, or {@code null} if this {@link Result} is {@link Failure}
+     */
+    @Nullable T unwrapOrNull();
+
     /**
      * Unwraps the error value.
      * <p>
      * If this {@link Result} is {@link Success}, this method throws a {@link NoSuchElementException}.
+     * <p>
+     * If the system property {@code dev.siroshun.jfun.result.stacklessExceptions} is {@code true},
+     * the thrown {@link NoSuchElementException} does not have the stack trace.
+     * To avoid creating the exception at all, use {@link #unwrapErrorOrNull()} instead.
      *
      * @return the error value
      * @throws NoSuchElementException if this {@link Result} is {@link Failure}
      */
     E unwrapError() throws NoSuchElementException;
 
+    /**
+     * Unwraps the error value, or returns {@code null} if this {@link Result} is {@link Success}.
+     * <p>
+     * Note that this method also returns {@code null} if this {@link Result} is {@link Failure} of {@code null}.
+     *
+     * @return the error value, or {@code null} if this {@link Result} is {@link Success}
+     */
+    @Nullable E unwrapErrorOrNull();
+
     /**
      * Casts this result to {@link Result.Success}.
      * <p>
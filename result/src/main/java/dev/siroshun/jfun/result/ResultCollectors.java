@@ -0,0 +1,186 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The class that provides {@link Collector}s and methods to aggregate {@link Result}s in a {@link Stream}.
+ * <p>
+ * All {@link Collector}s provided by this class can be used with parallel {@link Stream}s.
+ */
+public final class ResultCollectors {
+
+    /**
+     * Returns a {@link Collector} that partitions {@link Result}s into the success values and the error values in a single pass.
+     * <p>
+     * There are no guarantees on the type, mutability, serializability, or thread-safety of the returned {@link List}s.
+     *
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a {@link Collector} that partitions {@link Result}s
+     */
+    public static <T, E> @NotNull Collector<Result<? extends T, ? extends E>, ?, Partition<T, E>> partitioning() {
+        return partitioning(10, 10);
+    }
+
+    /**
+     * Returns a {@link Collector} that partitions {@link Result}s into the success values and the error values in a single pass,
+     * using the {@link List}s that have the specified initial capacities.
+     * <p>
+     * The initial capacities are applied to every intermediate container, so this method should be used for sequential {@link Stream}s
+     * whose size is known in advance.
+     * <p>
+     * There are no guarantees on the type, mutability, serializability, or thread-safety of the returned {@link List}s.
+     *
+     * @param successCapacity the initial capacity of the {@link List} of the success values
+     * @param failureCapacity the initial capacity of the {@link List} of the error values
+     * @param <T>             the type of the success value
+     * @param <E>             the type of the error value
+     * @return a {@link Collector} that partitions {@link Result}s
+     * @throws IllegalArgumentException if {@code successCapacity} or {@code failureCapacity} is negative
+     */
+    public static <T, E> @NotNull Collector<Result<? extends T, ? extends E>, ?, Partition<T, E>> partitioning(int successCapacity, int failureCapacity) {
+        if (successCapacity < 0 || failureCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative.");
+        }
+
+        return Collector.<Result<? extends T, ? extends E>, Partition<T, E>>of(
+            () -> new Partition<>(new ArrayList<>(successCapacity), new ArrayList<>(failureCapacity)),
+            Partition::add,
+            Partition::merge
+        );
+    }
+
+    /**
+     * Returns a {@link Collector} that collects the success values into a {@link List} wrapped by {@link Result.Success},
+     * or returns the first {@link Result.Failure} in encounter order.
+     * <p>
+     * The {@link Result}s after the first {@link Result.Failure} are consumed but ignored.
+     * To stop consuming the {@link Stream} at the first {@link Result.Failure}, use {@link #sequence(Stream)}.
+     * <p>
+     * There are no guarantees on the type, mutability, serializability, or thread-safety of the returned {@link List}.
+     *
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     * @return a {@link Collector} that collects the success values
+     */
+    public static <T, E> @NotNull Collector<Result<? extends T, ? extends E>, ?, Result<List<T>, E>> sequence() {
+        return Collector.<Result<? extends T, ? extends E>, Sequence<T, E>, Result<List<T>, E>>of(
+            Sequence::new,
+            Sequence::add,
+            Sequence::merge,
+            Sequence::toResult
+        );
+    }
+
+    /**
+     * Collects the success values of the specified {@link Stream} into a {@link List} wrapped by {@link Result.Success},
+     * or returns a {@link Result.Failure} as soon as it is found.
+     * <p>
+     * Unlike {@link #sequence()}, this method stops consuming the {@link Stream} when the {@link Result.Failure} is found.
+     * If the {@link Stream} is sequential, the returned {@link Result.Failure} is the first one in encounter order.
+     * If the {@link Stream} is parallel, all workers stop at the {@link Result.Failure} found first,
+     * so the returned {@link Result.Failure} may not be the first one in encounter order.
+     *
+     * @param stream the {@link Stream} of {@link Result}s
+     * @param <T>    the type of the success value
+     * @param <E>    the type of the error value
+     * @return the {@link Result.Success} of the {@link List} of the success values, or the found {@link Result.Failure}
+     */
+    public static <T, E> @NotNull Result<List<T>, E> sequence(@NotNull Stream<? extends Result<? extends T, ? extends E>> stream) {
+        Spliterator<Result<? extends T, ? extends E>> spliterator = new ShortCircuitingSpliterator<>(stream.spliterator());
+        try (Stream<Result<? extends T, ? extends E>> shortCircuiting = StreamSupport.stream(spliterator, stream.isParallel()).onClose(stream::close)) {
+            return shortCircuiting.collect(sequence());
+        }
+    }
+
+    /**
+     * A record that holds the partitioned success values and error values.
+     *
+     * @param successes the {@link List} of the success values
+     * @param failures  the {@link List} of the error values
+     * @param <T>       the type of the success value
+     * @param <E>       the type of the error value
+     */
+    public record Partition<T, E>(@NotNull List<T> successes, @NotNull List<E> failures) {
+
+        private void add(@NotNull Result<? extends T, ? extends E> result) {
+            if (result.isSuccess()) {
+                this.successes.add(result.unwrap());
+            } else {
+                this.failures.add(result.unwrapError());
+            }
+        }
+
+        private @NotNull Partition<T, E> merge(@NotNull Partition<T, E> other) {
+            this.successes.addAll(other.successes);
+            this.failures.addAll(other.failures);
+            return this;
+        }
+    }
+
+    private static final class Sequence<T, E> {
+
+        private final List<T> values = new ArrayList<>();
+        private boolean failed;
+        private E error;
+
+        private void add(@NotNull Result<? extends T, ? extends E> result) {
+            if (this.failed) {
+                return;
+            }
+
+            if (result.isSuccess()) {
+                this.values.add(result.unwrap());
+            } else {
+                this.failed = true;
+                this.error = result.unwrapError();
+                this.values.clear();
+            }
+        }
+
+        private @NotNull Sequence<T, E> merge(@NotNull Sequence<T, E> other) {
+            if (this.failed) {
+                return this;
+            }
+
+            if (other.failed) {
+                return other;
+            }
+
+            this.values.addAll(other.values);
+            return this;
+        }
+
+        private @NotNull Result<List<T>, E> toResult() {
+            return this.failed ? Result.failure(this.error) : Result.success(this.values);
+        }
+    }
+
+    private ResultCollectors() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * The Java Flight Recorder events emitted by this module.
+ * <p>
+ * All events are disabled by default, and they can be enabled by the JFR settings using their names:
+ * <ul>
+ *     <li>{@value #FAILURE_CREATED}: emitted when a failure is created by the factory methods such as {@link Result#failure(Object)},
+ *     {@link IntResult#failure(Object)} and {@link FailureInterner#failure(Object)}, with the stack trace.
+ *     The shared instances (e.g. the failures of the enum constants) are also reported for each call.</li>
+ *     <li>{@value #FAILURE_COUNT}: emitted periodically for each error class with the number of the failures created since the last emission.
+ *     The failures are counted only while {@value #FAILURE_CREATED} is enabled.</li>
+ *     <li>{@value #UNWRAP_FAILED}: emitted when unwrapping the value or the error that does not exist, with the stack trace.</li>
+ *     <li>{@value #RECOVERED}: emitted when a failure is recovered by {@link Result#recover(java.util.function.Function)},
+ *     {@link Result#tryRecover(java.util.function.Function)} or {@code recover} of the primitive results, with the stack trace.</li>
+ *     <li>{@value #RETRY}: emitted when {@link RetryPolicy} waits for the next attempt.</li>
+ *     <li>{@value #CIRCUIT_BREAKER_TRANSITION}: emitted when the state of {@link CircuitBreaker} is changed.</li>
+ * </ul>
+ * <p>
+ * The {@code jdk.jfr} module is optional. If it is not available at run time, the events are not emitted,
+ * and no class of {@code jdk.jfr} is loaded by this module.
+ * When an event is disabled, emitting it only checks the enabled flag.
+ * Because the events with the stack trace ({@value #FAILURE_CREATED}, {@value #UNWRAP_FAILED} and {@value #RECOVERED}) may be emitted on hot paths,
+ * only one in {@code N} of them is committed when the system property {@value #SAMPLING_PROPERTY} is set to {@code N},
+ * while {@value #FAILURE_COUNT} still counts all failures.
+ */
+final class ResultEvents {
+
+    static final String FAILURE_CREATED = "dev.siroshun.jfun.result.FailureCreated";
+    static final String FAILURE_COUNT = "dev.siroshun.jfun.result.FailureCount";
+    static final String UNWRAP_FAILED = "dev.siroshun.jfun.result.UnwrapFailed";
+    static final String RECOVERED = "dev.siroshun.jfun.result.Recovered";
+    static final String RETRY = "dev.siroshun.jfun.result.Retry";
+    static final String CIRCUIT_BREAKER_TRANSITION = "dev.siroshun.jfun.result.CircuitBreakerTransition";
+
+    /**
+     * The name of the system property that specifies the sampling interval of the events with the stack trace.
+     */
+    static final String SAMPLING_PROPERTY = "dev.siroshun.jfun.result.jfr.sampling";
+
+    // JfrEvents, which refers to jdk.jfr, is loaded only if this is true
+    private static final boolean AVAILABLE = isJfrAvailable();
+
+    /**
+     * Emits {@value #FAILURE_CREATED} for the specified error.
+     *
+     * @param error the error value of the created failure
+     */
+    static void failureCreated(@Nullable Object error) {
+        if (AVAILABLE) {
+            JfrEvents.failureCreated(error);
+        }
+    }
+
+    /**
+     * Emits {@value #UNWRAP_FAILED}.
+     *
+     * @param message the message of the thrown exception
+     */
+    static void unwrapFailed(@NotNull String message) {
+        if (AVAILABLE) {
+            JfrEvents.unwrapFailed(message);
+        }
+    }
+
+    /**
+     * Emits {@value #RECOVERED}.
+     *
+     * @param error     the error value of the recovered failure
+     * @param recovered whether the recovery returned a success
+     */
+    static void recovered(@Nullable Object error, boolean recovered) {
+        if (AVAILABLE) {
+            JfrEvents.recovered(error, recovered);
+        }
+    }
+
+    /**
+     * Begins {@value #RETRY}.
+     *
+     * @param attempt the number of the failed attempt
+     * @param error   the error value of the failed attempt
+     * @return the event to pass to {@link #endRetry(Object)}, or {@code null} if the event is disabled
+     */
+    static @Nullable Object beginRetry(int attempt, @Nullable Object error) {
+        return AVAILABLE ? JfrEvents.beginRetry(attempt, error) : null;
+    }
+
+    /**
+     * Ends and commits {@value #RETRY}.
+     *
+     * @param event the event returned by {@link #beginRetry(int, Object)}
+     */
+    static void endRetry(@Nullable Object event) {
+        if (event != null) {
+            JfrEvents.endRetry(event);
+        }
+    }
+
+    /**
+     * Emits {@value #CIRCUIT_BREAKER_TRANSITION}.
+     *
+     * @param from the previous state
+     * @param to   the new state
+     */
+    static void circuitBreakerTransition(@NotNull CircuitBreaker.State from, @NotNull CircuitBreaker.State to) {
+        if (AVAILABLE) {
+            JfrEvents.circuitBreakerTransition(from, to);
+        }
+    }
+
+    private static boolean isJfrAvailable() {
+        Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+        return jfr.isPresent() && ResultEvents.class.getModule().canRead(jfr.get());
+    }
+
+    private ResultEvents() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,655 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.function.Function10;
+import dev.siroshun.jfun.function.Function3;
+import dev.siroshun.jfun.function.Function4;
+import dev.siroshun.jfun.function.Function5;
+import dev.siroshun.jfun.function.Function6;
+import dev.siroshun.jfun.function.Function7;
+import dev.siroshun.jfun.function.Function8;
+import dev.siroshun.jfun.function.Function9;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A registry of {@link Recorder}s that count the outcomes of the operations returning {@link Result}.
+ * <p>
+ * A {@link Recorder} is looked up by its name once, and the returned handle is kept by the call site,
+ * so recording an outcome does not look up the registry.
+ * The counters are {@link LongAdder}s, and the latencies are recorded in a histogram with a fixed number of the buckets.
+ * <p>
+ * {@link #snapshot()} and {@link Recorder#snapshot()} read the counters without blocking the writers.
+ * The values in a snapshot are not taken atomically, so they may not be consistent with each other while the outcomes are recorded concurrently.
+ */
+public final class ResultMetrics {
+
+    /**
+     * Creates a new {@link ResultMetrics} that measures the latencies using {@link System#nanoTime()}.
+     *
+     * @return a new {@link ResultMetrics}
+     */
+    @Contract(value = "-> new", pure = true)
+    public static @NotNull ResultMetrics create() {
+        return new ResultMetrics(System::nanoTime);
+    }
+
+    /**
+     * Creates a new {@link ResultMetrics} that measures the latencies using the specified clock.
+     *
+     * @param clock the clock that returns the current time in nanoseconds
+     * @return a new {@link ResultMetrics}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull ResultMetrics create(@NotNull LongSupplier clock) {
+        return new ResultMetrics(Objects.requireNonNull(clock));
+    }
+
+    private final LongSupplier clock;
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+    private ResultMetrics(@NotNull LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Gets or creates the {@link Recorder} of the specified name.
+     * <p>
+     * The returned {@link Recorder} should be kept by the call site instead of calling this method for each call.
+     *
+     * @param name the name of the {@link Recorder}, such as the name of the call site
+     * @return the {@link Recorder} of the specified name
+     */
+    public @NotNull Recorder recorder(@NotNull String name) {
+        Recorder recorder = this.recorders.get(name);
+        return recorder != null ? recorder : this.recorders.computeIfAbsent(name, key -> new Recorder(key, this.clock));
+    }
+
+    /**
+     * Takes the {@link Snapshot}s of all {@link Recorder}s in this registry.
+     *
+     * @return the unmodifiable {@link List} of the {@link Snapshot}s sorted by their names
+     */
+    public @NotNull List<Snapshot> snapshot() {
+        return this.recorders.values().stream()
+            .map(Recorder::snapshot)
+            .sorted(Comparator.comparing(Snapshot::name))
+            .toList();
+    }
+
+    @Override
+    public String toString() {
+        return "ResultMetrics{" + "recorders=" + this.recorders.keySet() + '}';
+    }
+
+    /**
+     * A handle to record the outcomes of an operation.
+     * <p>
+     * This class is thread-safe.
+     */
+    public static final class Recorder {
+
+        private final String name;
+        private final LongSupplier clock;
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder exceptions = new LongAdder();
+        private final Map<Class<?>, LongAdder> failureTypes = new ConcurrentHashMap<>();
+        private final Map<Class<?>, LongAdder> exceptionTypes = new ConcurrentHashMap<>();
+        private final LongAdder[] latencyBuckets = new LongAdder[Latency.BUCKETS];
+
+        private Recorder(@NotNull String name, @NotNull LongSupplier clock) {
+            this.name = name;
+            this.clock = clock;
+            for (int i = 0; i < this.latencyBuckets.length; i++) {
+                this.latencyBuckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Returns the name of this recorder.
+         *
+         * @return the name of this recorder
+         */
+        public @NotNull String name() {
+            return this.name;
+        }
+
+        /**
+         * Records the specified {@link Result}.
+         *
+         * @param result       the {@link Result} to record
+         * @param elapsedNanos the elapsed time in nanoseconds
+         */
+        public void record(@NotNull Result<?, ?> result, long elapsedNanos) {
+            if (result.isSuccess()) {
+                this.recordSuccess(elapsedNanos);
+            } else {
+                this.recordFailure(result.unwrapError(), elapsedNanos);
+            }
+        }
+
+        /**
+         * Records a successful call.
+         *
+         * @param elapsedNanos the elapsed time in nanoseconds
+         */
+        public void recordSuccess(long elapsedNanos) {
+            this.successes.increment();
+            this.recordLatency(elapsedNanos);
+        }
+
+        /**
+         * Records a failed call.
+         * <p>
+         * The failure is also counted for the class of the error value, unless the error value is {@code null}.
+         *
+         * @param error        the error value
+         * @param elapsedNanos the elapsed time in nanoseconds
+         */
+        public void recordFailure(@Nullable Object error, long elapsedNanos) {
+            this.failures.increment();
+            if (error != null) {
+                counter(this.failureTypes, error.getClass()).increment();
+            }
+            this.recordLatency(elapsedNanos);
+        }
+
+        /**
+         * Records a call that threw an exception.
+         * <p>
+         * The exception is also counted for its class.
+         *
+         * @param exception    the thrown exception
+         * @param elapsedNanos the elapsed time in nanoseconds
+         */
+        public void recordException(@NotNull Throwable exception, long elapsedNanos) {
+            this.exceptions.increment();
+            counter(this.exceptionTypes, exception.getClass()).increment();
+            this.recordLatency(elapsedNanos);
+        }
+
+        /**
+         * Takes the {@link Snapshot} of this recorder.
+         *
+         * @return the {@link Snapshot} of this recorder
+         */
+        public @NotNull Snapshot snapshot() {
+            long[] buckets = new long[Latency.BUCKETS];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = this.latencyBuckets[i].sum();
+            }
+
+            return new Snapshot(this.name, this.successes.sum(), this.failures.sum(), this.exceptions.sum(),
+                sum(this.failureTypes), sum(this.exceptionTypes), new Latency(buckets));
+        }
+
+        /**
+         * Decorates the specified {@link Supplier} to record its outcomes and latencies to this recorder.
+         *
+         * @param supplier the {@link Supplier} to decorate
+         * @param <U>      the type of the success value
+         * @param <E>      the type of the error value
+         * @return the decorated {@link Supplier}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public <U, E> @NotNull Supplier<Result<U, E>> decorate(@NotNull Supplier<? extends Result<U, E>> supplier) {
+            Objects.requireNonNull(supplier);
+            return () -> {
+                long start = this.clock.getAsLong();
+                try {
+                    return this.recordResult(supplier.get(), start);
+                } catch (Throwable e) {
+                    this.recordException(e, this.clock.getAsLong() - start);
+                    throw e;
+                }
+            };
+        }
+
+        /**
+         * Decorates the specified {@link Function} to record its outcomes and latencies to this recorder.
+         *
+         * @param function the {@link Function} to decorate
+         * @param <T>      the type of the input
+         * @param <U>      the type of the success value
+         * @param <E>      the type of the error value
+         * @return the decorated {@link Function}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public <T, U, E> @NotNull Function<T, Result<U, E>> decorate(@NotNull Function<? super T, ? extends Result<U, E>> function) {
+            Objects.requireNonNull(function);
+            return input -> {
+                long start = this.clock.getAsLong();
+                try {
+                    return this.recordResult(function.apply(input), start);
+                } catch (Throwable e) {
+                    this.recordException(e, this.clock.getAsLong() - start);
+                    throw e;
+                }
+            };
+        }
+
+        /**
+         * Decorates the specified {@link Function3} to record its outcomes and latencies to this recorder.
+         *
+         * @param function the {@link Function3} to decorate
+         * @param <A1>     the type of the 1st argument
+         * @param <A2>     the type of the 2nd argument
+         * @param <A3>     the type of the 3rd argument
+         * @param <U>      the type of the success value
+         * @param <E>      the type of the error value
+         * @return the decorated {@link Function3}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public <A1, A2, A3, U, E> @NotNull Function3<A1, A2, A3, Result<U, E>> decorate(@NotNull Function3<? super A1, ? super A2, ? super A3, ? extends Result<U, E>> function) {
+            Objects.requireNonNull(function);
+            return (a1, a2, a3) -> {
+                long start = this.clock.getAsLong();
+                try {
+                    return this.recordResult(function.apply(a1, a2, a3), start);
+                } catch (Throwable e) {
+                    this.recordException(e, this.clock.getAsLong() - start);
+                    throw e;
+                }
+            };
+        }
+
+        /**
+         * Decorates the specified {@link Function4} to record its outcomes and latencies to this recorder.
+         *
+         * @param function the {@link Function4} to decorate
+         * @param <A1>     the type of the 1st argument
+         * @param <A2>     the type of the 2nd argument
+         * @param <A3>     the type of the 3rd argument
+         * @param <A4>     the type of the 4th argument
+         * @param <U>      the type of the success value
+         * @param <E>      the type of the error value
+         * @return the decorated {@link Function4}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public <A1, A2, A3, A4, U, E> @NotNull Function4<A1, A2, A3, A4, Result<U, E>> decorate(@NotNull Function4<? super A1, ? super A2, ? super A3, ? super A4, ? extends Result<U, E>> function) {
+            Objects.requireNonNull(function);
+            return (a1, a2, a3, a4) -> {
+                long start = this.clock.getAsLong();
+                try {
+                    return this.recordResult(function.apply(a1, a2, a3, a4), start);
+                } catch (Throwable e) {
+                    this.recordException(e, this.clock.getAsLong() - start);
+                    throw e;
+                }
+            };
+        }
+
+        /**
+         * Decorates the specified {@link Function5} to record its outcomes and latencies to this recorder.
+         *
+         * @param function the {@link Function5} to decorate
+         * @param <A1>     the type of the 1st argument
+         * @param <A2>     the type of the 2nd argument
+         * @param <A3>     the type of the 3rd argument
+         * @param <A4>     the type of the 4th argument
+         * @param <A5>     the type of the 5th argument
+         * @param <U>      the type of the success value
+         * @param <E>      the type of the error value
+         * @return the decorated {@link Function5}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public <A1, A2, A3, A4, A5, U, E> @NotNull Function5<A1, A2, A3, A4, A5, Result<U, E>> decorate(@NotNull Function5<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? extends Result<U, E>> function) {
+            Objects.requireNonNull(function);
+            return (a1, a2, a3, a4, a5) -> {
+                long start = this.clock.getAsLong();
+                try {
+                    return this.recordResult(function.apply(a1, a2, a3, a4, a5), start);
+                } catch (Throwable e) {
+                    this.recordException(e, this.clock.getAsLong() - start);
+                    throw e;
+                }
+            };
+        }
+
+        /**
+         * Decorates the specified {@link Function6} to record its outcomes and latencies to this recorder.
+         *
+         * @param function the {@link Function6} to decorate
+         * @param <A1>     the type of the 1st argument
+         * @param <A2>     the type of the 2nd argument
+         * @param <A3>     the type of the 3rd argument
+         * @param <A4>     the type of the 4th argument
+         * @param <A5>     the type of the 5th argument
+         * @param <A6>     the type of the 6th argument
+         * @param <U>      the type of the success value
+         * @param <E>      the type of the error value
+         * @return the decorated {@link Function6}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public <A1, A2, A3, A4, A5, A6, U, E> @NotNull Function6<A1, A2, A3, A4, A5, A6, Result<U, E>> decorate(@NotNull Function6<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? extends Result<U, E>> function) {
+            Objects.requireNonNull(function);
+            return (a1, a2, a3, a4, a5, a6) -> {
+                long start = this.clock.getAsLong();
+                try {
+                    return this.recordResult(function.apply(a1, a2, a3, a4, a5, a6), start);
+                } catch (Throwable e) {
+                    this.recordException(e, this.clock.getAsLong() - start);
+                    throw e;
+                }
+            };
+        }
+
+        /**
+         * Decorates the specified {@link Function7} to record its outcomes and latencies to this recorder.
+         *
+         * @param function the {@link Function7} to decorate
+         * @param <A1>     the type of the 1st argument
+         * @param <A2>     the type of the 2nd argument
+         * @param <A3>     the type of the 3rd argument
+         * @param <A4>     the type of the 4th argument
+         * @param <A5>     the type of the 5th argument
+         * @param <A6>     the type of the 6th argument
+         * @param <A7>     the type of the 7th argument
+         * @param <U>      the type of the success value
+         * @param <E>      the type of the error value
+         * @return the decorated {@link Function7}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public <A1, A2, A3, A4, A5, A6, A7, U, E> @NotNull Function7<A1, A2, A3, A4, A5, A6, A7, Result<U, E>> decorate(@NotNull Function7<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? extends Result<U, E>> function) {
+            Objects.requireNonNull(function);
+            return (a1, a2, a3, a4, a5, a6, a7) -> {
+                long start = this.clock.getAsLong();
+                try {
+                    return this.recordResult(function.apply(a1, a2, a3, a4, a5, a6, a7), start);
+                } catch (Throwable e) {
+                    this.recordException(e, this.clock.getAsLong() - start);
+                    throw e;
+                }
+            };
+        }
+
+        /**
+         * Decorates the specified {@link Function8} to record its outcomes and latencies to this recorder.
+         *
+         * @param function the {@link Function8} to decorate
+         * @param <A1>     the type of the 1st argument
+         * @param <A2>     the type of the 2nd argument
+         * @param <A3>     the type of the 3rd argument
+         * @param <A4>     the type of the 4th argument
+         * @param <A5>     the type of the 5th argument
+         * @param <A6>     the type of the 6th argument
+         * @param <A7>     the type of the 7th argument
+         * @param <A8>     the type of the 8th argument
+         * @param <U>      the type of the success value
+         * @param <E>      the type of the error value
+         * @return the decorated {@link Function8}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public <A1, A2, A3, A4, A5, A6, A7, A8, U, E> @NotNull Function8<A1, A2, A3, A4, A5, A6, A7, A8, Result<U, E>> decorate(@NotNull Function8<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? extends Result<U, E>> function) {
+            Objects.requireNonNull(function);
+            return (a1, a2, a3, a4, a5, a6, a7, a8) -> {
+                long start = this.clock.getAsLong();
+                try {
+                    return this.recordResult(function.apply(a1, a2, a3, a4, a5, a6, a7, a8), start);
+                } catch (Throwable e) {
+                    this.recordException(e, this.clock.getAsLong() - start);
+                    throw e;
+                }
+            };
+        }
+
+        /**
+         * Decorates the specified {@link Function9} to record its outcomes and latencies to this recorder.
+         *
+         * @param function the {@link Function9} to decorate
+         * @param <A1>     the type of the 1st argument
+         * @param <A2>     the type of the 2nd argument
+         * @param <A3>     the type of the 3rd argument
+         * @param <A4>     the type of the 4th argument
+         * @param <A5>     the type of the 5th argument
+         * @param <A6>     the type of the 6th argument
+         * @param <A7>     the type of the 7th argument
+         * @param <A8>     the type of the 8th argument
+         * @param <A9>     the type of the 9th argument
+         * @param <U>      the type of the success value
+         * @param <E>      the type of the error value
+         * @return the decorated {@link Function9}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public <A1, A2, A3, A4, A5, A6, A7, A8, A9, U, E> @NotNull Function9<A1, A2, A3, A4, A5, A6, A7, A8, A9, Result<U, E>> decorate(@NotNull Function9<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? extends Result<U, E>> function) {
+            Objects.requireNonNull(function);
+            return (a1, a2, a3, a4, a5, a6, a7, a8, a9) -> {
+                long start = this.clock.getAsLong();
+                try {
+                    return this.recordResult(function.apply(a1, a2, a3, a4, a5, a6, a7, a8, a9), start);
+                } catch (Throwable e) {
+                    this.recordException(e, this.clock.getAsLong() - start);
+                    throw e;
+                }
+            };
+        }
+
+        /**
+         * Decorates the specified {@link Function10} to record its outcomes and latencies to this recorder.
+         *
+         * @param function the {@link Function10} to decorate
+         * @param <A1>     the type of the 1st argument
+         * @param <A2>     the type of the 2nd argument
+         * @param <A3>     the type of the 3rd argument
+         * @param <A4>     the type of the 4th argument
+         * @param <A5>     the type of the 5th argument
+         * @param <A6>     the type of the 6th argument
+         * @param <A7>     the type of the 7th argument
+         * @param <A8>     the type of the 8th argument
+         * @param <A9>     the type of the 9th argument
+         * @param <A10>    the type of the 10th argument
+         * @param <U>      the type of the success value
+         * @param <E>      the type of the error value
+         * @return the decorated {@link Function10}
+         */
+        @Contract(value = "_ -> new", pure = true)
+        public <A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, U, E> @NotNull Function10<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, Result<U, E>> decorate(@NotNull Function10<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? super A10, ? extends Result<U, E>> function) {
+            Objects.requireNonNull(function);
+            return (a1, a2, a3, a4, a5, a6, a7, a8, a9, a10) -> {
+                long start = this.clock.getAsLong();
+                try {
+                    return this.recordResult(function.apply(a1, a2, a3, a4, a5, a6, a7, a8, a9, a10), start);
+                } catch (Throwable e) {
+                    this.recordException(e, this.clock.getAsLong() - start);
+                    throw e;
+                }
+            };
+        }
+
+        // called in the try block of the decorated functions, so a null result is recorded as an exception
+        private <U, E> @NotNull Result<U, E> recordResult(@Nullable Result<U, E> result, long start) {
+            this.record(Objects.requireNonNull(result), this.clock.getAsLong() - start);
+            return result;
+        }
+
+        private static @NotNull LongAdder counter(@NotNull Map<Class<?>, LongAdder> counters, @NotNull Class<?> type) {
+            LongAdder counter = counters.get(type);
+            return counter != null ? counter : counters.computeIfAbsent(type, ignored -> new LongAdder());
+        }
+
+        private static @NotNull Map<Class<?>, Long> sum(@NotNull Map<Class<?>, LongAdder> counters) {
+            Map<Class<?>, Long> sums = new HashMap<>(counters.size());
+            counters.forEach((type, counter) -> sums.put(type, counter.sum()));
+            return Map.copyOf(sums);
+        }
+
+        private void recordLatency(long elapsedNanos) {
+            this.latencyBuckets[Latency.bucketOf(elapsedNanos)].increment();
+        }
+
+        @Override
+        public String toString() {
+            return "Recorder{" + "name='" + this.name + '\'' + '}';
+        }
+    }
+
+    /**
+     * A snapshot of {@link Recorder}.
+     *
+     * @param name           the name of the {@link Recorder}
+     * @param successes      the number of the successful calls
+     * @param failures       the number of the calls that returned {@link Result.Failure}
+     * @param exceptions     the number of the calls that threw an exception
+     * @param failureTypes   the unmodifiable {@link Map} of the number of the failures for each class of the error value
+     * @param exceptionTypes the unmodifiable {@link Map} of the number of the exceptions for each class of the thrown exception
+     * @param latency        the latency histogram of all calls
+     */
+    public record Snapshot(@NotNull String name, long successes, long failures, long exceptions,
+                           @NotNull Map<Class<?>, Long> failureTypes, @NotNull Map<Class<?>, Long> exceptionTypes,
+                           @NotNull Latency latency) {
+
+        /**
+         * Returns the number of all calls.
+         *
+         * @return the number of all calls
+         */
+        public long total() {
+            return this.successes + this.failures + this.exceptions;
+        }
+    }
+
+    /**
+     * A latency histogram with the buckets of powers of two.
+     * <p>
+     * The bucket {@code 0} counts the latencies of {@code 0} nanoseconds or less,
+     * the bucket {@code i} counts the latencies from {@code 2^(i-1)} to {@code 2^i - 1} nanoseconds,
+     * and the last bucket {@code 63} counts the latencies from {@code 2^62} nanoseconds to {@link Long#MAX_VALUE}.
+     */
+    public static final class Latency {
+
+        /**
+         * The number of the buckets.
+         */
+        public static final int BUCKETS = Long.SIZE;
+
+        private static int bucketOf(long nanos) {
+            return nanos <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(nanos);
+        }
+
+        /**
+         * Returns the largest latency counted by the specified bucket.
+         *
+         * @param bucket the index of the bucket
+         * @return the largest latency in nanoseconds
+         * @throws IndexOutOfBoundsException if {@code bucket} is out of range
+         */
+        public static long bucketUpperBound(int bucket) {
+            Objects.checkIndex(bucket, BUCKETS);
+            return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+        }
+
+        private final long[] buckets;
+        private final long count;
+
+        private Latency(long @NotNull [] buckets) {
+            this.buckets = buckets;
+            long count = 0;
+            for (long bucket : buckets) {
+                count += bucket;
+            }
+            this.count = count;
+        }
+
+        /**
+         * Returns the number of the recorded latencies.
+         *
+         * @return the number of the recorded latencies
+         */
+        public long count() {
+            return this.count;
+        }
+
+        /**
+         * Returns the number of the latencies counted by the specified bucket.
+         *
+         * @param bucket the index of the bucket
+         * @return the number of the latencies in the bucket
+         * @throws IndexOutOfBoundsException if {@code bucket} is out of range
+         */
+        public long bucketCount(int bucket) {
+            Objects.checkIndex(bucket, BUCKETS);
+            return this.buckets[bucket];
+        }
+
+        /**
+         * Estimates the latency at the specified quantile.
+         * <p>
+         * The returned value is the upper bound of the bucket that contains the quantile,
+         * so it may be up to twice the actual latency.
+         *
+         * @param quantile the quantile from {@code 0.0} to {@code 1.0}, such as {@code 0.99}
+         * @return the estimated latency in nanoseconds, or {@code 0} if no latency is recorded
+         * @throws IllegalArgumentException if {@code quantile} is out of range
+         */
+        public long quantile(double quantile) {
+            if (!(0 <= quantile && quantile <= 1)) {
+                throw new IllegalArgumentException("quantile must be between 0.0 and 1.0.");
+            }
+
+            if (this.count == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(quantile * this.count));
+            long cumulative = 0;
+
+            for (int i = 0; i < this.buckets.length; i++) {
+                cumulative += this.buckets[i];
+                if (rank <= cumulative) {
+                    return bucketUpperBound(i);
+                }
+            }
+
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof Latency other && Arrays.equals(this.buckets, other.buckets));
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.buckets);
+        }
+
+        @Override
+        public String toString() {
+            return "Latency{" +
+                "count=" + this.count +
+                ", p50=" + this.quantile(0.5) +
+                ", p99=" + this.quantile(0.99) +
+                '}';
+        }
+    }
+}
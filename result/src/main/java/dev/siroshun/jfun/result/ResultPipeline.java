@@ -0,0 +1,271 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A reusable chain of {@link Result} operations.
+ * <p>
+ * {@link ResultPipeline} records the operations once using {@link Builder}, and then applies them to each input in a single loop.
+ * Unlike chaining the methods of {@link Result}, the intermediate values are not wrapped by {@link Result},
+ * so applying the pipeline creates at most one {@link Result} (excluding those returned by the functions of {@link Builder#flatMap(Function)}
+ * and {@link Builder#tryRecover(Function)}).
+ * <p>
+ * For the same input, {@link #apply(Object)} returns the {@link Result} equal to the one that is created by calling
+ * the recorded operations on {@link Result#success(Object)} in order.
+ *
+ * @param <T> the type of the input value
+ * @param <U> the type of the success value
+ * @param <E> the type of the error value
+ */
+public final class ResultPipeline<T, U, E> implements Function<T, Result<U, E>> {
+
+    private static final int MAP = 0;
+    private static final int FLAT_MAP = 1;
+    private static final int MAP_ERROR = 2;
+    private static final int RECOVER = 3;
+    private static final int TRY_RECOVER = 4;
+    private static final int INSPECT = 5;
+    private static final int INSPECT_ERROR = 6;
+
+    /**
+     * Creates a new {@link Builder}.
+     *
+     * @param <T> the type of the input value
+     * @param <E> the type of the error value
+     * @return a new {@link Builder}
+     */
+    @Contract(value = "-> new", pure = true)
+    public static <T, E> @NotNull Builder<T, T, E> builder() {
+        return new Builder<>();
+    }
+
+    private final Stage[] stages;
+
+    private ResultPipeline(@NotNull Stage[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Applies the recorded operations to the specified input.
+     *
+     * @param input the input value
+     * @return the {@link Result} of the recorded operations
+     * @throws NullPointerException if the {@link Function} of {@link Builder#flatMap(Function)} or {@link Builder#tryRecover(Function)} returns {@code null} as {@link Result}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Result<U, E> apply(T input) {
+        Object value = input;
+        Object error = null;
+        boolean success = true;
+        Result<?, ?> current = null; // the Result that represents the current state, if it exists
+
+        for (Stage stage : this.stages) {
+            switch (stage.kind) {
+                case MAP -> {
+                    if (success) {
+                        Object mapped = ((Function<Object, Object>) stage.operation).apply(value);
+                        if (mapped != value) {
+                            value = mapped;
+                            current = null;
+                        }
+                    }
+                }
+                case FLAT_MAP -> {
+                    if (success) {
+                        current = Objects.requireNonNull(((Function<Object, Result<?, ?>>) stage.operation).apply(value));
+                        if (current.isSuccess()) {
+                            value = current.unwrap();
+                        } else {
+                            error = current.unwrapError();
+                            success = false;
+                        }
+                    }
+                }
+                case MAP_ERROR -> {
+                    if (!success) {
+                        Object mapped = ((Function<Object, Object>) stage.operation).apply(error);
+                        if (mapped != error) {
+                            error = mapped;
+                            current = null;
+                        }
+                    }
+                }
+                case RECOVER -> {
+                    if (!success) {
+                        value = ((Function<Object, Object>) stage.operation).apply(error);
+                        error = null;
+                        success = true;
+                        current = null;
+                    }
+                }
+                case TRY_RECOVER -> {
+                    if (!success) {
+                        current = Objects.requireNonNull(((Function<Object, Result<?, ?>>) stage.operation).apply(error));
+                        if (current.isSuccess()) {
+                            value = current.unwrap();
+                            error = null;
+                            success = true;
+                        } else {
+                            error = current.unwrapError();
+                        }
+                    }
+                }
+                case INSPECT -> {
+                    if (success) {
+                        ((Consumer<Object>) stage.operation).accept(value);
+                    }
+                }
+                case INSPECT_ERROR -> {
+                    if (!success) {
+                        ((Consumer<Object>) stage.operation).accept(error);
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown stage: " + stage.kind);
+            }
+        }
+
+        if (current != null) {
+            return (Result<U, E>) current;
+        }
+
+        return success ? Result.success((U) value) : Result.failure((E) error);
+    }
+
+    private record Stage(int kind, @NotNull Object operation) {
+    }
+
+    /**
+     * A builder of {@link ResultPipeline}.
+     * <p>
+     * Each method records the operation and returns this builder with the new type parameters.
+     *
+     * @param <T> the type of the input value
+     * @param <U> the type of the current success value
+     * @param <E> the type of the current error value
+     */
+    public static final class Builder<T, U, E> {
+
+        private final List<Stage> stages = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Records the operation of {@link Result#map(Function)}.
+         *
+         * @param mapper the {@link Function} converts the value
+         * @param <V>    the new type of the success value
+         * @return this builder
+         */
+        public <V> @NotNull Builder<T, V, E> map(@NotNull Function<? super U, ? extends V> mapper) {
+            return this.add(MAP, mapper);
+        }
+
+        /**
+         * Records the operation of {@link Result#flatMap(Function)}.
+         *
+         * @param onSuccess the {@link Function} processes the success value, then returns new {@link Result}
+         * @param <V>       the new type of the success value
+         * @return this builder
+         */
+        public <V> @NotNull Builder<T, V, E> flatMap(@NotNull Function<? super U, Result<V, E>> onSuccess) {
+            return this.add(FLAT_MAP, onSuccess);
+        }
+
+        /**
+         * Records the operation of {@link Result#mapError(Function)}.
+         *
+         * @param mapper the {@link Function} converts the error
+         * @param <O>    the new type of the error value
+         * @return this builder
+         */
+        public <O> @NotNull Builder<T, U, O> mapError(@NotNull Function<? super E, ? extends O> mapper) {
+            return this.add(MAP_ERROR, mapper);
+        }
+
+        /**
+         * Records the operation of {@link Result#recover(Function)}.
+         *
+         * @param onFailure the {@link Function} recovers the error, and provides the success value
+         * @return this builder
+         */
+        public @NotNull Builder<T, U, E> recover(@NotNull Function<? super E, ? extends U> onFailure) {
+            return this.add(RECOVER, onFailure);
+        }
+
+        /**
+         * Records the operation of {@link Result#tryRecover(Function)}.
+         *
+         * @param onFailure the {@link Function} tries recovering the error, and provides the new {@link Result}
+         * @param <E2>      the new type of the error value
+         * @return this builder
+         */
+        public <E2> @NotNull Builder<T, U, E2> tryRecover(@NotNull Function<? super E, Result<U, E2>> onFailure) {
+            return this.add(TRY_RECOVER, onFailure);
+        }
+
+        /**
+         * Records the operation of {@link Result#inspect(Consumer)}.
+         *
+         * @param onSuccess the {@link Consumer} that accepts the success value
+         * @return this builder
+         */
+        public @NotNull Builder<T, U, E> inspect(@NotNull Consumer<? super U> onSuccess) {
+            return this.add(INSPECT, onSuccess);
+        }
+
+        /**
+         * Records the operation of {@link Result#inspectError(Consumer)}.
+         *
+         * @param onFailure the {@link Consumer} that accepts the error value
+         * @return this builder
+         */
+        public @NotNull Builder<T, U, E> inspectError(@NotNull Consumer<? super E> onFailure) {
+            return this.add(INSPECT_ERROR, onFailure);
+        }
+
+        /**
+         * Creates a new {@link ResultPipeline} from the recorded operations.
+         * <p>
+         * Operations recorded after this method call do not affect the created {@link ResultPipeline}.
+         *
+         * @return a new {@link ResultPipeline}
+         */
+        @Contract("-> new")
+        public @NotNull ResultPipeline<T, U, E> build() {
+            return new ResultPipeline<>(this.stages.toArray(Stage[]::new));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Contract("_, _ -> this")
+        private <V, O> @NotNull Builder<T, V, O> add(int kind, @NotNull Object operation) {
+            this.stages.add(new Stage(kind, Objects.requireNonNull(operation)));
+            return (Builder<T, V, O>) this;
+        }
+    }
+}
@@ -0,0 +1,1046 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.function.Function10;
+import dev.siroshun.jfun.function.Function3;
+import dev.siroshun.jfun.function.Function4;
+import dev.siroshun.jfun.function.Function5;
+import dev.siroshun.jfun.function.Function6;
+import dev.siroshun.jfun.function.Function7;
+import dev.siroshun.jfun.function.Function8;
+import dev.siroshun.jfun.function.Function9;
+import dev.siroshun.jfun.function.ThrowingFunction;
+import dev.siroshun.jfun.function.ThrowingFunction10;
+import dev.siroshun.jfun.function.ThrowingFunction3;
+import dev.siroshun.jfun.function.ThrowingFunction4;
+import dev.siroshun.jfun.function.ThrowingFunction5;
+import dev.siroshun.jfun.function.ThrowingFunction6;
+import dev.siroshun.jfun.function.ThrowingFunction7;
+import dev.siroshun.jfun.function.ThrowingFunction8;
+import dev.siroshun.jfun.function.ThrowingFunction9;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The class that provides utility methods to combine multiple {@link Result}s.
+ */
+public final class Results {
+
+    /**
+     * Applies the specified {@link Function} to each input in parallel using {@link ForkJoinPool#commonPool()},
+     * and collects the success values into a {@link List}.
+     * <p>
+     * See {@link #traverseParallel(ForkJoinPool, Object[], Function)} for details.
+     *
+     * @param inputs   the {@link List} of inputs
+     * @param function the {@link Function} to apply to each input
+     * @param <T>      the type of the input
+     * @param <U>      the type of the success value
+     * @param <E>      the type of the error value
+     * @return the {@link Result.Success} of the {@link List} of the success values, or the {@link Result.Failure} returned from the {@link Function}
+     * @throws NullPointerException if the {@link Function} returns {@code null} as {@link Result}
+     */
+    public static <T, U, E> @NotNull Result<List<U>, E> traverseParallel(@NotNull List<? extends T> inputs,
+                                                                         @NotNull Function<? super T, ? extends Result<? extends U, ? extends E>> function) {
+        return traverseParallel(ForkJoinPool.commonPool(), inputs, function);
+    }
+
+    /**
+     * Applies the specified {@link Function} to each input in parallel using the specified {@link ForkJoinPool},
+     * and collects the success values into a {@link List}.
+     * <p>
+     * See {@link #traverseParallel(ForkJoinPool, Object[], Function)} for details.
+     *
+     * @param pool     the {@link ForkJoinPool} to run the {@link Function}
+     * @param inputs   the {@link List} of inputs
+     * @param function the {@link Function} to apply to each input
+     * @param <T>      the type of the input
+     * @param <U>      the type of the success value
+     * @param <E>      the type of the error value
+     * @return the {@link Result.Success} of the {@link List} of the success values, or the {@link Result.Failure} returned from the {@link Function}
+     * @throws NullPointerException if the {@link Function} returns {@code null} as {@link Result}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U, E> @NotNull Result<List<U>, E> traverseParallel(@NotNull ForkJoinPool pool, @NotNull List<? extends T> inputs,
+                                                                         @NotNull Function<? super T, ? extends Result<? extends U, ? extends E>> function) {
+        return traverseParallel(pool, (T[]) inputs.toArray(), function);
+    }
+
+    /**
+     * Applies the specified {@link Function} to each input in parallel using {@link ForkJoinPool#commonPool()},
+     * and collects the success values into a {@link List}.
+     * <p>
+     * See {@link #traverseParallel(ForkJoinPool, Object[], Function)} for details.
+     *
+     * @param inputs   the array of inputs
+     * @param function the {@link Function} to apply to each input
+     * @param <T>      the type of the input
+     * @param <U>      the type of the success value
+     * @param <E>      the type of the error value
+     * @return the {@link Result.Success} of the {@link List} of the success values, or the {@link Result.Failure} returned from the {@link Function}
+     * @throws NullPointerException if the {@link Function} returns {@code null} as {@link Result}
+     */
+    public static <T, U, E> @NotNull Result<List<U>, E> traverseParallel(@NotNull T @NotNull [] inputs,
+                                                                         @NotNull Function<? super T, ? extends Result<? extends U, ? extends E>> function) {
+        return traverseParallel(ForkJoinPool.commonPool(), inputs, function);
+    }
+
+    /**
+     * Applies the specified {@link Function} to each input in parallel using the specified {@link ForkJoinPool},
+     * and collects the success values into a {@link List}.
+     * <p>
+     * The inputs are split into chunks and processed by the fork/join tasks.
+     * The success values are written directly into the array that has the same size as the inputs,
+     * and the returned {@link List} has them in the same order as the inputs.
+     * <p>
+     * When the {@link Function} returns {@link Result.Failure}, the remaining tasks stop processing the inputs
+     * and this method returns the {@link Result.Failure} with its error.
+     * If two or more {@link Result.Failure}s are returned concurrently, it is unspecified which one is returned.
+     * <p>
+     * The returned {@link List} is unmodifiable and may contain {@code null}.
+     *
+     * @param pool     the {@link ForkJoinPool} to run the {@link Function}
+     * @param inputs   the array of inputs
+     * @param function the {@link Function} to apply to each input
+     * @param <T>      the type of the input
+     * @param <U>      the type of the success value
+     * @param <E>      the type of the error value
+     * @return the {@link Result.Success} of the {@link List} of the success values, or the {@link Result.Failure} returned from the {@link Function}
+     * @throws NullPointerException if the {@link Function} returns {@code null} as {@link Result}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U, E> @NotNull Result<List<U>, E> traverseParallel(@NotNull ForkJoinPool pool, @NotNull T @NotNull [] inputs,
+                                                                         @NotNull Function<? super T, ? extends Result<? extends U, ? extends E>> function) {
+        Objects.requireNonNull(function);
+
+        if (inputs.length == 0) {
+            return Result.success(List.of());
+        }
+
+        Object[] outputs = new Object[inputs.length];
+        ParallelTraversal<T, E> traversal = new ParallelTraversal<>(inputs, outputs, function, pool.getParallelism());
+        pool.invoke(traversal.createTask());
+
+        return traversal.isFailed() ?
+            Result.failure(traversal.error()) :
+            Result.success(Collections.unmodifiableList(Arrays.asList((U[]) outputs)));
+    }
+
+    /**
+     * Runs the specified tasks concurrently on virtual threads, and collects the success values into a {@link List}.
+     * <p>
+     * See {@link #allOf(List, int, Executor)} for details.
+     *
+     * @param tasks the {@link List} of tasks
+     * @param <T>   the type of the success value
+     * @param <E>   the type of the error value
+     * @return the {@link Result.Success} of the {@link List} of the success values, or the first {@link Result.Failure} returned from the tasks
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws CompletionException  if a task throws an exception
+     */
+    public static <T, E> @NotNull Result<List<T>, E> allOf(@NotNull List<? extends Supplier<? extends Result<? extends T, ? extends E>>> tasks) throws InterruptedException {
+        return allOf(tasks, Math.max(1, tasks.size()), FanOut.VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Runs the specified tasks concurrently on virtual threads, and collects the success values into a {@link List}.
+     * <p>
+     * See {@link #allOf(List, int, Executor)} for details.
+     *
+     * @param tasks          the {@link List} of tasks
+     * @param maxConcurrency the maximum number of tasks that run at the same time
+     * @param <T>            the type of the success value
+     * @param <E>            the type of the error value
+     * @return the {@link Result.Success} of the {@link List} of the success values, or the first {@link Result.Failure} returned from the tasks
+     * @throws InterruptedException     if the current thread is interrupted while waiting
+     * @throws CompletionException      if a task throws an exception
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    public static <T, E> @NotNull Result<List<T>, E> allOf(@NotNull List<? extends Supplier<? extends Result<? extends T, ? extends E>>> tasks,
+                                                           int maxConcurrency) throws InterruptedException {
+        return allOf(tasks, maxConcurrency, FanOut.VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Runs the specified tasks concurrently on the specified {@link Executor}, and collects the success values into a {@link List}.
+     * <p>
+     * At most {@code maxConcurrency} tasks run at the same time, and the next task is submitted when a running task is completed.
+     * When a task returns {@link Result.Failure}, the remaining tasks are not submitted, the running tasks are cancelled with the interruption,
+     * and this method returns the {@link Result.Failure} without waiting for the cancelled tasks.
+     * <p>
+     * When a task throws an exception or returns {@code null}, the remaining tasks are cancelled in the same way,
+     * and this method throws a {@link CompletionException} with the exception as its cause.
+     * If the current thread is interrupted while waiting, the tasks are also cancelled.
+     * <p>
+     * The returned {@link List} is unmodifiable, may contain {@code null}, and has the success values in the same order as the tasks.
+     *
+     * @param tasks          the {@link List} of tasks
+     * @param maxConcurrency the maximum number of tasks that run at the same time
+     * @param executor       the {@link Executor} to run the tasks
+     * @param <T>            the type of the success value
+     * @param <E>            the type of the error value
+     * @return the {@link Result.Success} of the {@link List} of the success values, or the first {@link Result.Failure} returned from the tasks
+     * @throws InterruptedException     if the current thread is interrupted while waiting
+     * @throws CompletionException      if a task throws an exception
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E> @NotNull Result<List<T>, E> allOf(@NotNull List<? extends Supplier<? extends Result<? extends T, ? extends E>>> tasks,
+                                                           int maxConcurrency, @NotNull Executor executor) throws InterruptedException {
+        Object[] values = new Object[tasks.size()];
+
+        Result<? extends T, ? extends E> failure = new FanOut<T, E>(tasks, maxConcurrency, executor, (index, result) -> {
+            if (result.isFailure()) {
+                return true;
+            }
+            values[index] = result.unwrap();
+            return false;
+        }).run();
+
+        return failure != null ?
+            Result.failure(failure.unwrapError()) :
+            Result.success(Collections.unmodifiableList(Arrays.asList((T[]) values)));
+    }
+
+    /**
+     * Runs the specified tasks concurrently on virtual threads, and returns the {@link Result} that is returned first.
+     * <p>
+     * See {@link #anyOf(List, int, Executor)} for details.
+     *
+     * @param tasks the {@link List} of tasks
+     * @param <T>   the type of the success value
+     * @param <E>   the type of the error value
+     * @return the {@link Result} returned first from the tasks
+     * @throws InterruptedException     if the current thread is interrupted while waiting
+     * @throws CompletionException      if a task throws an exception
+     * @throws IllegalArgumentException if {@code tasks} is empty
+     */
+    public static <T, E> @NotNull Result<T, E> anyOf(@NotNull List<? extends Supplier<? extends Result<? extends T, ? extends E>>> tasks) throws InterruptedException {
+        return anyOf(tasks, Math.max(1, tasks.size()), FanOut.VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Runs the specified tasks concurrently on virtual threads, and returns the {@link Result} that is returned first.
+     * <p>
+     * See {@link #anyOf(List, int, Executor)} for details.
+     *
+     * @param tasks          the {@link List} of tasks
+     * @param maxConcurrency the maximum number of tasks that run at the same time
+     * @param <T>            the type of the success value
+     * @param <E>            the type of the error value
+     * @return the {@link Result} returned first from the tasks
+     * @throws InterruptedException     if the current thread is interrupted while waiting
+     * @throws CompletionException      if a task throws an exception
+     * @throws IllegalArgumentException if {@code tasks} is empty or {@code maxConcurrency} is not positive
+     */
+    public static <T, E> @NotNull Result<T, E> anyOf(@NotNull List<? extends Supplier<? extends Result<? extends T, ? extends E>>> tasks,
+                                                     int maxConcurrency) throws InterruptedException {
+        return anyOf(tasks, maxConcurrency, FanOut.VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Runs the specified tasks concurrently on the specified {@link Executor}, and returns the {@link Result} that is returned first.
+     * <p>
+     * Whether the first {@link Result} is {@link Result.Success} or {@link Result.Failure}, the remaining tasks are cancelled
+     * in the same way as {@link #allOf(List, int, Executor)}.
+     *
+     * @param tasks          the {@link List} of tasks
+     * @param maxConcurrency the maximum number of tasks that run at the same time
+     * @param executor       the {@link Executor} to run the tasks
+     * @param <T>            the type of the success value
+     * @param <E>            the type of the error value
+     * @return the {@link Result} returned first from the tasks
+     * @throws InterruptedException     if the current thread is interrupted while waiting
+     * @throws CompletionException      if a task throws an exception
+     * @throws IllegalArgumentException if {@code tasks} is empty or {@code maxConcurrency} is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E> @NotNull Result<T, E> anyOf(@NotNull List<? extends Supplier<? extends Result<? extends T, ? extends E>>> tasks,
+                                                     int maxConcurrency, @NotNull Executor executor) throws InterruptedException {
+        if (tasks.isEmpty()) {
+            throw new IllegalArgumentException("tasks must not be empty.");
+        }
+
+        Result<? extends T, ? extends E> result = new FanOut<T, E>(tasks, maxConcurrency, executor, (index, r) -> true).run();
+        return (Result<T, E>) Objects.requireNonNull(result);
+    }
+
+    /**
+     * Runs the specified tasks concurrently on virtual threads, and returns the {@link Result.Success} that is returned first.
+     * <p>
+     * See {@link #firstSuccess(List, int, Executor)} for details.
+     *
+     * @param tasks the {@link List} of tasks
+     * @param <T>   the type of the success value
+     * @param <E>   the type of the error value
+     * @return the {@link Result.Success} returned first from the tasks, or the {@link Result.Failure} of the {@link List} of all errors
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws CompletionException  if a task throws an exception
+     */
+    public static <T, E> @NotNull Result<T, List<E>> firstSuccess(@NotNull List<? extends Supplier<? extends Result<? extends T, ? extends E>>> tasks) throws InterruptedException {
+        return firstSuccess(tasks, Math.max(1, tasks.size()), FanOut.VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Runs the specified tasks concurrently on virtual threads, and returns the {@link Result.Success} that is returned first.
+     * <p>
+     * See {@link #firstSuccess(List, int, Executor)} for details.
+     *
+     * @param tasks          the {@link List} of tasks
+     * @param maxConcurrency the maximum number of tasks that run at the same time
+     * @param <T>            the type of the success value
+     * @param <E>            the type of the error value
+     * @return the {@link Result.Success} returned first from the tasks, or the {@link Result.Failure} of the {@link List} of all errors
+     * @throws InterruptedException     if the current thread is interrupted while waiting
+     * @throws CompletionException      if a task throws an exception
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    public static <T, E> @NotNull Result<T, List<E>> firstSuccess(@NotNull List<? extends Supplier<? extends Result<? extends T, ? extends E>>> tasks,
+                                                                  int maxConcurrency) throws InterruptedException {
+        return firstSuccess(tasks, maxConcurrency, FanOut.VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Runs the specified tasks concurrently on the specified {@link Executor}, and returns the {@link Result.Success} that is returned first.
+     * <p>
+     * When a task returns {@link Result.Success}, the remaining tasks are cancelled in the same way as {@link #allOf(List, int, Executor)}.
+     * If all tasks return {@link Result.Failure}, this method returns the {@link Result.Failure} of the unmodifiable {@link List}
+     * that has the errors in the same order as the tasks.
+     *
+     * @param tasks          the {@link List} of tasks
+     * @param maxConcurrency the maximum number of tasks that run at the same time
+     * @param executor       the {@link Executor} to run the tasks
+     * @param <T>            the type of the success value
+     * @param <E>            the type of the error value
+     * @return the {@link Result.Success} returned first from the tasks, or the {@link Result.Failure} of the {@link List} of all errors
+     * @throws InterruptedException     if the current thread is interrupted while waiting
+     * @throws CompletionException      if a task throws an exception
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E> @NotNull Result<T, List<E>> firstSuccess(@NotNull List<? extends Supplier<? extends Result<? extends T, ? extends E>>> tasks,
+                                                                  int maxConcurrency, @NotNull Executor executor) throws InterruptedException {
+        Object[] errors = new Object[tasks.size()];
+
+        Result<? extends T, ? extends E> success = new FanOut<T, E>(tasks, maxConcurrency, executor, (index, result) -> {
+            if (result.isSuccess()) {
+                return true;
+            }
+            errors[index] = result.unwrapError();
+            return false;
+        }).run();
+
+        return success != null ?
+            Result.success(success.unwrap()) :
+            Result.failure(Collections.unmodifiableList(Arrays.asList((E[]) errors)));
+    }
+
+    /**
+     * Combines 2 {@link Result}s using the specified {@link BiFunction}.
+     * <p>
+     * If all {@link Result}s are {@link Result.Success}, this method returns the {@link Result.Success} of the value created by the {@link BiFunction}.
+     * Otherwise, this method returns the first {@link Result.Failure} in the order of the arguments as-is.
+     *
+     * @param r1       the 1st {@link Result}
+     * @param r2       the 2nd {@link Result}
+     * @param function the {@link BiFunction} to create the new value from the success values
+     * @param <T1>     the type of the 1st success value
+     * @param <T2>     the type of the 2nd success value
+     * @param <R>      the type of the new success value
+     * @param <E>      the type of the error value
+     * @return the {@link Result.Success} of the new value, or the first {@link Result.Failure}
+     */
+    public static <T1, T2, R, E> @NotNull Result<R, E> zip(@NotNull Result<T1, ? extends E> r1,
+                                                           @NotNull Result<T2, ? extends E> r2,
+                                                           @NotNull BiFunction<? super T1, ? super T2, ? extends R> function) {
+        if (r1.isFailure()) {
+            return castFailure(r1);
+        }
+        if (r2.isFailure()) {
+            return castFailure(r2);
+        }
+        return Result.success(function.apply(r1.unwrap(), r2.unwrap()));
+    }
+
+    /**
+     * Combines 3 {@link Result}s using the specified {@link Function3}.
+     * <p>
+     * If all {@link Result}s are {@link Result.Success}, this method returns the {@link Result.Success} of the value created by the {@link Function3}.
+     * Otherwise, this method returns the first {@link Result.Failure} in the order of the arguments as-is.
+     *
+     * @param r1       the 1st {@link Result}
+     * @param r2       the 2nd {@link Result}
+     * @param r3       the 3rd {@link Result}
+     * @param function the {@link Function3} to create the new value from the success values
+     * @param <T1>     the type of the 1st success value
+     * @param <T2>     the type of the 2nd success value
+     * @param <T3>     the type of the 3rd success value
+     * @param <R>      the type of the new success value
+     * @param <E>      the type of the error value
+     * @return the {@link Result.Success} of the new value, or the first {@link Result.Failure}
+     */
+    public static <T1, T2, T3, R, E> @NotNull Result<R, E> zip(@NotNull Result<T1, ? extends E> r1,
+                                                               @NotNull Result<T2, ? extends E> r2,
+                                                               @NotNull Result<T3, ? extends E> r3,
+                                                               @NotNull Function3<? super T1, ? super T2, ? super T3, ? extends R> function) {
+        if (r1.isFailure()) {
+            return castFailure(r1);
+        }
+        if (r2.isFailure()) {
+            return castFailure(r2);
+        }
+        if (r3.isFailure()) {
+            return castFailure(r3);
+        }
+        return Result.success(function.apply(r1.unwrap(), r2.unwrap(), r3.unwrap()));
+    }
+
+    /**
+     * Combines 4 {@link Result}s using the specified {@link Function4}.
+     * <p>
+     * If all {@link Result}s are {@link Result.Success}, this method returns the {@link Result.Success} of the value created by the {@link Function4}.
+     * Otherwise, this method returns the first {@link Result.Failure} in the order of the arguments as-is.
+     *
+     * @param r1       the 1st {@link Result}
+     * @param r2       the 2nd {@link Result}
+     * @param r3       the 3rd {@link Result}
+     * @param r4       the 4th {@link Result}
+     * @param function the {@link Function4} to create the new value from the success values
+     * @param <T1>     the type of the 1st success value
+     * @param <T2>     the type of the 2nd success value
+     * @param <T3>     the type of the 3rd success value
+     * @param <T4>     the type of the 4th success value
+     * @param <R>      the type of the new success value
+     * @param <E>      the type of the error value
+     * @return the {@link Result.Success} of the new value, or the first {@link Result.Failure}
+     */
+    public static <T1, T2, T3, T4, R, E> @NotNull Result<R, E> zip(@NotNull Result<T1, ? extends E> r1,
+                                                                   @NotNull Result<T2, ? extends E> r2,
+                                                                   @NotNull Result<T3, ? extends E> r3,
+                                                                   @NotNull Result<T4, ? extends E> r4,
+                                                                   @NotNull Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> function) {
+        if (r1.isFailure()) {
+            return castFailure(r1);
+        }
+        if (r2.isFailure()) {
+            return castFailure(r2);
+        }
+        if (r3.isFailure()) {
+            return castFailure(r3);
+        }
+        if (r4.isFailure()) {
+            return castFailure(r4);
+        }
+        return Result.success(function.apply(r1.unwrap(), r2.unwrap(), r3.unwrap(), r4.unwrap()));
+    }
+
+    /**
+     * Combines 5 {@link Result}s using the specified {@link Function5}.
+     * <p>
+     * If all {@link Result}s are {@link Result.Success}, this method returns the {@link Result.Success} of the value created by the {@link Function5}.
+     * Otherwise, this method returns the first {@link Result.Failure} in the order of the arguments as-is.
+     *
+     * @param r1       the 1st {@link Result}
+     * @param r2       the 2nd {@link Result}
+     * @param r3       the 3rd {@link Result}
+     * @param r4       the 4th {@link Result}
+     * @param r5       the 5th {@link Result}
+     * @param function the {@link Function5} to create the new value from the success values
+     * @param <T1>     the type of the 1st success value
+     * @param <T2>     the type of the 2nd success value
+     * @param <T3>     the type of the 3rd success value
+     * @param <T4>     the type of the 4th success value
+     * @param <T5>     the type of the 5th success value
+     * @param <R>      the type of the new success value
+     * @param <E>      the type of the error value
+     * @return the {@link Result.Success} of the new value, or the first {@link Result.Failure}
+     */
+    public static <T1, T2, T3, T4, T5, R, E> @NotNull Result<R, E> zip(@NotNull Result<T1, ? extends E> r1,
+                                                                       @NotNull Result<T2, ? extends E> r2,
+                                                                       @NotNull Result<T3, ? extends E> r3,
+                                                                       @NotNull Result<T4, ? extends E> r4,
+                                                                       @NotNull Result<T5, ? extends E> r5,
+                                                                       @NotNull Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> function) {
+        if (r1.isFailure()) {
+            return castFailure(r1);
+        }
+        if (r2.isFailure()) {
+            return castFailure(r2);
+        }
+        if (r3.isFailure()) {
+            return castFailure(r3);
+        }
+        if (r4.isFailure()) {
+            return castFailure(r4);
+        }
+        if (r5.isFailure()) {
+            return castFailure(r5);
+        }
+        return Result.success(function.apply(r1.unwrap(), r2.unwrap(), r3.unwrap(), r4.unwrap(), r5.unwrap()));
+    }
+
+    /**
+     * Combines 6 {@link Result}s using the specified {@link Function6}.
+     * <p>
+     * If all {@link Result}s are {@link Result.Success}, this method returns the {@link Result.Success} of the value created by the {@link Function6}.
+     * Otherwise, this method returns the first {@link Result.Failure} in the order of the arguments as-is.
+     *
+     * @param r1       the 1st {@link Result}
+     * @param r2       the 2nd {@link Result}
+     * @param r3       the 3rd {@link Result}
+     * @param r4       the 4th {@link Result}
+     * @param r5       the 5th {@link Result}
+     * @param r6       the 6th {@link Result}
+     * @param function the {@link Function6} to create the new value from the success values
+     * @param <T1>     the type of the 1st success value
+     * @param <T2>     the type of the 2nd success value
+     * @param <T3>     the type of the 3rd success value
+     * @param <T4>     the type of the 4th success value
+     * @param <T5>     the type of the 5th success value
+     * @param <T6>     the type of the 6th success value
+     * @param <R>      the type of the new success value
+     * @param <E>      the type of the error value
+     * @return the {@link Result.Success} of the new value, or the first {@link Result.Failure}
+     */
+    public static <T1, T2, T3, T4, T5, T6, R, E> @NotNull Result<R, E> zip(@NotNull Result<T1, ? extends E> r1,
+                                                                           @NotNull Result<T2, ? extends E> r2,
+                                                                           @NotNull Result<T3, ? extends E> r3,
+                                                                           @NotNull Result<T4, ? extends E> r4,
+                                                                           @NotNull Result<T5, ? extends E> r5,
+                                                                           @NotNull Result<T6, ? extends E> r6,
+                                                                           @NotNull Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> function) {
+        if (r1.isFailure()) {
+            return castFailure(r1);
+        }
+        if (r2.isFailure()) {
+            return castFailure(r2);
+        }
+        if (r3.isFailure()) {
+            return castFailure(r3);
+        }
+        if (r4.isFailure()) {
+            return castFailure(r4);
+        }
+        if (r5.isFailure()) {
+            return castFailure(r5);
+        }
+        if (r6.isFailure()) {
+            return castFailure(r6);
+        }
+        return Result.success(function.apply(r1.unwrap(), r2.unwrap(), r3.unwrap(), r4.unwrap(), r5.unwrap(), r6.unwrap()));
+    }
+
+    /**
+     * Combines 7 {@link Result}s using the specified {@link Function7}.
+     * <p>
+     * If all {@link Result}s are {@link Result.Success}, this method returns the {@link Result.Success} of the value created by the {@link Function7}.
+     * Otherwise, this method returns the first {@link Result.Failure} in the order of the arguments as-is.
+     *
+     * @param r1       the 1st {@link Result}
+     * @param r2       the 2nd {@link Result}
+     * @param r3       the 3rd {@link Result}
+     * @param r4       the 4th {@link Result}
+     * @param r5       the 5th {@link Result}
+     * @param r6       the 6th {@link Result}
+     * @param r7       the 7th {@link Result}
+     * @param function the {@link Function7} to create the new value from the success values
+     * @param <T1>     the type of the 1st success value
+     * @param <T2>     the type of the 2nd success value
+     * @param <T3>     the type of the 3rd success value
+     * @param <T4>     the type of the 4th success value
+     * @param <T5>     the type of the 5th success value
+     * @param <T6>     the type of the 6th success value
+     * @param <T7>     the type of the 7th success value
+     * @param <R>      the type of the new success value
+     * @param <E>      the type of the error value
+     * @return the {@link Result.Success} of the new value, or the first {@link Result.Failure}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, R, E> @NotNull Result<R, E> zip(@NotNull Result<T1, ? extends E> r1,
+                                                                               @NotNull Result<T2, ? extends E> r2,
+                                                                               @NotNull Result<T3, ? extends E> r3,
+                                                                               @NotNull Result<T4, ? extends E> r4,
+                                                                               @NotNull Result<T5, ? extends E> r5,
+                                                                               @NotNull Result<T6, ? extends E> r6,
+                                                                               @NotNull Result<T7, ? extends E> r7,
+                                                                               @NotNull Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> function) {
+        if (r1.isFailure()) {
+            return castFailure(r1);
+        }
+        if (r2.isFailure()) {
+            return castFailure(r2);
+        }
+        if (r3.isFailure()) {
+            return castFailure(r3);
+        }
+        if (r4.isFailure()) {
+            return castFailure(r4);
+        }
+        if (r5.isFailure()) {
+            return castFailure(r5);
+        }
+        if (r6.isFailure()) {
+            return castFailure(r6);
+        }
+        if (r7.isFailure()) {
+            return castFailure(r7);
+        }
+        return Result.success(function.apply(r1.unwrap(), r2.unwrap(), r3.unwrap(), r4.unwrap(), r5.unwrap(), r6.unwrap(), r7.unwrap()));
+    }
+
+    /**
+     * Combines 8 {@link Result}s using the specified {@link Function8}.
+     * <p>
+     * If all {@link Result}s are {@link Result.Success}, this method returns the {@link Result.Success} of the value created by the {@link Function8}.
+     * Otherwise, this method returns the first {@link Result.Failure} in the order of the arguments as-is.
+     *
+     * @param r1       the 1st {@link Result}
+     * @param r2       the 2nd {@link Result}
+     * @param r3       the 3rd {@link Result}
+     * @param r4       the 4th {@link Result}
+     * @param r5       the 5th {@link Result}
+     * @param r6       the 6th {@link Result}
+     * @param r7       the 7th {@link Result}
+     * @param r8       the 8th {@link Result}
+     * @param function the {@link Function8} to create the new value from the success values
+     * @param <T1>     the type of the 1st success value
+     * @param <T2>     the type of the 2nd success value
+     * @param <T3>     the type of the 3rd success value
+     * @param <T4>     the type of the 4th success value
+     * @param <T5>     the type of the 5th success value
+     * @param <T6>     the type of the 6th success value
+     * @param <T7>     the type of the 7th success value
+     * @param <T8>     the type of the 8th success value
+     * @param <R>      the type of the new success value
+     * @param <E>      the type of the error value
+     * @return the {@link Result.Success} of the new value, or the first {@link Result.Failure}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, R, E> @NotNull Result<R, E> zip(@NotNull Result<T1, ? extends E> r1,
+                                                                                   @NotNull Result<T2, ? extends E> r2,
+                                                                                   @NotNull Result<T3, ? extends E> r3,
+                                                                                   @NotNull Result<T4, ? extends E> r4,
+                                                                                   @NotNull Result<T5, ? extends E> r5,
+                                                                                   @NotNull Result<T6, ? extends E> r6,
+                                                                                   @NotNull Result<T7, ? extends E> r7,
+                                                                                   @NotNull Result<T8, ? extends E> r8,
+                                                                                   @NotNull Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> function) {
+        if (r1.isFailure()) {
+            return castFailure(r1);
+        }
+        if (r2.isFailure()) {
+            return castFailure(r2);
+        }
+        if (r3.isFailure()) {
+            return castFailure(r3);
+        }
+        if (r4.isFailure()) {
+            return castFailure(r4);
+        }
+        if (r5.isFailure()) {
+            return castFailure(r5);
+        }
+        if (r6.isFailure()) {
+            return castFailure(r6);
+        }
+        if (r7.isFailure()) {
+            return castFailure(r7);
+        }
+        if (r8.isFailure()) {
+            return castFailure(r8);
+        }
+        return Result.success(function.apply(r1.unwrap(), r2.unwrap(), r3.unwrap(), r4.unwrap(), r5.unwrap(), r6.unwrap(), r7.unwrap(), r8.unwrap()));
+    }
+
+    /**
+     * Combines 9 {@link Result}s using the specified {@link Function9}.
+     * <p>
+     * If all {@link Result}s are {@link Result.Success}, this method returns the {@link Result.Success} of the value created by the {@link Function9}.
+     * Otherwise, this method returns the first {@link Result.Failure} in the order of the arguments as-is.
+     *
+     * @param r1       the 1st {@link Result}
+     * @param r2       the 2nd {@link Result}
+     * @param r3       the 3rd {@link Result}
+     * @param r4       the 4th {@link Result}
+     * @param r5       the 5th {@link Result}
+     * @param r6       the 6th {@link Result}
+     * @param r7       the 7th {@link Result}
+     * @param r8       the 8th {@link Result}
+     * @param r9       the 9th {@link Result}
+     * @param function the {@link Function9} to create the new value from the success values
+     * @param <T1>     the type of the 1st success value
+     * @param <T2>     the type of the 2nd success value
+     * @param <T3>     the type of the 3rd success value
+     * @param <T4>     the type of the 4th success value
+     * @param <T5>     the type of the 5th success value
+     * @param <T6>     the type of the 6th success value
+     * @param <T7>     the type of the 7th success value
+     * @param <T8>     the type of the 8th success value
+     * @param <T9>     the type of the 9th success value
+     * @param <R>      the type of the new success value
+     * @param <E>      the type of the error value
+     * @return the {@link Result.Success} of the new value, or the first {@link Result.Failure}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R, E> @NotNull Result<R, E> zip(@NotNull Result<T1, ? extends E> r1,
+                                                                                       @NotNull Result<T2, ? extends E> r2,
+                                                                                       @NotNull Result<T3, ? extends E> r3,
+                                                                                       @NotNull Result<T4, ? extends E> r4,
+                                                                                       @NotNull Result<T5, ? extends E> r5,
+                                                                                       @NotNull Result<T6, ? extends E> r6,
+                                                                                       @NotNull Result<T7, ? extends E> r7,
+                                                                                       @NotNull Result<T8, ? extends E> r8,
+                                                                                       @NotNull Result<T9, ? extends E> r9,
+                                                                                       @NotNull Function9<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? extends R> function) {
+        if (r1.isFailure()) {
+            return castFailure(r1);
+        }
+        if (r2.isFailure()) {
+            return castFailure(r2);
+        }
+        if (r3.isFailure()) {
+            return castFailure(r3);
+        }
+        if (r4.isFailure()) {
+            return castFailure(r4);
+        }
+        if (r5.isFailure()) {
+            return castFailure(r5);
+        }
+        if (r6.isFailure()) {
+            return castFailure(r6);
+        }
+        if (r7.isFailure()) {
+            return castFailure(r7);
+        }
+        if (r8.isFailure()) {
+            return castFailure(r8);
+        }
+        if (r9.isFailure()) {
+            return castFailure(r9);
+        }
+        return Result.success(function.apply(r1.unwrap(), r2.unwrap(), r3.unwrap(), r4.unwrap(), r5.unwrap(), r6.unwrap(), r7.unwrap(), r8.unwrap(), r9.unwrap()));
+    }
+
+    /**
+     * Combines 10 {@link Result}s using the specified {@link Function10}.
+     * <p>
+     * If all {@link Result}s are {@link Result.Success}, this method returns the {@link Result.Success} of the value created by the {@link Function10}.
+     * Otherwise, this method returns the first {@link Result.Failure} in the order of the arguments as-is.
+     *
+     * @param r1       the 1st {@link Result}
+     * @param r2       the 2nd {@link Result}
+     * @param r3       the 3rd {@link Result}
+     * @param r4       the 4th {@link Result}
+     * @param r5       the 5th {@link Result}
+     * @param r6       the 6th {@link Result}
+     * @param r7       the 7th {@link Result}
+     * @param r8       the 8th {@link Result}
+     * @param r9       the 9th {@link Result}
+     * @param r10      the 10th {@link Result}
+     * @param function the {@link Function10} to create the new value from the success values
+     * @param <T1>     the type of the 1st success value
+     * @param <T2>     the type of the 2nd success value
+     * @param <T3>     the type of the 3rd success value
+     * @param <T4>     the type of the 4th success value
+     * @param <T5>     the type of the 5th success value
+     * @param <T6>     the type of the 6th success value
+     * @param <T7>     the type of the 7th success value
+     * @param <T8>     the type of the 8th success value
+     * @param <T9>     the type of the 9th success value
+     * @param <T10>    the type of the 10th success value
+     * @param <R>      the type of the new success value
+     * @param <E>      the type of the error value
+     * @return the {@link Result.Success} of the new value, or the first {@link Result.Failure}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R, E> @NotNull Result<R, E> zip(@NotNull Result<T1, ? extends E> r1,
+                                                                                            @NotNull Result<T2, ? extends E> r2,
+                                                                                            @NotNull Result<T3, ? extends E> r3,
+                                                                                            @NotNull Result<T4, ? extends E> r4,
+                                                                                            @NotNull Result<T5, ? extends E> r5,
+                                                                                            @NotNull Result<T6, ? extends E> r6,
+                                                                                            @NotNull Result<T7, ? extends E> r7,
+                                                                                            @NotNull Result<T8, ? extends E> r8,
+                                                                                            @NotNull Result<T9, ? extends E> r9,
+                                                                                            @NotNull Result<T10, ? extends E> r10,
+                                                                                            @NotNull Function10<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? super T10, ? extends R> function) {
+        if (r1.isFailure()) {
+            return castFailure(r1);
+        }
+        if (r2.isFailure()) {
+            return castFailure(r2);
+        }
+        if (r3.isFailure()) {
+            return castFailure(r3);
+        }
+        if (r4.isFailure()) {
+            return castFailure(r4);
+        }
+        if (r5.isFailure()) {
+            return castFailure(r5);
+        }
+        if (r6.isFailure()) {
+            return castFailure(r6);
+        }
+        if (r7.isFailure()) {
+            return castFailure(r7);
+        }
+        if (r8.isFailure()) {
+            return castFailure(r8);
+        }
+        if (r9.isFailure()) {
+            return castFailure(r9);
+        }
+        if (r10.isFailure()) {
+            return castFailure(r10);
+        }
+        return Result.success(function.apply(r1.unwrap(), r2.unwrap(), r3.unwrap(), r4.unwrap(), r5.unwrap(), r6.unwrap(), r7.unwrap(), r8.unwrap(), r9.unwrap(), r10.unwrap()));
+    }
+
+    /**
+     * Creates a {@link Function} that calls the specified {@link ThrowingFunction} and returns its result as {@link Result}.
+     * <p>
+     * See {@link Result#catching(ThrowingSupplier, Function)} for how the exceptions are converted.
+     *
+     * @param function    the {@link ThrowingFunction} to call
+     * @param onException the {@link Function} to convert the thrown {@link Exception} to the error value
+     * @param <T>         the type of the argument
+     * @param <R>         the type of the function result
+     * @param <E>         the type of the error value
+     * @return the {@link Function} that returns the result or the error as {@link Result}
+     */
+    public static <T, R, E> @NotNull Function<T, Result<R, E>> catching(@NotNull ThrowingFunction<? super T, ? extends R> function,
+                                                                        @NotNull Function<? super Exception, ? extends E> onException) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(onException);
+        return t -> Result.catching(() -> function.apply(t), onException);
+    }
+
+    /**
+     * Creates a {@link Function3} that calls the specified {@link ThrowingFunction3} and returns its result as {@link Result}.
+     * <p>
+     * See {@link Result#catching(ThrowingSupplier, Function)} for how the exceptions are converted.
+     *
+     * @param function    the {@link ThrowingFunction3} to call
+     * @param onException the {@link Function} to convert the thrown {@link Exception} to the error value
+     * @param <A1>        the type of the 1st argument
+     * @param <A2>        the type of the 2nd argument
+     * @param <A3>        the type of the 3rd argument
+     * @param <R>         the type of the function result
+     * @param <E>         the type of the error value
+     * @return the {@link Function3} that returns the result or the error as {@link Result}
+     */
+    public static <A1, A2, A3, R, E> @NotNull Function3<A1, A2, A3, Result<R, E>> catching(@NotNull ThrowingFunction3<? super A1, ? super A2, ? super A3, ? extends R> function,
+                                                                                           @NotNull Function<? super Exception, ? extends E> onException) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(onException);
+        return (a1, a2, a3) -> Result.catching(() -> function.apply(a1, a2, a3), onException);
+    }
+
+    /**
+     * Creates a {@link Function4} that calls the specified {@link ThrowingFunction4} and returns its result as {@link Result}.
+     * <p>
+     * See {@link Result#catching(ThrowingSupplier, Function)} for how the exceptions are converted.
+     *
+     * @param function    the {@link ThrowingFunction4} to call
+     * @param onException the {@link Function} to convert the thrown {@link Exception} to the error value
+     * @param <A1>        the type of the 1st argument
+     * @param <A2>        the type of the 2nd argument
+     * @param <A3>        the type of the 3rd argument
+     * @param <A4>        the type of the 4th argument
+     * @param <R>         the type of the function result
+     * @param <E>         the type of the error value
+     * @return the {@link Function4} that returns the result or the error as {@link Result}
+     */
+    public static <A1, A2, A3, A4, R, E> @NotNull Function4<A1, A2, A3, A4, Result<R, E>> catching(@NotNull ThrowingFunction4<? super A1, ? super A2, ? super A3, ? super A4, ? extends R> function,
+                                                                                                   @NotNull Function<? super Exception, ? extends E> onException) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(onException);
+        return (a1, a2, a3, a4) -> Result.catching(() -> function.apply(a1, a2, a3, a4), onException);
+    }
+
+    /**
+     * Creates a {@link Function5} that calls the specified {@link ThrowingFunction5} and returns its result as {@link Result}.
+     * <p>
+     * See {@link Result#catching(ThrowingSupplier, Function)} for how the exceptions are converted.
+     *
+     * @param function    the {@link ThrowingFunction5} to call
+     * @param onException the {@link Function} to convert the thrown {@link Exception} to the error value
+     * @param <A1>        the type of the 1st argument
+     * @param <A2>        the type of the 2nd argument
+     * @param <A3>        the type of the 3rd argument
+     * @param <A4>        the type of the 4th argument
+     * @param <A5>        the type of the 5th argument
+     * @param <R>         the type of the function result
+     * @param <E>         the type of the error value
+     * @return the {@link Function5} that returns the result or the error as {@link Result}
+     */
+    public static <A1, A2, A3, A4, A5, R, E> @NotNull Function5<A1, A2, A3, A4, A5, Result<R, E>> catching(@NotNull ThrowingFunction5<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? extends R> function,
+                                                                                                           @NotNull Function<? super Exception, ? extends E> onException) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(onException);
+        return (a1, a2, a3, a4, a5) -> Result.catching(() -> function.apply(a1, a2, a3, a4, a5), onException);
+    }
+
+    /**
+     * Creates a {@link Function6} that calls the specified {@link ThrowingFunction6} and returns its result as {@link Result}.
+     * <p>
+     * See {@link Result#catching(ThrowingSupplier, Function)} for how the exceptions are converted.
+     *
+     * @param function    the {@link ThrowingFunction6} to call
+     * @param onException the {@link Function} to convert the thrown {@link Exception} to the error value
+     * @param <A1>        the type of the 1st argument
+     * @param <A2>        the type of the 2nd argument
+     * @param <A3>        the type of the 3rd argument
+     * @param <A4>        the type of the 4th argument
+     * @param <A5>        the type of the 5th argument
+     * @param <A6>        the type of the 6th argument
+     * @param <R>         the type of the function result
+     * @param <E>         the type of the error value
+     * @return the {@link Function6} that returns the result or the error as {@link Result}
+     */
+    public static <A1, A2, A3, A4, A5, A6, R, E> @NotNull Function6<A1, A2, A3, A4, A5, A6, Result<R, E>> catching(@NotNull ThrowingFunction6<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? extends R> function,
+                                                                                                                   @NotNull Function<? super Exception, ? extends E> onException) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(onException);
+        return (a1, a2, a3, a4, a5, a6) -> Result.catching(() -> function.apply(a1, a2, a3, a4, a5, a6), onException);
+    }
+
+    /**
+     * Creates a {@link Function7} that calls the specified {@link ThrowingFunction7} and returns its result as {@link Result}.
+     * <p>
+     * See {@link Result#catching(ThrowingSupplier, Function)} for how the exceptions are converted.
+     *
+     * @param function    the {@link ThrowingFunction7} to call
+     * @param onException the {@link Function} to convert the thrown {@link Exception} to the error value
+     * @param <A1>        the type of the 1st argument
+     * @param <A2>        the type of the 2nd argument
+     * @param <A3>        the type of the 3rd argument
+     * @param <A4>        the type of the 4th argument
+     * @param <A5>        the type of the 5th argument
+     * @param <A6>        the type of the 6th argument
+     * @param <A7>        the type of the 7th argument
+     * @param <R>         the type of the function result
+     * @param <E>         the type of the error value
+     * @return the {@link Function7} that returns the result or the error as {@link Result}
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, R, E> @NotNull Function7<A1, A2, A3, A4, A5, A6, A7, Result<R, E>> catching(@NotNull ThrowingFunction7<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? extends R> function,
+                                                                                                                           @NotNull Function<? super Exception, ? extends E> onException) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(onException);
+        return (a1, a2, a3, a4, a5, a6, a7) -> Result.catching(() -> function.apply(a1, a2, a3, a4, a5, a6, a7), onException);
+    }
+
+    /**
+     * Creates a {@link Function8} that calls the specified {@link ThrowingFunction8} and returns its result as {@link Result}.
+     * <p>
+     * See {@link Result#catching(ThrowingSupplier, Function)} for how the exceptions are converted.
+     *
+     * @param function    the {@link ThrowingFunction8} to call
+     * @param onException the {@link Function} to convert the thrown {@link Exception} to the error value
+     * @param <A1>        the type of the 1st argument
+     * @param <A2>        the type of the 2nd argument
+     * @param <A3>        the type of the 3rd argument
+     * @param <A4>        the type of the 4th argument
+     * @param <A5>        the type of the 5th argument
+     * @param <A6>        the type of the 6th argument
+     * @param <A7>        the type of the 7th argument
+     * @param <A8>        the type of the 8th argument
+     * @param <R>         the type of the function result
+     * @param <E>         the type of the error value
+     * @return the {@link Function8} that returns the result or the error as {@link Result}
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, R, E> @NotNull Function8<A1, A2, A3, A4, A5, A6, A7, A8, Result<R, E>> catching(@NotNull ThrowingFunction8<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? extends R> function,
+                                                                                                                                   @NotNull Function<? super Exception, ? extends E> onException) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(onException);
+        return (a1, a2, a3, a4, a5, a6, a7, a8) -> Result.catching(() -> function.apply(a1, a2, a3, a4, a5, a6, a7, a8), onException);
+    }
+
+    /**
+     * Creates a {@link Function9} that calls the specified {@link ThrowingFunction9} and returns its result as {@link Result}.
+     * <p>
+     * See {@link Result#catching(ThrowingSupplier, Function)} for how the exceptions are converted.
+     *
+     * @param function    the {@link ThrowingFunction9} to call
+     * @param onException the {@link Function} to convert the thrown {@link Exception} to the error value
+     * @param <A1>        the type of the 1st argument
+     * @param <A2>        the type of the 2nd argument
+     * @param <A3>        the type of the 3rd argument
+     * @param <A4>        the type of the 4th argument
+     * @param <A5>        the type of the 5th argument
+     * @param <A6>        the type of the 6th argument
+     * @param <A7>        the type of the 7th argument
+     * @param <A8>        the type of the 8th argument
+     * @param <A9>        the type of the 9th argument
+     * @param <R>         the type of the function result
+     * @param <E>         the type of the error value
+     * @return the {@link Function9} that returns the result or the error as {@link Result}
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, R, E> @NotNull Function9<A1, A2, A3, A4, A5, A6, A7, A8, A9, Result<R, E>> catching(@NotNull ThrowingFunction9<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? extends R> function,
+                                                                                                                                           @NotNull Function<? super Exception, ? extends E> onException) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(onException);
+        return (a1, a2, a3, a4, a5, a6, a7, a8, a9) -> Result.catching(() -> function.apply(a1, a2, a3, a4, a5, a6, a7, a8, a9), onException);
+    }
+
+    /**
+     * Creates a {@link Function10} that calls the specified {@link ThrowingFunction10} and returns its result as {@link Result}.
+     * <p>
+     * See {@link Result#catching(ThrowingSupplier, Function)} for how the exceptions are converted.
+     *
+     * @param function    the {@link ThrowingFunction10} to call
+     * @param onException the {@link Function} to convert the thrown {@link Exception} to the error value
+     * @param <A1>        the type of the 1st argument
+     * @param <A2>        the type of the 2nd argument
+     * @param <A3>        the type of the 3rd argument
+     * @param <A4>        the type of the 4th argument
+     * @param <A5>        the type of the 5th argument
+     * @param <A6>        the type of the 6th argument
+     * @param <A7>        the type of the 7th argument
+     * @param <A8>        the type of the 8th argument
+     * @param <A9>        the type of the 9th argument
+     * @param <A10>       the type of the 10th argument
+     * @param <R>         the type of the function result
+     * @param <E>         the type of the error value
+     * @return the {@link Function10} that returns the result or the error as {@link Result}
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, R, E> @NotNull Function10<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, Result<R, E>> catching(@NotNull ThrowingFunction10<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? super A9, ? super A10, ? extends R> function,
+                                                                                                                                                      @NotNull Function<? super Exception, ? extends E> onException) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(onException);
+        return (a1, a2, a3, a4, a5, a6, a7, a8, a9, a10) -> Result.catching(() -> function.apply(a1, a2, a3, a4, a5, a6, a7, a8, a9, a10), onException);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, E> @NotNull Result<R, E> castFailure(@NotNull Result<?, ? extends E> failure) {
+        return (Result<R, E>) failure; // Result.Failure does not hold the success value, so it can be shared between success types
+    }
+
+    private Results() {
+        throw new UnsupportedOperationException();
+    }
+}
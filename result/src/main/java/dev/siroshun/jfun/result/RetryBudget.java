@@ -0,0 +1,113 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A budget that limits the number of the retries shared by multiple {@link RetryPolicy}s or calls.
+ * <p>
+ * The budget holds the tokens, and each retry withdraws one token.
+ * Each call that succeeds without retrying deposits {@code depositPerSuccess} tokens, up to {@code maxTokens}.
+ * When the downstream keeps failing, the budget runs out, and the retries stop until the successful calls deposit the tokens again.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    /**
+     * Creates a new {@link RetryBudget} that initially has {@code maxTokens} tokens.
+     *
+     * @param maxTokens         the maximum number of the tokens
+     * @param depositPerSuccess the number of the tokens deposited for each successful call, such as {@code 0.1} to allow one retry per ten successes
+     * @return a new {@link RetryBudget}
+     * @throws IllegalArgumentException if {@code maxTokens} is not positive or {@code depositPerSuccess} is negative
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull RetryBudget create(int maxTokens, double depositPerSuccess) {
+        if (maxTokens < 1) {
+            throw new IllegalArgumentException("maxTokens must be positive.");
+        }
+        if (!(0 <= depositPerSuccess)) {
+            throw new IllegalArgumentException("depositPerSuccess must not be negative.");
+        }
+        return new RetryBudget(maxTokens * SCALE, Math.round(depositPerSuccess * SCALE));
+    }
+
+    private final AtomicLong tokens;
+    private final long maxTokens;
+    private final long deposit;
+
+    private RetryBudget(long maxTokens, long deposit) {
+        this.tokens = new AtomicLong(maxTokens);
+        this.maxTokens = maxTokens;
+        this.deposit = deposit;
+    }
+
+    /**
+     * Withdraws one token for a retry.
+     *
+     * @return {@code true} if the token is withdrawn, or {@code false} if the budget is exhausted
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = this.tokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!this.tokens.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /**
+     * Deposits the tokens for a successful call.
+     */
+    public void onSuccess() {
+        if (this.deposit == 0) {
+            return;
+        }
+
+        long current;
+        do {
+            current = this.tokens.get();
+            if (current == this.maxTokens) {
+                return;
+            }
+        } while (!this.tokens.compareAndSet(current, Math.min(this.maxTokens, current + this.deposit)));
+    }
+
+    /**
+     * Returns the number of the available tokens.
+     *
+     * @return the number of the available tokens
+     */
+    public double availableTokens() {
+        return (double) this.tokens.get() / SCALE;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryBudget{" + "availableTokens=" + this.availableTokens() + ", maxTokens=" + (this.maxTokens / SCALE) + '}';
+    }
+}
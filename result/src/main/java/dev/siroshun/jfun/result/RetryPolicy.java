@@ -0,0 +1,352 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A policy to retry the calls that return {@link Result.Failure}.
+ * <p>
+ * {@link #execute(Supplier)} calls the {@link Supplier} until it returns {@link Result.Success},
+ * the error is not retryable, or one of the limits ({@code maxAttempts}, {@code maxElapsed} and {@link RetryBudget}) is reached.
+ * The delay between the attempts grows exponentially, and it is randomized by the jitter.
+ * <p>
+ * By default, the current thread waits using {@link TimeUnit#sleep(long)}, which parks virtual threads without blocking their carrier threads.
+ * The clock, the sleeper and the random source can be replaced to test the policy deterministically.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @param <E> the type of the error value
+ */
+public final class RetryPolicy<E> {
+
+    /**
+     * Creates a new {@link Builder}.
+     *
+     * @param <E> the type of the error value
+     * @return a new {@link Builder}
+     */
+    @Contract(value = "-> new", pure = true)
+    public static <E> @NotNull Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    private final int maxAttempts;
+    private final Predicate<? super E> retryIf;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final double jitter;
+    private final long maxElapsedNanos;
+    private final @Nullable RetryBudget budget;
+    private final LongSupplier clock;
+    private final Sleeper sleeper;
+    private final DoubleSupplier random;
+
+    private RetryPolicy(@NotNull Builder<E> builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.retryIf = builder.retryIf;
+        this.initialDelayNanos = saturatedNanos(builder.initialDelay);
+        this.maxDelayNanos = saturatedNanos(builder.maxDelay);
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.maxElapsedNanos = builder.maxElapsed != null ? saturatedNanos(builder.maxElapsed) : Long.MAX_VALUE;
+        this.budget = builder.budget;
+        this.clock = builder.clock;
+        this.sleeper = builder.sleeper;
+        this.random = builder.random;
+    }
+
+    /**
+     * Calls the specified {@link Supplier}, and retries it while it returns the retryable {@link Result.Failure}.
+     * <p>
+     * The returned {@link Result} is the one returned by the last attempt.
+     *
+     * @param supplier the {@link Supplier} to call
+     * @param <T>      the type of the success value
+     * @return the {@link Result} of the last attempt
+     * @throws InterruptedException if the current thread is interrupted while waiting for the next attempt
+     * @throws NullPointerException if the {@link Supplier} returns {@code null}
+     */
+    public <T> @NotNull Result<T, E> execute(@NotNull Supplier<? extends Result<T, E>> supplier) throws InterruptedException {
+        long start = this.clock.getAsLong();
+        long delay = this.initialDelayNanos;
+
+        for (int attempt = 1; ; attempt++) {
+            Result<T, E> result = Objects.requireNonNull(supplier.get());
+
+            if (result.isSuccess()) {
+                if (attempt == 1 && this.budget != null) {
+                    this.budget.onSuccess();
+                }
+                return result;
+            }
+
+            if (attempt == this.maxAttempts || !this.retryIf.test(result.unwrapError())) {
+                return result;
+            }
+
+            long sleep = this.applyJitter(delay);
+
+            if (this.maxElapsedNanos - (this.clock.getAsLong() - start) < sleep) {
+                return result;
+            }
+
+            if (this.budget != null && !this.budget.tryAcquire()) {
+                return result;
+            }
+
+            Object event = ResultEvents.beginRetry(attempt, result.unwrapError());
+            this.sleeper.sleep(sleep);
+            ResultEvents.endRetry(event);
+
+            delay = (long) Math.min(this.maxDelayNanos, delay * this.multiplier);
+        }
+    }
+
+    private static long saturatedNanos(@NotNull Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE; // the durations are validated to be non-negative
+        }
+    }
+
+    private long applyJitter(long delay) {
+        return this.jitter == 0 ? delay : (long) (delay * (1 - this.jitter * this.random.getAsDouble()));
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+            "maxAttempts=" + this.maxAttempts +
+            ", initialDelay=" + Duration.ofNanos(this.initialDelayNanos) +
+            ", maxDelay=" + Duration.ofNanos(this.maxDelayNanos) +
+            ", multiplier=" + this.multiplier +
+            ", jitter=" + this.jitter +
+            ", maxElapsed=" + (this.maxElapsedNanos == Long.MAX_VALUE ? null : Duration.ofNanos(this.maxElapsedNanos)) +
+            ", budget=" + this.budget +
+            '}';
+    }
+
+    /**
+     * An interface to wait for the next attempt.
+     */
+    @FunctionalInterface
+    public interface Sleeper {
+
+        /**
+         * Waits for the specified time.
+         *
+         * @param nanos the time to wait in nanoseconds
+         * @throws InterruptedException if the current thread is interrupted while waiting
+         */
+        void sleep(long nanos) throws InterruptedException;
+
+    }
+
+    /**
+     * A builder of {@link RetryPolicy}.
+     *
+     * @param <E> the type of the error value
+     */
+    public static final class Builder<E> {
+
+        private int maxAttempts = 3;
+        private Predicate<? super E> retryIf = error -> true;
+        private Duration initialDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(10);
+        private double multiplier = 2.0;
+        private double jitter = 0.2;
+        private @Nullable Duration maxElapsed;
+        private @Nullable RetryBudget budget;
+        private LongSupplier clock = System::nanoTime;
+        private Sleeper sleeper = TimeUnit.NANOSECONDS::sleep;
+        private DoubleSupplier random = () -> ThreadLocalRandom.current().nextDouble();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of the attempts including the first call.
+         * <p>
+         * The default value is {@code 3}.
+         *
+         * @param maxAttempts the maximum number of the attempts
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxAttempts} is not positive
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be positive.");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Predicate} to check if the error is retryable.
+         * <p>
+         * By default, all errors are retryable.
+         *
+         * @param retryIf the {@link Predicate} that returns {@code true} if the error is retryable
+         * @return this builder
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> retryIf(@NotNull Predicate<? super E> retryIf) {
+            this.retryIf = Objects.requireNonNull(retryIf);
+            return this;
+        }
+
+        /**
+         * Sets the exponential backoff.
+         * <p>
+         * The delay before the {@code n}-th retry is {@code initialDelay * multiplier^(n-1)}, capped by {@code maxDelay}.
+         * The default values are 100 milliseconds, 10 seconds and {@code 2.0}.
+         *
+         * @param initialDelay the delay before the first retry
+         * @param maxDelay     the maximum delay
+         * @param multiplier   the multiplier of the delay, that must be {@code 1.0} or greater
+         * @return this builder
+         * @throws IllegalArgumentException if the delays are negative, {@code maxDelay} is less than {@code initialDelay}, or {@code multiplier} is less than {@code 1.0}
+         */
+        @Contract("_, _, _ -> this")
+        public @NotNull Builder<E> backoff(@NotNull Duration initialDelay, @NotNull Duration maxDelay, double multiplier) {
+            if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0) {
+                throw new IllegalArgumentException("initialDelay must not be negative, and maxDelay must not be less than initialDelay.");
+            }
+            if (!(1.0 <= multiplier)) {
+                throw new IllegalArgumentException("multiplier must be 1.0 or greater.");
+            }
+            this.initialDelay = initialDelay;
+            this.maxDelay = maxDelay;
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the jitter factor.
+         * <p>
+         * Each delay is reduced by a random ratio from {@code 0} to {@code jitter},
+         * so the retries from many callers are spread over time. The default value is {@code 0.2}.
+         *
+         * @param jitter the jitter factor, from {@code 0.0} (no jitter) to {@code 1.0}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code jitter} is out of range
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> jitter(double jitter) {
+            if (!(0 <= jitter && jitter <= 1)) {
+                throw new IllegalArgumentException("jitter must be between 0.0 and 1.0.");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Sets the maximum elapsed time from the first attempt.
+         * <p>
+         * No retry is made if the next attempt would start after this time, so {@link Duration#ZERO} disables the retries.
+         * By default, the elapsed time is not limited.
+         *
+         * @param maxElapsed the maximum elapsed time, or {@code null} to disable the limit
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxElapsed} is negative
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> maxElapsed(@Nullable Duration maxElapsed) {
+            if (maxElapsed != null && maxElapsed.isNegative()) {
+                throw new IllegalArgumentException("maxElapsed must not be negative.");
+            }
+            this.maxElapsed = maxElapsed;
+            return this;
+        }
+
+        /**
+         * Sets the {@link RetryBudget} that is shared with other calls.
+         *
+         * @param budget the {@link RetryBudget}, or {@code null} to disable the budget
+         * @return this builder
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> budget(@Nullable RetryBudget budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Sets the clock that returns the current time in nanoseconds.
+         * <p>
+         * The default clock is {@link System#nanoTime()}.
+         *
+         * @param clock the clock that returns the current time in nanoseconds
+         * @return this builder
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> clock(@NotNull LongSupplier clock) {
+            this.clock = Objects.requireNonNull(clock);
+            return this;
+        }
+
+        /**
+         * Sets the {@link Sleeper} to wait for the next attempt.
+         *
+         * @param sleeper the {@link Sleeper}
+         * @return this builder
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> sleeper(@NotNull Sleeper sleeper) {
+            this.sleeper = Objects.requireNonNull(sleeper);
+            return this;
+        }
+
+        /**
+         * Sets the random source of the jitter, that returns a value from {@code 0.0} (inclusive) to {@code 1.0} (exclusive).
+         *
+         * @param random the random source
+         * @return this builder
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<E> random(@NotNull DoubleSupplier random) {
+            this.random = Objects.requireNonNull(random);
+            return this;
+        }
+
+        /**
+         * Creates a new {@link RetryPolicy} from this builder.
+         *
+         * @return a new {@link RetryPolicy}
+         */
+        @Contract("-> new")
+        public @NotNull RetryPolicy<E> build() {
+            return new RetryPolicy<>(this);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} that stops advancing after a {@link Result.Failure} is found.
+ * <p>
+ * The {@link Spliterator}s created by {@link #trySplit()} share the state with the parent,
+ * so all of them stop when one of them finds a {@link Result.Failure}.
+ *
+ * @param <R> the type of the {@link Result}
+ */
+final class ShortCircuitingSpliterator<R extends Result<?, ?>> implements Spliterator<R>, Consumer<R> {
+
+    private final Spliterator<? extends R> source;
+    private final AtomicBoolean failureFound;
+    private @Nullable Consumer<? super R> action;
+
+    ShortCircuitingSpliterator(@NotNull Spliterator<? extends R> source) {
+        this(source, new AtomicBoolean());
+    }
+
+    private ShortCircuitingSpliterator(@NotNull Spliterator<? extends R> source, @NotNull AtomicBoolean failureFound) {
+        this.source = source;
+        this.failureFound = failureFound;
+    }
+
+    @Override
+    public boolean tryAdvance(@NotNull Consumer<? super R> action) {
+        if (this.failureFound.get()) {
+            return false;
+        }
+
+        this.action = action;
+        try {
+            return this.source.tryAdvance(this);
+        } finally {
+            this.action = null;
+        }
+    }
+
+    @Override
+    public void accept(@NotNull R result) {
+        if (result.isFailure()) {
+            this.failureFound.set(true);
+        }
+        this.action.accept(result);
+    }
+
+    @Override
+    public @Nullable Spliterator<R> trySplit() {
+        if (this.failureFound.get()) {
+            return null;
+        }
+
+        Spliterator<? extends R> split = this.source.trySplit();
+        return split != null ? new ShortCircuitingSpliterator<>(split, this.failureFound) : null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.failureFound.get() ? 0 : this.source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return this.source.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+record SingleInvalidImpl<T, E>(@Nullable E error) implements Validation.Invalid<T, E> {
+
+    @Override
+    public boolean isValid() {
+        return false;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return true;
+    }
+
+    @Override
+    public T unwrap() throws NoSuchElementException {
+        throw UnwrapExceptions.create("Validation.Invalid cannot unwrap value.");
+    }
+
+    @Override
+    public int errorCount() {
+        return 1;
+    }
+
+    @Override
+    public @NotNull List<E> errors() {
+        return Collections.singletonList(this.error);
+    }
+
+    @Override
+    public void forEachError(@NotNull Consumer<? super E> consumer) {
+        consumer.accept(this.error);
+    }
+
+    @Override
+    public @NotNull <U> Validation<U, E> map(@NotNull Function<? super T, ? extends U> mapper) {
+        return this.cast();
+    }
+
+    @Override
+    public @NotNull <O> Validation<T, O> mapError(@NotNull Function<? super E, ? extends O> mapper) {
+        return new SingleInvalidImpl<>(mapper.apply(this.error));
+    }
+
+    @Override
+    public @NotNull <U> Validation<U, E> flatMap(@NotNull Function<? super T, ? extends Validation<U, E>> mapper) {
+        return this.cast();
+    }
+
+    @Override
+    public @NotNull Result<T, List<E>> toResult() {
+        return Result.failure(this.errors());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Contract("-> this")
+    <U> Validation.@NotNull Invalid<U, E> cast() {
+        return (Validation.Invalid<U, E>) this;
+    }
+}
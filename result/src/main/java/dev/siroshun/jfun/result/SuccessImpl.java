@@ -21,9 +21,12 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -33,11 +36,95 @@ record SuccessImpl<T, E>(@Nullable T value) implements Result.Success<T, E> {
     @SuppressWarnings({"rawtypes", "unchecked"})
     private static final SuccessImpl INSTANCE = new SuccessImpl(null);
 
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final SuccessImpl TRUE = new SuccessImpl(Boolean.TRUE);
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final SuccessImpl FALSE = new SuccessImpl(Boolean.FALSE);
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final SuccessImpl EMPTY_STRING = new SuccessImpl("");
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final SuccessImpl EMPTY_OPTIONAL = new SuccessImpl(Optional.empty());
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final SuccessImpl EMPTY_LIST = new SuccessImpl(List.of());
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final SuccessImpl EMPTY_SET = new SuccessImpl(Set.of());
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final SuccessImpl EMPTY_MAP = new SuccessImpl(Map.of());
+
+    private static final int SMALL_INTEGER_MIN = -128;
+    private static final int SMALL_INTEGER_MAX = 127;
+
+    @SuppressWarnings("rawtypes")
+    private static final SuccessImpl[] SMALL_INTEGERS = new SuccessImpl[SMALL_INTEGER_MAX - SMALL_INTEGER_MIN + 1];
+
+    static {
+        for (int i = 0; i < SMALL_INTEGERS.length; i++) {
+            SMALL_INTEGERS[i] = new SuccessImpl<>(Integer.valueOf(i + SMALL_INTEGER_MIN));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     static <T, E> @NotNull SuccessImpl<T, E> nullSuccess() {
         return (SuccessImpl<T, E>) INSTANCE;
     }
 
+    /**
+     * Returns the {@link SuccessImpl} that holds the specified value.
+     * <p>
+     * The shared instance is returned only if the value is the same instance that it holds,
+     * so the identity of the value returned by {@link #unwrap()} is always preserved.
+     *
+     * @param value the success value
+     * @param <T>   the type of the success value
+     * @param <E>   the type of the error value
+     * @return the shared {@link SuccessImpl} if exists, or the new {@link SuccessImpl}
+     */
+    @SuppressWarnings("unchecked")
+    static <T, E> @NotNull SuccessImpl<T, E> of(@Nullable T value) {
+        if (value == null) {
+            return nullSuccess();
+        }
+
+        if (value instanceof Integer integer) {
+            int i = integer;
+            if (SMALL_INTEGER_MIN <= i && i <= SMALL_INTEGER_MAX) {
+                SuccessImpl<T, E> cached = SMALL_INTEGERS[i - SMALL_INTEGER_MIN];
+                if (cached.value == value) {
+                    return cached;
+                }
+            }
+            return new SuccessImpl<>(value);
+        }
+
+        // Checks the exact class first, so other values are not compared with every canonical value.
+        Class<?> type = value.getClass();
+        SuccessImpl<T, E> cached;
+
+        if (type == Boolean.class) {
+            cached = (Boolean) value ? TRUE : FALSE;
+        } else if (type == String.class) {
+            cached = EMPTY_STRING;
+        } else if (type == Optional.class) {
+            cached = EMPTY_OPTIONAL;
+        } else if (type == EMPTY_LIST.value.getClass()) {
+            cached = EMPTY_LIST;
+        } else if (type == EMPTY_SET.value.getClass()) {
+            cached = EMPTY_SET;
+        } else if (type == EMPTY_MAP.value.getClass()) {
+            cached = EMPTY_MAP;
+        } else {
+            return new SuccessImpl<>(value);
+        }
+
+        return cached.value == value ? cached : new SuccessImpl<>(value);
+    }
+
     @Override
     public boolean isSuccess() {
         return true;
@@ -61,7 +148,7 @@ record SuccessImpl<T, E>(@Nullable T value) implements Result.Success<T, E> {
     @Override
     public @NotNull <U> Result<U, E> map(@NotNull Function<? super T, ? extends U> mapper) {
         U result = mapper.apply(this.value);
-        return Result.success(result);
+        return result == this.value ? this.castValue() : Result.success(result);
     }
 
     @Override
@@ -135,9 +222,19 @@ record SuccessImpl<T, E>(@Nullable T value) implements Result.Success<T, E> {
         return this.unwrap();
     }
 
+    @Override
+    public @Nullable T unwrapOrNull() {
+        return this.unwrap();
+    }
+
     @Override
     public E unwrapError() throws NoSuchElementException {
-        throw new NoSuchElementException("Result.Success cannot unwrap error.");
+        throw UnwrapExceptions.create("Result.Success cannot unwrap error.");
+    }
+
+    @Override
+    public @Nullable E unwrapErrorOrNull() {
+        return null;
     }
 
     @Override
@@ -150,6 +247,12 @@ record SuccessImpl<T, E>(@Nullable T value) implements Result.Success<T, E> {
         throw new ClassCastException("Result.Success cannot cast to Result.Failure.");
     }
 
+    @SuppressWarnings("unchecked")
+    @Contract("-> this")
+    private <U> Result.@NotNull Success<U, E> castValue() {
+        return (Result.Success<U, E>) this;
+    }
+
     @SuppressWarnings("unchecked")
     @Contract("-> this")
     private <E2> Result.@NotNull Success<T, E2> castError() {
@@ -0,0 +1,71 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.util.NoSuchElementException;
+
+/**
+ * A factory of {@link NoSuchElementException}s that are thrown when unwrapping the value or the error that does not exist.
+ * <p>
+ * If the system property {@value #STACKLESS_PROPERTY} is {@code true}, the created exceptions do not capture the stack trace.
+ */
+final class UnwrapExceptions {
+
+    /**
+     * The name of the system property that enables the stackless exceptions.
+     */
+    static final String STACKLESS_PROPERTY = "dev.siroshun.jfun.result.stacklessExceptions";
+
+    private static final boolean STACKLESS = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+    /**
+     * Creates a {@link NoSuchElementException} with the specified message.
+     *
+     * @param message the detail message
+     * @return a new {@link NoSuchElementException}
+     */
+    static @NotNull NoSuchElementException create(@NotNull String message) {
+        ResultEvents.unwrapFailed(message);
+        return STACKLESS ? new Stackless(message) : new NoSuchElementException(message);
+    }
+
+    private UnwrapExceptions() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * A {@link NoSuchElementException} that does not capture the stack trace.
+     */
+    static final class Stackless extends NoSuchElementException {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        Stackless(@NotNull String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+record ValidImpl<T, E>(@Nullable T value) implements Validation.Valid<T, E> {
+
+    @Override
+    public boolean isValid() {
+        return true;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return false;
+    }
+
+    @Override
+    public T unwrap() throws NoSuchElementException {
+        return this.value;
+    }
+
+    @Override
+    public int errorCount() {
+        return 0;
+    }
+
+    @Override
+    public @NotNull List<E> errors() {
+        return List.of();
+    }
+
+    @Override
+    public void forEachError(@NotNull Consumer<? super E> consumer) {
+    }
+
+    @Override
+    public @NotNull <U> Validation<U, E> map(@NotNull Function<? super T, ? extends U> mapper) {
+        return new ValidImpl<>(mapper.apply(this.value));
+    }
+
+    @Override
+    public @NotNull <O> Validation<T, O> mapError(@NotNull Function<? super E, ? extends O> mapper) {
+        return this.castError();
+    }
+
+    @Override
+    public @NotNull <U> Validation<U, E> flatMap(@NotNull Function<? super T, ? extends Validation<U, E>> mapper) {
+        return Objects.requireNonNull(mapper.apply(this.value));
+    }
+
+    @Override
+    public @NotNull Result<T, List<E>> toResult() {
+        return Result.success(this.value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Contract("-> this")
+    private <O> Validation.@NotNull Valid<T, O> castError() {
+        return (Validation.Valid<T, O>) this;
+    }
+}
@@ -0,0 +1,534 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.function.Function10;
+import dev.siroshun.jfun.function.Function3;
+import dev.siroshun.jfun.function.Function4;
+import dev.siroshun.jfun.function.Function5;
+import dev.siroshun.jfun.function.Function6;
+import dev.siroshun.jfun.function.Function7;
+import dev.siroshun.jfun.function.Function8;
+import dev.siroshun.jfun.function.Function9;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A type that represents the valid value or the errors of the validation.
+ * <p>
+ * Unlike {@link Result}, {@link Validation} can accumulate all errors by combining multiple {@link Validation}s using {@code zip} methods.
+ * <p>
+ * {@link Invalid} that has only one error holds it directly, and the {@link List} of the errors is created only when it has two or more errors.
+ *
+ * @param <T> the type of the valid value
+ * @param <E> the type of the error value
+ */
+public sealed interface Validation<T, E> permits Validation.Valid, Validation.Invalid {
+
+    /**
+     * Returns a {@link Valid} with the specified value.
+     *
+     * @param value the valid value
+     * @param <T>   the type of the valid value
+     * @param <E>   the type of the error value
+     * @return a {@link Valid} with the specified value
+     */
+    static <T, E> Validation.@NotNull Valid<T, E> valid(@Nullable T value) {
+        return new ValidImpl<>(value);
+    }
+
+    /**
+     * Returns an {@link Invalid} with the specified error.
+     *
+     * @param error the error value
+     * @param <T>   the type of the valid value
+     * @param <E>   the type of the error value
+     * @return an {@link Invalid} with the specified error
+     */
+    static <T, E> Validation.@NotNull Invalid<T, E> invalid(@Nullable E error) {
+        return new SingleInvalidImpl<>(error);
+    }
+
+    /**
+     * Returns an {@link Invalid} with the specified errors.
+     *
+     * @param errors the {@link List} of the error values
+     * @param <T>    the type of the valid value
+     * @param <E>    the type of the error value
+     * @return an {@link Invalid} with the specified errors
+     * @throws IllegalArgumentException if {@code errors} is empty
+     */
+    static <T, E> Validation.@NotNull Invalid<T, E> invalid(@NotNull List<? extends E> errors) {
+        return switch (errors.size()) {
+            case 0 -> throw new IllegalArgumentException("errors must not be empty.");
+            case 1 -> new SingleInvalidImpl<>(errors.getFirst());
+            default -> MultiInvalidImpl.copyOf(errors);
+        };
+    }
+
+    /**
+     * Converts the specified {@link Result} to {@link Validation}.
+     *
+     * @param result the {@link Result} to convert
+     * @param <T>    the type of the valid value
+     * @param <E>    the type of the error value
+     * @return the {@link Valid} of the success value, or the {@link Invalid} of the error value
+     */
+    static <T, E> @NotNull Validation<T, E> fromResult(@NotNull Result<? extends T, ? extends E> result) {
+        return result.isSuccess() ? valid(result.unwrap()) : invalid(result.unwrapError());
+    }
+
+    /**
+     * Combines 2 {@link Validation}s using the specified {@link BiFunction}.
+     * <p>
+     * If all {@link Validation}s are {@link Valid}, this method returns the {@link Valid} of the value created by the {@link BiFunction}.
+     * Otherwise, this method returns the {@link Invalid} that has all errors of the {@link Validation}s in the order of the arguments.
+     *
+     * @param v1       the 1st {@link Validation}
+     * @param v2       the 2nd {@link Validation}
+     * @param function the {@link BiFunction} to create the new value from the valid values
+     * @param <T1>     the type of the 1st valid value
+     * @param <T2>     the type of the 2nd valid value
+     * @param <R>      the type of the new valid value
+     * @param <E>      the type of the error value
+     * @return the {@link Valid} of the new value, or the {@link Invalid} that has all errors
+     */
+    static <T1, T2, R, E> @NotNull Validation<R, E> zip(@NotNull Validation<T1, ? extends E> v1,
+                                                        @NotNull Validation<T2, ? extends E> v2,
+                                                        @NotNull BiFunction<? super T1, ? super T2, ? extends R> function) {
+        if (v1.isValid() && v2.isValid()) {
+            return valid(function.apply(v1.unwrap(), v2.unwrap()));
+        }
+        return ValidationErrors.combine(v1, v2);
+    }
+
+    /**
+     * Combines 3 {@link Validation}s using the specified {@link Function3}.
+     * <p>
+     * If all {@link Validation}s are {@link Valid}, this method returns the {@link Valid} of the value created by the {@link Function3}.
+     * Otherwise, this method returns the {@link Invalid} that has all errors of the {@link Validation}s in the order of the arguments.
+     *
+     * @param v1       the 1st {@link Validation}
+     * @param v2       the 2nd {@link Validation}
+     * @param v3       the 3rd {@link Validation}
+     * @param function the {@link Function3} to create the new value from the valid values
+     * @param <T1>     the type of the 1st valid value
+     * @param <T2>     the type of the 2nd valid value
+     * @param <T3>     the type of the 3rd valid value
+     * @param <R>      the type of the new valid value
+     * @param <E>      the type of the error value
+     * @return the {@link Valid} of the new value, or the {@link Invalid} that has all errors
+     */
+    static <T1, T2, T3, R, E> @NotNull Validation<R, E> zip(@NotNull Validation<T1, ? extends E> v1,
+                                                            @NotNull Validation<T2, ? extends E> v2,
+                                                            @NotNull Validation<T3, ? extends E> v3,
+                                                            @NotNull Function3<? super T1, ? super T2, ? super T3, ? extends R> function) {
+        if (v1.isValid() && v2.isValid() && v3.isValid()) {
+            return valid(function.apply(v1.unwrap(), v2.unwrap(), v3.unwrap()));
+        }
+        return ValidationErrors.combine(v1, v2, v3);
+    }
+
+    /**
+     * Combines 4 {@link Validation}s using the specified {@link Function4}.
+     * <p>
+     * If all {@link Validation}s are {@link Valid}, this method returns the {@link Valid} of the value created by the {@link Function4}.
+     * Otherwise, this method returns the {@link Invalid} that has all errors of the {@link Validation}s in the order of the arguments.
+     *
+     * @param v1       the 1st {@link Validation}
+     * @param v2       the 2nd {@link Validation}
+     * @param v3       the 3rd {@link Validation}
+     * @param v4       the 4th {@link Validation}
+     * @param function the {@link Function4} to create the new value from the valid values
+     * @param <T1>     the type of the 1st valid value
+     * @param <T2>     the type of the 2nd valid value
+     * @param <T3>     the type of the 3rd valid value
+     * @param <T4>     the type of the 4th valid value
+     * @param <R>      the type of the new valid value
+     * @param <E>      the type of the error value
+     * @return the {@link Valid} of the new value, or the {@link Invalid} that has all errors
+     */
+    static <T1, T2, T3, T4, R, E> @NotNull Validation<R, E> zip(@NotNull Validation<T1, ? extends E> v1,
+                                                                @NotNull Validation<T2, ? extends E> v2,
+                                                                @NotNull Validation<T3, ? extends E> v3,
+                                                                @NotNull Validation<T4, ? extends E> v4,
+                                                                @NotNull Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> function) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid()) {
+            return valid(function.apply(v1.unwrap(), v2.unwrap(), v3.unwrap(), v4.unwrap()));
+        }
+        return ValidationErrors.combine(v1, v2, v3, v4);
+    }
+
+    /**
+     * Combines 5 {@link Validation}s using the specified {@link Function5}.
+     * <p>
+     * If all {@link Validation}s are {@link Valid}, this method returns the {@link Valid} of the value created by the {@link Function5}.
+     * Otherwise, this method returns the {@link Invalid} that has all errors of the {@link Validation}s in the order of the arguments.
+     *
+     * @param v1       the 1st {@link Validation}
+     * @param v2       the 2nd {@link Validation}
+     * @param v3       the 3rd {@link Validation}
+     * @param v4       the 4th {@link Validation}
+     * @param v5       the 5th {@link Validation}
+     * @param function the {@link Function5} to create the new value from the valid values
+     * @param <T1>     the type of the 1st valid value
+     * @param <T2>     the type of the 2nd valid value
+     * @param <T3>     the type of the 3rd valid value
+     * @param <T4>     the type of the 4th valid value
+     * @param <T5>     the type of the 5th valid value
+     * @param <R>      the type of the new valid value
+     * @param <E>      the type of the error value
+     * @return the {@link Valid} of the new value, or the {@link Invalid} that has all errors
+     */
+    static <T1, T2, T3, T4, T5, R, E> @NotNull Validation<R, E> zip(@NotNull Validation<T1, ? extends E> v1,
+                                                                    @NotNull Validation<T2, ? extends E> v2,
+                                                                    @NotNull Validation<T3, ? extends E> v3,
+                                                                    @NotNull Validation<T4, ? extends E> v4,
+                                                                    @NotNull Validation<T5, ? extends E> v5,
+                                                                    @NotNull Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> function) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid()) {
+            return valid(function.apply(v1.unwrap(), v2.unwrap(), v3.unwrap(), v4.unwrap(), v5.unwrap()));
+        }
+        return ValidationErrors.combine(v1, v2, v3, v4, v5);
+    }
+
+    /**
+     * Combines 6 {@link Validation}s using the specified {@link Function6}.
+     * <p>
+     * If all {@link Validation}s are {@link Valid}, this method returns the {@link Valid} of the value created by the {@link Function6}.
+     * Otherwise, this method returns the {@link Invalid} that has all errors of the {@link Validation}s in the order of the arguments.
+     *
+     * @param v1       the 1st {@link Validation}
+     * @param v2       the 2nd {@link Validation}
+     * @param v3       the 3rd {@link Validation}
+     * @param v4       the 4th {@link Validation}
+     * @param v5       the 5th {@link Validation}
+     * @param v6       the 6th {@link Validation}
+     * @param function the {@link Function6} to create the new value from the valid values
+     * @param <T1>     the type of the 1st valid value
+     * @param <T2>     the type of the 2nd valid value
+     * @param <T3>     the type of the 3rd valid value
+     * @param <T4>     the type of the 4th valid value
+     * @param <T5>     the type of the 5th valid value
+     * @param <T6>     the type of the 6th valid value
+     * @param <R>      the type of the new valid value
+     * @param <E>      the type of the error value
+     * @return the {@link Valid} of the new value, or the {@link Invalid} that has all errors
+     */
+    static <T1, T2, T3, T4, T5, T6, R, E> @NotNull Validation<R, E> zip(@NotNull Validation<T1, ? extends E> v1,
+                                                                        @NotNull Validation<T2, ? extends E> v2,
+                                                                        @NotNull Validation<T3, ? extends E> v3,
+                                                                        @NotNull Validation<T4, ? extends E> v4,
+                                                                        @NotNull Validation<T5, ? extends E> v5,
+                                                                        @NotNull Validation<T6, ? extends E> v6,
+                                                                        @NotNull Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> function) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid()) {
+            return valid(function.apply(v1.unwrap(), v2.unwrap(), v3.unwrap(), v4.unwrap(), v5.unwrap(), v6.unwrap()));
+        }
+        return ValidationErrors.combine(v1, v2, v3, v4, v5, v6);
+    }
+
+    /**
+     * Combines 7 {@link Validation}s using the specified {@link Function7}.
+     * <p>
+     * If all {@link Validation}s are {@link Valid}, this method returns the {@link Valid} of the value created by the {@link Function7}.
+     * Otherwise, this method returns the {@link Invalid} that has all errors of the {@link Validation}s in the order of the arguments.
+     *
+     * @param v1       the 1st {@link Validation}
+     * @param v2       the 2nd {@link Validation}
+     * @param v3       the 3rd {@link Validation}
+     * @param v4       the 4th {@link Validation}
+     * @param v5       the 5th {@link Validation}
+     * @param v6       the 6th {@link Validation}
+     * @param v7       the 7th {@link Validation}
+     * @param function the {@link Function7} to create the new value from the valid values
+     * @param <T1>     the type of the 1st valid value
+     * @param <T2>     the type of the 2nd valid value
+     * @param <T3>     the type of the 3rd valid value
+     * @param <T4>     the type of the 4th valid value
+     * @param <T5>     the type of the 5th valid value
+     * @param <T6>     the type of the 6th valid value
+     * @param <T7>     the type of the 7th valid value
+     * @param <R>      the type of the new valid value
+     * @param <E>      the type of the error value
+     * @return the {@link Valid} of the new value, or the {@link Invalid} that has all errors
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, R, E> @NotNull Validation<R, E> zip(@NotNull Validation<T1, ? extends E> v1,
+                                                                            @NotNull Validation<T2, ? extends E> v2,
+                                                                            @NotNull Validation<T3, ? extends E> v3,
+                                                                            @NotNull Validation<T4, ? extends E> v4,
+                                                                            @NotNull Validation<T5, ? extends E> v5,
+                                                                            @NotNull Validation<T6, ? extends E> v6,
+                                                                            @NotNull Validation<T7, ? extends E> v7,
+                                                                            @NotNull Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> function) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid()) {
+            return valid(function.apply(v1.unwrap(), v2.unwrap(), v3.unwrap(), v4.unwrap(), v5.unwrap(), v6.unwrap(), v7.unwrap()));
+        }
+        return ValidationErrors.combine(v1, v2, v3, v4, v5, v6, v7);
+    }
+
+    /**
+     * Combines 8 {@link Validation}s using the specified {@link Function8}.
+     * <p>
+     * If all {@link Validation}s are {@link Valid}, this method returns the {@link Valid} of the value created by the {@link Function8}.
+     * Otherwise, this method returns the {@link Invalid} that has all errors of the {@link Validation}s in the order of the arguments.
+     *
+     * @param v1       the 1st {@link Validation}
+     * @param v2       the 2nd {@link Validation}
+     * @param v3       the 3rd {@link Validation}
+     * @param v4       the 4th {@link Validation}
+     * @param v5       the 5th {@link Validation}
+     * @param v6       the 6th {@link Validation}
+     * @param v7       the 7th {@link Validation}
+     * @param v8       the 8th {@link Validation}
+     * @param function the {@link Function8} to create the new value from the valid values
+     * @param <T1>     the type of the 1st valid value
+     * @param <T2>     the type of the 2nd valid value
+     * @param <T3>     the type of the 3rd valid value
+     * @param <T4>     the type of the 4th valid value
+     * @param <T5>     the type of the 5th valid value
+     * @param <T6>     the type of the 6th valid value
+     * @param <T7>     the type of the 7th valid value
+     * @param <T8>     the type of the 8th valid value
+     * @param <R>      the type of the new valid value
+     * @param <E>      the type of the error value
+     * @return the {@link Valid} of the new value, or the {@link Invalid} that has all errors
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8, R, E> @NotNull Validation<R, E> zip(@NotNull Validation<T1, ? extends E> v1,
+                                                                                @NotNull Validation<T2, ? extends E> v2,
+                                                                                @NotNull Validation<T3, ? extends E> v3,
+                                                                                @NotNull Validation<T4, ? extends E> v4,
+                                                                                @NotNull Validation<T5, ? extends E> v5,
+                                                                                @NotNull Validation<T6, ? extends E> v6,
+                                                                                @NotNull Validation<T7, ? extends E> v7,
+                                                                                @NotNull Validation<T8, ? extends E> v8,
+                                                                                @NotNull Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> function) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid()) {
+            return valid(function.apply(v1.unwrap(), v2.unwrap(), v3.unwrap(), v4.unwrap(), v5.unwrap(), v6.unwrap(), v7.unwrap(), v8.unwrap()));
+        }
+        return ValidationErrors.combine(v1, v2, v3, v4, v5, v6, v7, v8);
+    }
+
+    /**
+     * Combines 9 {@link Validation}s using the specified {@link Function9}.
+     * <p>
+     * If all {@link Validation}s are {@link Valid}, this method returns the {@link Valid} of the value created by the {@link Function9}.
+     * Otherwise, this method returns the {@link Invalid} that has all errors of the {@link Validation}s in the order of the arguments.
+     *
+     * @param v1       the 1st {@link Validation}
+     * @param v2       the 2nd {@link Validation}
+     * @param v3       the 3rd {@link Validation}
+     * @param v4       the 4th {@link Validation}
+     * @param v5       the 5th {@link Validation}
+     * @param v6       the 6th {@link Validation}
+     * @param v7       the 7th {@link Validation}
+     * @param v8       the 8th {@link Validation}
+     * @param v9       the 9th {@link Validation}
+     * @param function the {@link Function9} to create the new value from the valid values
+     * @param <T1>     the type of the 1st valid value
+     * @param <T2>     the type of the 2nd valid value
+     * @param <T3>     the type of the 3rd valid value
+     * @param <T4>     the type of the 4th valid value
+     * @param <T5>     the type of the 5th valid value
+     * @param <T6>     the type of the 6th valid value
+     * @param <T7>     the type of the 7th valid value
+     * @param <T8>     the type of the 8th valid value
+     * @param <T9>     the type of the 9th valid value
+     * @param <R>      the type of the new valid value
+     * @param <E>      the type of the error value
+     * @return the {@link Valid} of the new value, or the {@link Invalid} that has all errors
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R, E> @NotNull Validation<R, E> zip(@NotNull Validation<T1, ? extends E> v1,
+                                                                                    @NotNull Validation<T2, ? extends E> v2,
+                                                                                    @NotNull Validation<T3, ? extends E> v3,
+                                                                                    @NotNull Validation<T4, ? extends E> v4,
+                                                                                    @NotNull Validation<T5, ? extends E> v5,
+                                                                                    @NotNull Validation<T6, ? extends E> v6,
+                                                                                    @NotNull Validation<T7, ? extends E> v7,
+                                                                                    @NotNull Validation<T8, ? extends E> v8,
+                                                                                    @NotNull Validation<T9, ? extends E> v9,
+                                                                                    @NotNull Function9<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? extends R> function) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid()) {
+            return valid(function.apply(v1.unwrap(), v2.unwrap(), v3.unwrap(), v4.unwrap(), v5.unwrap(), v6.unwrap(), v7.unwrap(), v8.unwrap(), v9.unwrap()));
+        }
+        return ValidationErrors.combine(v1, v2, v3, v4, v5, v6, v7, v8, v9);
+    }
+
+    /**
+     * Combines 10 {@link Validation}s using the specified {@link Function10}.
+     * <p>
+     * If all {@link Validation}s are {@link Valid}, this method returns the {@link Valid} of the value created by the {@link Function10}.
+     * Otherwise, this method returns the {@link Invalid} that has all errors of the {@link Validation}s in the order of the arguments.
+     *
+     * @param v1       the 1st {@link Validation}
+     * @param v2       the 2nd {@link Validation}
+     * @param v3       the 3rd {@link Validation}
+     * @param v4       the 4th {@link Validation}
+     * @param v5       the 5th {@link Validation}
+     * @param v6       the 6th {@link Validation}
+     * @param v7       the 7th {@link Validation}
+     * @param v8       the 8th {@link Validation}
+     * @param v9       the 9th {@link Validation}
+     * @param v10      the 10th {@link Validation}
+     * @param function the {@link Function10} to create the new value from the valid values
+     * @param <T1>     the type of the 1st valid value
+     * @param <T2>     the type of the 2nd valid value
+     * @param <T3>     the type of the 3rd valid value
+     * @param <T4>     the type of the 4th valid value
+     * @param <T5>     the type of the 5th valid value
+     * @param <T6>     the type of the 6th valid value
+     * @param <T7>     the type of the 7th valid value
+     * @param <T8>     the type of the 8th valid value
+     * @param <T9>     the type of the 9th valid value
+     * @param <T10>    the type of the 10th valid value
+     * @param <R>      the type of the new valid value
+     * @param <E>      the type of the error value
+     * @return the {@link Valid} of the new value, or the {@link Invalid} that has all errors
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R, E> @NotNull Validation<R, E> zip(@NotNull Validation<T1, ? extends E> v1,
+                                                                                         @NotNull Validation<T2, ? extends E> v2,
+                                                                                         @NotNull Validation<T3, ? extends E> v3,
+                                                                                         @NotNull Validation<T4, ? extends E> v4,
+                                                                                         @NotNull Validation<T5, ? extends E> v5,
+                                                                                         @NotNull Validation<T6, ? extends E> v6,
+                                                                                         @NotNull Validation<T7, ? extends E> v7,
+                                                                                         @NotNull Validation<T8, ? extends E> v8,
+                                                                                         @NotNull Validation<T9, ? extends E> v9,
+                                                                                         @NotNull Validation<T10, ? extends E> v10,
+                                                                                         @NotNull Function10<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? super T10, ? extends R> function) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid()) {
+            return valid(function.apply(v1.unwrap(), v2.unwrap(), v3.unwrap(), v4.unwrap(), v5.unwrap(), v6.unwrap(), v7.unwrap(), v8.unwrap(), v9.unwrap(), v10.unwrap()));
+        }
+        return ValidationErrors.combine(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
+    }
+
+    /**
+     * Returns {@code true} if this {@link Validation} is {@link Valid}.
+     *
+     * @return {@code true} if this {@link Validation} is {@link Valid}
+     */
+    boolean isValid();
+
+    /**
+     * Returns {@code true} if this {@link Validation} is {@link Invalid}.
+     *
+     * @return {@code true} if this {@link Validation} is {@link Invalid}
+     */
+    boolean isInvalid();
+
+    /**
+     * Unwraps the valid value.
+     * <p>
+     * If this {@link Validation} is {@link Invalid}, this method throws a {@link NoSuchElementException}.
+     *
+     * @return the valid value
+     * @throws NoSuchElementException if this {@link Validation} is {@link Invalid}
+     */
+    T unwrap() throws NoSuchElementException;
+
+    /**
+     * Returns the number of the errors.
+     *
+     * @return the number of the errors, or {@code 0} if this {@link Validation} is {@link Valid}
+     */
+    int errorCount();
+
+    /**
+     * Returns the unmodifiable {@link List} of the errors.
+     * <p>
+     * If this {@link Validation} has only one error, this method creates a new {@link List} for each call.
+     * To avoid it, use {@link #forEachError(Consumer)} instead.
+     *
+     * @return the {@link List} of the errors, or an empty {@link List} if this {@link Validation} is {@link Valid}
+     */
+    @NotNull List<E> errors();
+
+    /**
+     * Calls the specified {@link Consumer} with each error.
+     * <p>
+     * If this {@link Validation} is {@link Valid}, this method does nothing.
+     *
+     * @param consumer the {@link Consumer} that accepts the error
+     */
+    void forEachError(@NotNull Consumer<? super E> consumer);
+
+    /**
+     * Maps the value from {@link T} to {@link U} using the specified {@link Function}.
+     * <p>
+     * If this {@link Validation} is {@link Invalid}, this method does nothing.
+     *
+     * @param mapper the {@link Function} converts the value
+     * @param <U>    the new type of the valid value
+     * @return the new {@link Valid}, or same instance if this {@link Validation} is {@link Invalid}
+     */
+    <U> @NotNull Validation<U, E> map(@NotNull Function<? super T, ? extends U> mapper);
+
+    /**
+     * Maps each error from {@link E} to {@link O} using the specified {@link Function}.
+     * <p>
+     * If this {@link Validation} is {@link Valid}, this method does nothing.
+     *
+     * @param mapper the {@link Function} converts the error
+     * @param <O>    the new type of the error value
+     * @return the new {@link Invalid}, or same instance if this {@link Validation} is {@link Valid}
+     */
+    <O> @NotNull Validation<T, O> mapError(@NotNull Function<? super E, ? extends O> mapper);
+
+    /**
+     * Maps and flatten the {@link Validation} using the specified {@link Function} when this {@link Validation} is {@link Valid}.
+     * <p>
+     * Unlike {@code zip} methods, this method does not accumulate the errors because the {@link Function} needs the valid value.
+     *
+     * @param mapper the {@link Function} processes the valid value, then returns new {@link Validation}
+     * @param <U>    the new type of the valid value
+     * @return the {@link Validation} returned from {@link Function}, or same instance if this {@link Validation} is {@link Invalid}
+     * @throws NullPointerException if the {@link Function} returns {@code null} as {@link Validation}
+     */
+    <U> @NotNull Validation<U, E> flatMap(@NotNull Function<? super T, ? extends Validation<U, E>> mapper);
+
+    /**
+     * Converts this {@link Validation} to {@link Result}.
+     *
+     * @return the {@link Result.Success} of the valid value, or the {@link Result.Failure} of {@link #errors()}
+     */
+    @NotNull Result<T, List<E>> toResult();
+
+    /**
+     * An interface that represents the valid {@link Validation}.
+     *
+     * @param <T> the type of the valid value
+     * @param <E> the type of the error value
+     */
+    sealed interface Valid<T, E> extends Validation<T, E> permits ValidImpl {
+    }
+
+    /**
+     * An interface that represents the invalid {@link Validation}.
+     *
+     * @param <T> the type of the valid value
+     * @param <E> the type of the error value
+     */
+    sealed interface Invalid<T, E> extends Validation<T, E> permits SingleInvalidImpl, MultiInvalidImpl {
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A helper class to combine the errors of multiple {@link Validation}s.
+ */
+final class ValidationErrors {
+
+    /**
+     * Combines the errors of the specified {@link Validation}s, that must have at least one {@link Validation.Invalid}.
+     * <p>
+     * If the {@link Validation}s have only one error in total, this method returns the {@link Validation.Invalid} that has it as-is.
+     * Otherwise, this method creates the array that has the exact number of the errors.
+     *
+     * @param validations the {@link Validation}s
+     * @param <T>         the type of the valid value
+     * @param <E>         the type of the error value
+     * @return the {@link Validation.Invalid} that has all errors
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    static <T, E> Validation.@NotNull Invalid<T, E> combine(@NotNull Validation<?, ? extends E> @NotNull ... validations) {
+        int count = 0;
+        Validation<?, ? extends E> last = null;
+
+        for (Validation<?, ? extends E> validation : validations) {
+            int errorCount = validation.errorCount();
+            if (errorCount != 0) {
+                count += errorCount;
+                last = validation;
+            }
+        }
+
+        if (count == 1) {
+            return ((SingleInvalidImpl<?, E>) last).cast();
+        }
+
+        Object[] errors = new Object[count];
+        int index = 0;
+
+        for (Validation<?, ? extends E> validation : validations) {
+            switch (validation) {
+                case SingleInvalidImpl<?, ? extends E> single -> errors[index++] = single.error();
+                case MultiInvalidImpl<?, ? extends E> multi -> {
+                    for (E error : multi.errors()) {
+                        errors[index++] = error;
+                    }
+                }
+                case ValidImpl<?, ? extends E> ignored -> {
+                }
+            }
+        }
+
+        return MultiInvalidImpl.wrap((E[]) errors);
+    }
+
+    private ValidationErrors() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -19,7 +19,9 @@
  * The module provides {@link dev.siroshun.jfun.result.Result} type.
  */
 module dev.siroshun.jfun.result {
+    requires static jdk.jfr;
     requires org.jetbrains.annotations;
+    requires transitive dev.siroshun.jfun.function;
 
     exports dev.siroshun.jfun.result;
 }
@@ -0,0 +1,142 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+
+class AsyncResultTest {
+
+    @Test
+    void testNotCompletedUntilSourceCompletes() {
+        CompletableFuture<Result<Integer, String>> source = new CompletableFuture<>();
+        AsyncResult<Integer, String> mapped = AsyncResult.of(source).map(value -> value + 1);
+
+        Assertions.assertFalse(mapped.isDone());
+        source.complete(Result.success(1));
+        Assertions.assertTrue(mapped.isDone());
+        ResultAssertions.assertSuccess(mapped.toCompletableFuture().join(), 2);
+    }
+
+    @Test
+    void testSuccess() {
+        AsyncResult<Integer, String> result = AsyncResult.success(1);
+
+        ResultAssertions.assertSuccess(result.map(value -> value + 1).toCompletableFuture().join(), 2);
+        ResultAssertions.assertSuccess(result.mapError(error -> Assertions.fail("Should not be called")).toCompletableFuture().join(), 1);
+        ResultAssertions.assertSuccess(result.flatMap(value -> Result.success(value * 10)).toCompletableFuture().join(), 10);
+        ResultAssertions.assertFailure(result.flatMapAsync(value -> AsyncResult.failure("async")).toCompletableFuture().join(), "async");
+        ResultAssertions.assertSuccess(result.recover(error -> Assertions.fail("Should not be called")).toCompletableFuture().join(), 1);
+        ResultAssertions.assertSuccess(result.tryRecover(error -> Assertions.fail("Should not be called")).toCompletableFuture().join(), 1);
+        Assertions.assertEquals(1, result.toValueFuture(IllegalStateException::new).join());
+    }
+
+    @Test
+    void testFailure() {
+        AsyncResult<Integer, String> result = AsyncResult.failure("error");
+
+        ResultAssertions.assertFailure(result.map(value -> Assertions.fail("Should not be called")).toCompletableFuture().join(), "error");
+        ResultAssertions.assertFailure(result.mapError(String::length).toCompletableFuture().join(), 5);
+        ResultAssertions.assertFailure(result.flatMapAsync(value -> Assertions.fail("Should not be called")).toCompletableFuture().join(), "error");
+        ResultAssertions.assertSuccess(result.recover(String::length).toCompletableFuture().join(), 5);
+        ResultAssertions.assertFailure(result.tryRecover(error -> Result.failure(error.length())).toCompletableFuture().join(), 5);
+
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, () -> result.toValueFuture(IllegalStateException::new).join());
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+        Assertions.assertEquals("error", exception.getCause().getMessage());
+    }
+
+    @Test
+    void testInspect() {
+        List<Object> inspected = new ArrayList<>();
+        AsyncResult.<Integer, String>success(1).inspect(inspected::add).inspectError(inspected::add).toCompletableFuture().join();
+        AsyncResult.<Integer, String>failure("error").inspect(inspected::add).inspectError(inspected::add).toCompletableFuture().join();
+        Assertions.assertEquals(List.of(1, "error"), inspected);
+    }
+
+    @Test
+    void testExceptionalCompletion() {
+        IllegalStateException cause = new IllegalStateException("test");
+        AsyncResult<Integer, String> result = AsyncResult.<Integer, String>success(1).map(value -> {
+            throw cause;
+        });
+
+        Assertions.assertTrue(result.toCompletableFuture().isCompletedExceptionally());
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> result.recover(String::length).toCompletableFuture().get());
+        Assertions.assertSame(cause, exception.getCause());
+
+        ResultAssertions.assertFailure(result.handleException(ex -> Result.failure(ex.getMessage())).toCompletableFuture().join(), "test");
+        ResultAssertions.assertSuccess(AsyncResult.success(1).handleException(ex -> Assertions.fail("Should not be called")).toCompletableFuture().join(), 1);
+    }
+
+    @Test
+    void testSupplyAsync() {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            AsyncResult<Integer, String> result = AsyncResult.supplyAsync(() -> Result.success(1), executor);
+            ResultAssertions.assertSuccess(result.map(value -> value + 1).toCompletableFuture().join(), 2);
+        }
+    }
+
+    @Test
+    void testNullResult() {
+        AsyncResult<Integer, String> result = AsyncResult.of(CompletableFuture.completedFuture(null));
+        Assertions.assertInstanceOf(NullPointerException.class, result.toCompletableFuture().handle((r, ex) -> ex.getCause()).join());
+    }
+
+    @Test
+    void testCompletedShortCircuit() {
+        AsyncResult<Integer, String> success = AsyncResult.success(1);
+        Assertions.assertSame(success, success.mapError(error -> error + "!"));
+        Assertions.assertSame(success, success.recover(error -> 0));
+        Assertions.assertSame(success, success.inspectError(error -> Assertions.fail("Should not be called")));
+        Assertions.assertSame(success, success.handleException(ex -> Assertions.fail("Should not be called")));
+        Assertions.assertSame(success, success.map(value -> value));
+
+        AsyncResult<Integer, String> failure = AsyncResult.failure("error");
+        Assertions.assertSame(failure, failure.map(value -> value + 1));
+        Assertions.assertSame(failure, failure.flatMap(value -> Result.success(value + 1)));
+        Assertions.assertSame(failure, failure.flatMapAsync(value -> AsyncResult.success(value + 1)));
+        Assertions.assertSame(failure, failure.inspect(value -> Assertions.fail("Should not be called")));
+    }
+
+    @Test
+    void testCompletedException() {
+        IllegalStateException cause = new IllegalStateException();
+        AsyncResult<Integer, String> result = AsyncResult.<Integer, String>success(1).map(value -> {
+            throw cause;
+        });
+
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, () -> result.toCompletableFuture().join());
+        Assertions.assertSame(cause, exception.getCause());
+        ResultAssertions.assertFailure(result.handleException(ex -> Result.failure(ex.getClass().getSimpleName())).toCompletableFuture().join(), "IllegalStateException");
+
+        AsyncResult<Integer, String> async = AsyncResult.<Integer, String>success(1).flatMapAsync(value -> {
+            throw cause;
+        });
+        Assertions.assertSame(cause, Assertions.assertThrows(CompletionException.class, () -> async.toCompletableFuture().join()).getCause());
+    }
+}
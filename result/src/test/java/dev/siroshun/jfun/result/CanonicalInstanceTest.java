@@ -0,0 +1,86 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+class CanonicalInstanceTest {
+
+    private static Stream<Object> canonicalValues() {
+        return Stream.of(
+            Boolean.TRUE, Boolean.FALSE,
+            -128, 0, 1, 127,
+            "",
+            List.of(), Set.of(), Map.of(),
+            Optional.empty()
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("canonicalValues")
+    void testCanonicalSuccess(Object value) {
+        Result<Object, Object> result = Result.success(value);
+        Assertions.assertSame(result, Result.success(value));
+        Assertions.assertSame(value, result.unwrap());
+    }
+
+    @Test
+    void testNonCanonicalSuccess() {
+        Assertions.assertNotSame(Result.success(128), Result.success(128));
+        Assertions.assertNotSame(Result.success("test"), Result.success("test"));
+        Assertions.assertNotSame(Result.success(new ArrayList<>()), Result.success(new ArrayList<>()));
+        Assertions.assertSame(Collections.emptyList(), Result.success(Collections.emptyList()).unwrap());
+        Assertions.assertEquals(Result.success(128), Result.success(128));
+    }
+
+    @Test
+    void testMapReturnsSameInstance() {
+        Result<String, String> success = Result.success("test");
+        Assertions.assertSame(success, success.map(value -> value));
+        Assertions.assertNotSame(success, success.map(value -> value + "!"));
+
+        Result<String, String> failure = Result.failure("test");
+        Assertions.assertSame(failure, failure.mapError(error -> error));
+        Assertions.assertNotSame(failure, failure.mapError(error -> error + "!"));
+    }
+
+    @Test
+    void testPrimitiveMapReturnsSameInstance() {
+        IntResult<String> intResult = IntResult.success(1);
+        Assertions.assertSame(intResult, intResult.map(value -> value));
+
+        LongResult<String> longResult = LongResult.success(1L);
+        Assertions.assertSame(longResult, longResult.map(value -> value));
+
+        DoubleResult<String> doubleResult = DoubleResult.success(0.0);
+        Assertions.assertSame(doubleResult, doubleResult.map(value -> value));
+        Assertions.assertEquals(-0.0, doubleResult.map(value -> -0.0).unwrap());
+        Assertions.assertNotSame(doubleResult, doubleResult.map(value -> -0.0));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.function.Function3;
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+class CatchingTest {
+
+    private enum ErrorCode {
+        IO
+    }
+
+    @Test
+    void testSuccess() {
+        ResultAssertions.assertSuccess(Result.catching(() -> "value"), "value");
+        ResultAssertions.assertSuccess(Result.catching(() -> null, e -> ErrorCode.IO), null);
+    }
+
+    @Test
+    void testFailure() {
+        IOException exception = new IOException();
+        Assertions.assertSame(exception, ResultAssertions.assertFailure(Result.catching(() -> {
+            throw exception;
+        })));
+        ResultAssertions.assertFailure(Result.catching(() -> {
+            throw new IOException();
+        }, e -> ErrorCode.IO), ErrorCode.IO);
+        ResultAssertions.assertFailure(Result.catching(() -> {
+            throw new IllegalStateException("test");
+        }, Exception::getMessage), "test");
+    }
+
+    @Test
+    void testError() {
+        Assertions.assertThrows(AssertionError.class, () -> Result.catching(() -> {
+            throw new AssertionError();
+        }));
+    }
+
+    @Test
+    void testInterrupted() {
+        ResultAssertions.assertFailure(Result.catching(() -> {
+            throw new InterruptedException();
+        }, e -> ErrorCode.IO), ErrorCode.IO);
+        Assertions.assertTrue(Thread.interrupted(), "the interrupt status should be restored");
+    }
+
+    @Test
+    void testFunctions() {
+        Function<String, Result<Integer, ErrorCode>> parse = Results.catching(s -> {
+            if (s.isEmpty()) {
+                throw new IOException();
+            }
+            return s.length();
+        }, e -> ErrorCode.IO);
+        ResultAssertions.assertSuccess(parse.apply("abc"), 3);
+        ResultAssertions.assertFailure(parse.apply(""), ErrorCode.IO);
+
+        Function3<Integer, Integer, Integer, Result<Integer, String>> divide = Results.catching((Integer a1, Integer a2, Integer a3) -> a1 / a2 / a3, Exception::getMessage);
+        ResultAssertions.assertSuccess(divide.apply(12, 2, 3), 2);
+        ResultAssertions.assertFailure(divide.apply(12, 0, 3), "/ by zero");
+    }
+}
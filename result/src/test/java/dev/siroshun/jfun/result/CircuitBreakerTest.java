@@ -0,0 +1,280 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+class CircuitBreakerTest {
+
+    private static Result<Integer, String> call(int input) {
+        return input < 0 ? Result.failure("negative") : Result.success(input);
+    }
+
+    @Test
+    void testOpenOnFailureRate() {
+        List<String> transitions = new ArrayList<>();
+        CircuitBreaker<String> breaker = CircuitBreaker.<String>builder()
+            .windowSize(4)
+            .minimumCalls(4)
+            .failureRateThreshold(0.5)
+            .listener((from, to) -> transitions.add(from + "->" + to))
+            .build();
+
+        AtomicInteger calls = new AtomicInteger();
+        Function<Integer, Result<Integer, String>> function = breaker.decorate(input -> {
+            calls.incrementAndGet();
+            return call(input);
+        }, () -> "open");
+
+        ResultAssertions.assertSuccess(function.apply(1), 1);
+        ResultAssertions.assertFailure(function.apply(-1), "negative");
+        ResultAssertions.assertSuccess(function.apply(2), 2);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        ResultAssertions.assertFailure(function.apply(-2), "negative");
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        Assertions.assertEquals(List.of("CLOSED->OPEN"), transitions);
+
+        ResultAssertions.assertFailure(function.apply(3), "open");
+        Assertions.assertEquals(4, calls.get());
+    }
+
+    @Test
+    void testSlidingWindow() {
+        CircuitBreaker<String> breaker = CircuitBreaker.<String>builder()
+            .windowSize(4)
+            .minimumCalls(4)
+            .failureRateThreshold(0.75)
+            .build();
+
+        Function<Integer, Result<Integer, String>> function = breaker.decorate(CircuitBreakerTest::call, () -> "open");
+
+        function.apply(-1);
+        function.apply(-1);
+        function.apply(1);
+        function.apply(1);
+        Assertions.assertEquals(0.5, breaker.failureRate());
+
+        function.apply(1); // the first failure is evicted
+        Assertions.assertEquals(0.25, breaker.failureRate());
+
+        function.apply(-1);
+        function.apply(-1);
+        Assertions.assertEquals(0.5, breaker.failureRate());
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        function.apply(-1);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void testHalfOpen() {
+        AtomicLong clock = new AtomicLong();
+        List<String> transitions = new ArrayList<>();
+        CircuitBreaker<String> breaker = CircuitBreaker.<String>builder()
+            .windowSize(2)
+            .minimumCalls(2)
+            .waitInOpen(Duration.ofNanos(100))
+            .permittedCallsInHalfOpen(2)
+            .clock(clock::get)
+            .listener((from, to) -> transitions.add(from + "->" + to))
+            .build();
+
+        Function<Integer, Result<Integer, String>> function = breaker.decorate(CircuitBreakerTest::call, () -> "open");
+
+        function.apply(-1);
+        function.apply(-1);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        clock.set(99);
+        ResultAssertions.assertFailure(function.apply(1), "open");
+
+        clock.set(100);
+        ResultAssertions.assertFailure(function.apply(-1), "negative");
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        ResultAssertions.assertSuccess(function.apply(1), 1);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        clock.set(200);
+        ResultAssertions.assertSuccess(function.apply(1), 1);
+        ResultAssertions.assertSuccess(function.apply(2), 2);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        Assertions.assertEquals(
+            List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"),
+            transitions
+        );
+    }
+
+    @Test
+    void testHalfOpenPermits() {
+        AtomicLong clock = new AtomicLong();
+        CircuitBreaker<String> breaker = CircuitBreaker.<String>builder()
+            .windowSize(1)
+            .minimumCalls(1)
+            .waitInOpen(Duration.ZERO)
+            .permittedCallsInHalfOpen(1)
+            .clock(clock::get)
+            .build();
+
+        breaker.call(() -> Result.failure("error"), () -> "open");
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        ResultAssertions.assertFailure(breaker.call(() -> breaker.call(() -> Result.success(1), () -> "open"), () -> "open"), "open");
+    }
+
+    @Test
+    void testMaxWaitInHalfOpen() {
+        AtomicLong clock = new AtomicLong();
+        List<String> transitions = new ArrayList<>();
+        CircuitBreaker<String> breaker = CircuitBreaker.<String>builder()
+            .windowSize(1)
+            .minimumCalls(1)
+            .waitInOpen(Duration.ofNanos(100))
+            .maxWaitInHalfOpen(Duration.ofNanos(50))
+            .permittedCallsInHalfOpen(2)
+            .clock(clock::get)
+            .listener((from, to) -> transitions.add(from + "->" + to))
+            .build();
+
+        breaker.call(() -> Result.failure("error"), () -> "open");
+        clock.set(100);
+
+        // a trial call that does not complete until the half-open state times out
+        ResultAssertions.assertSuccess(breaker.call(() -> {
+            clock.set(150);
+            ResultAssertions.assertFailure(breaker.call(() -> Result.success(2), () -> "open"), "open");
+            return Result.success(1);
+        }, () -> "open"), 1);
+
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        Assertions.assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN"), transitions);
+    }
+
+    @Test
+    void testHugeDurations() {
+        AtomicLong clock = new AtomicLong();
+        CircuitBreaker<String> breaker = CircuitBreaker.<String>builder()
+            .windowSize(1)
+            .minimumCalls(1)
+            .slowCallDuration(Duration.ofSeconds(Long.MAX_VALUE))
+            .waitInOpen(Duration.ofSeconds(Long.MAX_VALUE))
+            .maxWaitInHalfOpen(Duration.ofSeconds(Long.MAX_VALUE))
+            .clock(clock::get)
+            .build();
+
+        ResultAssertions.assertSuccess(breaker.call(() -> Result.success(1), () -> "open"), 1);
+        Assertions.assertEquals(0, breaker.slowCallRate());
+
+        breaker.call(() -> Result.failure("error"), () -> "open");
+        clock.set(Long.MAX_VALUE / 2);
+        ResultAssertions.assertFailure(breaker.call(() -> Result.success(1), () -> "open"), "open");
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void testRejectedTrialCalls() {
+        AtomicLong clock = new AtomicLong();
+        CircuitBreaker<String> breaker = CircuitBreaker.<String>builder()
+            .windowSize(1)
+            .minimumCalls(1)
+            .waitInOpen(Duration.ZERO)
+            .permittedCallsInHalfOpen(1)
+            .clock(clock::get)
+            .build();
+
+        breaker.call(() -> Result.failure("error"), () -> "open");
+
+        ResultAssertions.assertSuccess(breaker.call(() -> {
+            for (int i = 0; i < 100; i++) {
+                ResultAssertions.assertFailure(breaker.call(() -> Result.success(2), () -> "open"), "open");
+            }
+            return Result.success(1);
+        }, () -> "open"), 1);
+
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void testSlowCalls() {
+        AtomicLong clock = new AtomicLong();
+        CircuitBreaker<String> breaker = CircuitBreaker.<String>builder()
+            .windowSize(2)
+            .minimumCalls(2)
+            .slowCallDuration(Duration.ofNanos(10))
+            .slowCallRateThreshold(1.0)
+            .clock(clock::get)
+            .build();
+
+        Supplier<Result<Integer, String>> slow = breaker.decorate(() -> {
+            clock.addAndGet(10);
+            return Result.success(1);
+        }, () -> "open");
+
+        slow.get();
+        Assertions.assertEquals(1.0, breaker.slowCallRate());
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        slow.get();
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void testFailureIfAndException() {
+        CircuitBreaker<String> breaker = CircuitBreaker.<String>builder()
+            .windowSize(2)
+            .minimumCalls(2)
+            .failureIf(error -> !error.equals("invalid"))
+            .build();
+
+        breaker.call(() -> Result.failure("invalid"), () -> "open");
+        breaker.call(() -> Result.failure("invalid"), () -> "open");
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        Assertions.assertThrows(IllegalStateException.class, () -> breaker.call(() -> {
+            throw new IllegalStateException();
+        }, () -> "open"));
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        breaker.reset();
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        Assertions.assertEquals(0.0, breaker.failureRate());
+    }
+
+    @Test
+    void testIllegalArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().windowSize(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().minimumCalls(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().failureRateThreshold(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().slowCallRateThreshold(1.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().waitInOpen(Duration.ofSeconds(-1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().maxWaitInHalfOpen(Duration.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().slowCallDuration(Duration.ofSeconds(-1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().permittedCallsInHalfOpen(0));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+class DeadlineTest {
+
+    @Test
+    void testCompleted() throws InterruptedException {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+        ResultAssertions.assertSuccess(deadline.run(() -> Result.success("value"), () -> "timeout"), "value");
+        ResultAssertions.assertFailure(deadline.run(() -> Result.failure("error"), () -> "timeout"), "error");
+        Assertions.assertFalse(deadline.isExpired());
+        Assertions.assertNull(Deadline.current());
+    }
+
+    @Test
+    void testTimeout() throws InterruptedException {
+        CountDownLatch never = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch finished = new CountDownLatch(1);
+
+        Result<String, String> result = Deadline.after(Duration.ofMillis(50)).run(() -> {
+            try {
+                never.await();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            } finally {
+                finished.countDown();
+            }
+            return Result.success("value");
+        }, () -> "timeout");
+
+        ResultAssertions.assertFailure(result, "timeout");
+        Assertions.assertTrue(finished.await(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(interrupted.get());
+    }
+
+    @Test
+    void testExpired() throws InterruptedException {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(-1));
+        Assertions.assertTrue(deadline.isExpired());
+        Assertions.assertEquals(Duration.ZERO, deadline.remaining());
+
+        AtomicBoolean called = new AtomicBoolean();
+        ResultAssertions.assertFailure(deadline.run(() -> {
+            called.set(true);
+            return Result.success("value");
+        }, () -> "timeout"), "timeout");
+        Assertions.assertFalse(called.get());
+    }
+
+    @Test
+    void testPropagation() throws InterruptedException {
+        Deadline outer = Deadline.after(Duration.ofSeconds(10));
+        AtomicReference<Deadline> current = new AtomicReference<>();
+        AtomicReference<Deadline> nested = new AtomicReference<>();
+
+        outer.run(() -> {
+            current.set(Deadline.current());
+            try {
+                return Deadline.after(Duration.ofDays(1)).run(() -> {
+                    nested.set(Deadline.current());
+                    return Result.success("value");
+                }, () -> "timeout");
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        }, () -> "timeout");
+
+        Assertions.assertSame(outer, current.get());
+        Assertions.assertSame(outer, nested.get());
+
+        Deadline shorter = Deadline.after(Duration.ofSeconds(1));
+        Assertions.assertSame(shorter, outer.min(shorter));
+        Assertions.assertSame(shorter, shorter.min(outer));
+        Assertions.assertSame(outer, outer.min(null));
+    }
+
+    @Test
+    void testException() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+        IllegalStateException exception = new IllegalStateException();
+
+        CompletionException thrown = Assertions.assertThrows(CompletionException.class, () -> deadline.run(() -> {
+            throw exception;
+        }, () -> "timeout"));
+        Assertions.assertSame(exception, thrown.getCause());
+    }
+
+    @Test
+    void testDecorate() {
+        Function<Integer, Result<Integer, String>> function = Deadline.decorate(Duration.ofSeconds(10), Result::success, () -> "timeout");
+        ResultAssertions.assertSuccess(function.apply(1), 1);
+
+        CountDownLatch never = new CountDownLatch(1);
+        Function<Integer, Result<Integer, String>> blocking = Deadline.decorate(Duration.ofMillis(50), input -> {
+            try {
+                never.await();
+            } catch (InterruptedException e) {
+                return Result.failure("interrupted");
+            }
+            return Result.success(input);
+        }, () -> "timeout");
+        ResultAssertions.assertFailure(blocking.apply(1), "timeout");
+    }
+
+    @Test
+    void testHugeTimeout() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(Long.MAX_VALUE));
+        Assertions.assertFalse(deadline.isExpired());
+        Assertions.assertTrue(Deadline.after(Duration.ofSeconds(Long.MIN_VALUE)).isExpired());
+    }
+}
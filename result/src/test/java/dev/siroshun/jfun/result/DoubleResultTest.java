@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+class DoubleResultTest {
+
+    @Test
+    void testSuccess() {
+        DoubleResult<String> result = DoubleResult.success(1.0);
+
+        Assertions.assertTrue(result.isSuccess());
+        Assertions.assertFalse(result.isFailure());
+        Assertions.assertEquals(1.0, result.toOptional().getAsDouble());
+        Assertions.assertEquals(Optional.empty(), result.toOptionalError());
+        Assertions.assertEquals(2.0, result.map(value -> value + 1.0).unwrap());
+        Assertions.assertEquals(1, result.mapToInt(value -> 1).unwrap());
+        Assertions.assertEquals(1L, result.mapToLong(value -> 1L).unwrap());
+        ResultAssertions.assertSuccess(result.mapToObj(String::valueOf), String.valueOf(1.0));
+        Assertions.assertSame(result, result.mapError(error -> Assertions.fail("Should not be called")));
+        Assertions.assertEquals(3.0, result.flatMap(value -> DoubleResult.success(value + 2.0)).unwrap());
+        Assertions.assertTrue(result.flatMap(value -> DoubleResult.failure("test")).isFailure());
+        Assertions.assertThrows(NullPointerException.class, () -> result.flatMap(value -> null));
+        Assertions.assertSame(result, result.recover(error -> Assertions.fail("Should not be called")));
+        Assertions.assertEquals(1.0, result.unwrap());
+        Assertions.assertEquals(1.0, result.unwrapOr(2.0));
+        Assertions.assertEquals(1.0, result.unwrapOrGet(() -> Assertions.fail("Should not be called")));
+        Assertions.assertThrows(NoSuchElementException.class, result::unwrapError);
+        ResultAssertions.assertSuccess(result.boxed(), 1.0);
+    }
+
+    @Test
+    void testFailure() {
+        DoubleResult<String> result = DoubleResult.failure("test");
+
+        Assertions.assertFalse(result.isSuccess());
+        Assertions.assertTrue(result.isFailure());
+        Assertions.assertTrue(result.toOptional().isEmpty());
+        Assertions.assertEquals(Optional.of("test"), result.toOptionalError());
+        Assertions.assertSame(result, result.map(value -> Assertions.fail("Should not be called")));
+        Assertions.assertTrue(result.mapToInt(value -> Assertions.fail("Should not be called")).isFailure());
+        Assertions.assertTrue(result.mapToLong(value -> Assertions.fail("Should not be called")).isFailure());
+        ResultAssertions.assertFailure(result.mapToObj(value -> Assertions.fail("Should not be called")), "test");
+        Assertions.assertEquals("mapped", result.mapError(error -> "mapped").unwrapError());
+        Assertions.assertSame(result, result.flatMap(value -> Assertions.fail("Should not be called")));
+        Assertions.assertEquals(1.0, result.recover(error -> 1.0).unwrap());
+        Assertions.assertThrows(NoSuchElementException.class, result::unwrap);
+        Assertions.assertEquals(2.0, result.unwrapOr(2.0));
+        Assertions.assertEquals(2.0, result.unwrapOrGet(() -> 2.0));
+        Assertions.assertEquals("test", result.unwrapError());
+        ResultAssertions.assertFailure(result.boxed(), "test");
+    }
+
+    @Test
+    void testNullFailure() {
+        Assertions.assertSame(DoubleResult.failure(), DoubleResult.failure(null));
+        Assertions.assertNull(DoubleResult.failure().unwrapError());
+    }
+
+    @Test
+    void testFrom() {
+        Assertions.assertEquals(1.0, DoubleResult.from(Result.success((Double) 1.0)).unwrap());
+        Assertions.assertEquals("test", DoubleResult.from(Result.failure("test")).unwrapError());
+        Assertions.assertThrows(NullPointerException.class, () -> DoubleResult.from(Result.success()));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FailureInternerTest {
+
+    private enum ErrorCode {
+        NOT_FOUND,
+        CONFLICT {
+            @Override
+            public String toString() {
+                return "conflict";
+            }
+        }
+    }
+
+    @Test
+    void testEnumFailure() {
+        Assertions.assertSame(Result.failure(ErrorCode.NOT_FOUND), Result.failure(ErrorCode.NOT_FOUND));
+        Assertions.assertSame(Result.failure(ErrorCode.CONFLICT), Result.failure(ErrorCode.CONFLICT));
+        Assertions.assertNotSame(Result.failure(ErrorCode.NOT_FOUND), Result.failure(ErrorCode.CONFLICT));
+        ResultAssertions.assertFailure(Result.failure(ErrorCode.CONFLICT), ErrorCode.CONFLICT);
+    }
+
+    @Test
+    void testEnumMapError() {
+        Result<Integer, ErrorCode> result = Result.<Integer, String>failure("error").mapError(ignored -> ErrorCode.NOT_FOUND);
+        Assertions.assertSame(Result.failure(ErrorCode.NOT_FOUND), result);
+    }
+
+    @Test
+    void testIntern() {
+        FailureInterner<String> interner = FailureInterner.create(10);
+        Result.Failure<Integer, String> failure = interner.failure(new String("error"));
+
+        Assertions.assertSame(failure, interner.<Integer>failure(new String("error")));
+        Assertions.assertSame(failure, interner.<Long>failure("error"));
+        ResultAssertions.assertFailure(failure, "error");
+        Assertions.assertEquals(1, interner.size());
+    }
+
+    @Test
+    void testMaximumSize() {
+        FailureInterner<String> interner = FailureInterner.create(1);
+        Result.Failure<Object, String> first = interner.failure("a");
+
+        Assertions.assertNotSame(interner.failure("b"), interner.failure("b"));
+        Assertions.assertSame(first, interner.failure("a"));
+        Assertions.assertEquals(1, interner.size());
+        ResultAssertions.assertFailure(interner.failure("b"), "b");
+    }
+
+    @Test
+    void testNullAndEnum() {
+        FailureInterner<Object> interner = FailureInterner.create(10);
+        Assertions.assertSame(Result.failure(), interner.failure(null));
+        Assertions.assertSame(Result.failure(ErrorCode.NOT_FOUND), interner.failure(ErrorCode.NOT_FOUND));
+        Assertions.assertEquals(0, interner.size());
+    }
+
+    @Test
+    void testNegativeMaximumSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FailureInterner.create(-1));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+class FanOutTest {
+
+    @Test
+    void testAllOfSuccess() throws InterruptedException {
+        List<Supplier<Result<Integer, String>>> tasks = IntStream.range(0, 100).<Supplier<Result<Integer, String>>>mapToObj(i -> () -> Result.success(i)).toList();
+        ResultAssertions.assertSuccess(Results.allOf(tasks), IntStream.range(0, 100).boxed().toList());
+    }
+
+    @Test
+    void testAllOfEmpty() throws InterruptedException {
+        ResultAssertions.assertSuccess(Results.<Integer, String>allOf(List.of()), List.of());
+    }
+
+    @Test
+    void testAllOfFailureCancelsOthers() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        List<Supplier<Result<Integer, String>>> tasks = List.of(
+            () -> {
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return Result.success(1);
+            },
+            () -> Result.failure("error")
+        );
+
+        ResultAssertions.assertFailure(Results.allOf(tasks), "error");
+        Assertions.assertTrue(interrupted.await(10, TimeUnit.SECONDS), "the sleeping task should be interrupted");
+    }
+
+    @Test
+    void testAllOfException() {
+        List<Supplier<Result<Integer, String>>> tasks = List.of(() -> {
+            throw new IllegalStateException();
+        });
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, () -> Results.allOf(tasks));
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void testMaxConcurrency() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Supplier<Result<Integer, String>>> tasks = IntStream.range(0, 50).<Supplier<Result<Integer, String>>>mapToObj(i -> () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return Result.success(i);
+        }).toList();
+
+        ResultAssertions.assertSuccess(Results.allOf(tasks, 3), IntStream.range(0, 50).boxed().toList());
+        Assertions.assertTrue(maxRunning.get() <= 3, "at most 3 tasks should run at the same time");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Results.allOf(tasks, 0));
+    }
+
+    @Test
+    void testAnyOf() throws InterruptedException {
+        List<Supplier<Result<String, String>>> tasks = List.of(
+            () -> {
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Result.success("slow");
+            },
+            () -> Result.failure("fast")
+        );
+
+        ResultAssertions.assertFailure(Results.anyOf(tasks), "fast");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Results.anyOf(List.of()));
+    }
+
+    @Test
+    void testFirstSuccess() throws InterruptedException {
+        List<Supplier<Result<Integer, String>>> tasks = List.of(
+            () -> Result.failure("a"),
+            () -> Result.success(1),
+            () -> Result.failure("c")
+        );
+        ResultAssertions.assertSuccess(Results.firstSuccess(tasks), 1);
+    }
+
+    @Test
+    void testFirstSuccessAllFailed() throws InterruptedException {
+        List<Supplier<Result<Integer, String>>> tasks = List.of(
+            () -> Result.failure("a"),
+            () -> Result.failure("b"),
+            () -> Result.failure("c")
+        );
+        ResultAssertions.assertFailure(Results.firstSuccess(tasks), List.of("a", "b", "c"));
+    }
+
+    @Test
+    void testExecutor() throws InterruptedException {
+        List<Supplier<Result<Integer, String>>> tasks = IntStream.range(0, 10).<Supplier<Result<Integer, String>>>mapToObj(i -> () -> Result.success(i)).toList();
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            ResultAssertions.assertSuccess(Results.allOf(tasks, 2, executor), IntStream.range(0, 10).boxed().toList());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+class IntResultTest {
+
+    @Test
+    void testSuccess() {
+        IntResult<String> result = IntResult.success(1);
+
+        Assertions.assertTrue(result.isSuccess());
+        Assertions.assertFalse(result.isFailure());
+        Assertions.assertEquals(1, result.toOptional().getAsInt());
+        Assertions.assertEquals(Optional.empty(), result.toOptionalError());
+        Assertions.assertEquals(2, result.map(value -> value + 1).unwrap());
+        Assertions.assertEquals(1L, result.mapToLong(value -> 1L).unwrap());
+        Assertions.assertEquals(1.0, result.mapToDouble(value -> 1.0).unwrap());
+        ResultAssertions.assertSuccess(result.mapToObj(String::valueOf), String.valueOf(1));
+        Assertions.assertSame(result, result.mapError(error -> Assertions.fail("Should not be called")));
+        Assertions.assertEquals(3, result.flatMap(value -> IntResult.success(value + 2)).unwrap());
+        Assertions.assertTrue(result.flatMap(value -> IntResult.failure("test")).isFailure());
+        Assertions.assertThrows(NullPointerException.class, () -> result.flatMap(value -> null));
+        Assertions.assertSame(result, result.recover(error -> Assertions.fail("Should not be called")));
+        Assertions.assertEquals(1, result.unwrap());
+        Assertions.assertEquals(1, result.unwrapOr(2));
+        Assertions.assertEquals(1, result.unwrapOrGet(() -> Assertions.fail("Should not be called")));
+        Assertions.assertThrows(NoSuchElementException.class, result::unwrapError);
+        ResultAssertions.assertSuccess(result.boxed(), 1);
+    }
+
+    @Test
+    void testFailure() {
+        IntResult<String> result = IntResult.failure("test");
+
+        Assertions.assertFalse(result.isSuccess());
+        Assertions.assertTrue(result.isFailure());
+        Assertions.assertTrue(result.toOptional().isEmpty());
+        Assertions.assertEquals(Optional.of("test"), result.toOptionalError());
+        Assertions.assertSame(result, result.map(value -> Assertions.fail("Should not be called")));
+        Assertions.assertTrue(result.mapToLong(value -> Assertions.fail("Should not be called")).isFailure());
+        Assertions.assertTrue(result.mapToDouble(value -> Assertions.fail("Should not be called")).isFailure());
+        ResultAssertions.assertFailure(result.mapToObj(value -> Assertions.fail("Should not be called")), "test");
+        Assertions.assertEquals("mapped", result.mapError(error -> "mapped").unwrapError());
+        Assertions.assertSame(result, result.flatMap(value -> Assertions.fail("Should not be called")));
+        Assertions.assertEquals(1, result.recover(error -> 1).unwrap());
+        Assertions.assertThrows(NoSuchElementException.class, result::unwrap);
+        Assertions.assertEquals(2, result.unwrapOr(2));
+        Assertions.assertEquals(2, result.unwrapOrGet(() -> 2));
+        Assertions.assertEquals("test", result.unwrapError());
+        ResultAssertions.assertFailure(result.boxed(), "test");
+    }
+
+    @Test
+    void testNullFailure() {
+        Assertions.assertSame(IntResult.failure(), IntResult.failure(null));
+        Assertions.assertNull(IntResult.failure().unwrapError());
+    }
+
+    @Test
+    void testFrom() {
+        Assertions.assertEquals(1, IntResult.from(Result.success((Integer) 1)).unwrap());
+        Assertions.assertEquals("test", IntResult.from(Result.failure("test")).unwrapError());
+        Assertions.assertThrows(NullPointerException.class, () -> IntResult.from(Result.success()));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LazyResultTest {
+
+    @Test
+    void testNotEvaluatedUntilObserved() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> lazy = LazyResult.<Integer, String>of(() -> {
+            calls.incrementAndGet();
+            return Result.success(1);
+        }).map(i -> i + 1).flatMap(i -> Result.success(i * 10)).mapError(String::toUpperCase);
+
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertFalse(lazy.isEvaluated());
+
+        Assertions.assertTrue(lazy.isSuccess());
+        Assertions.assertTrue(lazy.isEvaluated());
+        Assertions.assertEquals(20, lazy.unwrap());
+        Assertions.assertEquals(Optional.of(20), lazy.toOptional());
+        ResultAssertions.assertSuccess(lazy.get(), 20);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testFailure() {
+        LazyResult<Integer, String> lazy = LazyResult.<Integer, String>of(() -> Result.failure("error")).map(i -> i + 1);
+        Assertions.assertTrue(lazy.isFailure());
+        Assertions.assertEquals("error", lazy.unwrapError());
+        Assertions.assertEquals(Optional.empty(), lazy.toOptional());
+        Assertions.assertEquals(Optional.of("error"), lazy.toOptionalError());
+        Assertions.assertEquals(0, lazy.unwrapOr(0));
+        ResultAssertions.assertSuccess(lazy.recover(String::length).get(), 5);
+        ResultAssertions.assertFailure(lazy.tryRecover(e -> Result.failure(e.length())).get(), 5);
+    }
+
+    @Test
+    void testEvaluated() {
+        LazyResult<Integer, String> lazy = LazyResult.evaluated(Result.success(1));
+        Assertions.assertTrue(lazy.isEvaluated());
+        ResultAssertions.assertSuccess(lazy.get(), 1);
+    }
+
+    @Test
+    void testExceptionIsNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> lazy = LazyResult.of(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return Result.success(1);
+        });
+
+        Assertions.assertThrows(IllegalStateException.class, lazy::get);
+        Assertions.assertFalse(lazy.isEvaluated());
+        ResultAssertions.assertSuccess(lazy.get(), 1);
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testNullResult() {
+        Assertions.assertThrows(NullPointerException.class, LazyResult.of(() -> null)::get);
+    }
+
+    @Test
+    void testConcurrentEvaluation() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> lazy = LazyResult.of(() -> {
+            calls.incrementAndGet();
+            return Result.success(1);
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                lazy.get();
+            }));
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+class LongResultTest {
+
+    @Test
+    void testSuccess() {
+        LongResult<String> result = LongResult.success(1L);
+
+        Assertions.assertTrue(result.isSuccess());
+        Assertions.assertFalse(result.isFailure());
+        Assertions.assertEquals(1L, result.toOptional().getAsLong());
+        Assertions.assertEquals(Optional.empty(), result.toOptionalError());
+        Assertions.assertEquals(2L, result.map(value -> value + 1L).unwrap());
+        Assertions.assertEquals(1, result.mapToInt(value -> 1).unwrap());
+        Assertions.assertEquals(1.0, result.mapToDouble(value -> 1.0).unwrap());
+        ResultAssertions.assertSuccess(result.mapToObj(String::valueOf), String.valueOf(1L));
+        Assertions.assertSame(result, result.mapError(error -> Assertions.fail("Should not be called")));
+        Assertions.assertEquals(3L, result.flatMap(value -> LongResult.success(value + 2L)).unwrap());
+        Assertions.assertTrue(result.flatMap(value -> LongResult.failure("test")).isFailure());
+        Assertions.assertThrows(NullPointerException.class, () -> result.flatMap(value -> null));
+        Assertions.assertSame(result, result.recover(error -> Assertions.fail("Should not be called")));
+        Assertions.assertEquals(1L, result.unwrap());
+        Assertions.assertEquals(1L, result.unwrapOr(2L));
+        Assertions.assertEquals(1L, result.unwrapOrGet(() -> Assertions.fail("Should not be called")));
+        Assertions.assertThrows(NoSuchElementException.class, result::unwrapError);
+        ResultAssertions.assertSuccess(result.boxed(), 1L);
+    }
+
+    @Test
+    void testFailure() {
+        LongResult<String> result = LongResult.failure("test");
+
+        Assertions.assertFalse(result.isSuccess());
+        Assertions.assertTrue(result.isFailure());
+        Assertions.assertTrue(result.toOptional().isEmpty());
+        Assertions.assertEquals(Optional.of("test"), result.toOptionalError());
+        Assertions.assertSame(result, result.map(value -> Assertions.fail("Should not be called")));
+        Assertions.assertTrue(result.mapToInt(value -> Assertions.fail("Should not be called")).isFailure());
+        Assertions.assertTrue(result.mapToDouble(value -> Assertions.fail("Should not be called")).isFailure());
+        ResultAssertions.assertFailure(result.mapToObj(value -> Assertions.fail("Should not be called")), "test");
+        Assertions.assertEquals("mapped", result.mapError(error -> "mapped").unwrapError());
+        Assertions.assertSame(result, result.flatMap(value -> Assertions.fail("Should not be called")));
+        Assertions.assertEquals(1L, result.recover(error -> 1L).unwrap());
+        Assertions.assertThrows(NoSuchElementException.class, result::unwrap);
+        Assertions.assertEquals(2L, result.unwrapOr(2L));
+        Assertions.assertEquals(2L, result.unwrapOrGet(() -> 2L));
+        Assertions.assertEquals("test", result.unwrapError());
+        ResultAssertions.assertFailure(result.boxed(), "test");
+    }
+
+    @Test
+    void testNullFailure() {
+        Assertions.assertSame(LongResult.failure(), LongResult.failure(null));
+        Assertions.assertNull(LongResult.failure().unwrapError());
+    }
+
+    @Test
+    void testFrom() {
+        Assertions.assertEquals(1L, LongResult.from(Result.success((Long) 1L)).unwrap());
+        Assertions.assertEquals("test", LongResult.from(Result.failure("test")).unwrapError());
+        Assertions.assertThrows(NullPointerException.class, () -> LongResult.from(Result.success()));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class ResultCollectorsTest {
+
+    private static Result<Integer, String> toResult(int i) {
+        return i % 3 == 0 ? Result.failure("error-" + i) : Result.success(i);
+    }
+
+    @Test
+    void testPartitioning() {
+        ResultCollectors.Partition<Integer, String> partition =
+            Stream.<Result<Integer, String>>of(Result.success(1), Result.failure("a"), Result.success(2), Result.failure("b"))
+                .collect(ResultCollectors.partitioning());
+
+        Assertions.assertEquals(List.of(1, 2), partition.successes());
+        Assertions.assertEquals(List.of("a", "b"), partition.failures());
+    }
+
+    @Test
+    void testPartitioningParallel() {
+        ResultCollectors.Partition<Integer, String> partition =
+            IntStream.range(0, 10_000).parallel().mapToObj(ResultCollectorsTest::toResult).collect(ResultCollectors.partitioning());
+
+        Assertions.assertEquals(IntStream.range(0, 10_000).filter(i -> i % 3 != 0).boxed().toList(), partition.successes());
+        Assertions.assertEquals(IntStream.range(0, 10_000).filter(i -> i % 3 == 0).mapToObj(i -> "error-" + i).toList(), partition.failures());
+    }
+
+    @Test
+    void testPartitioningWithCapacity() {
+        ResultCollectors.Partition<Integer, String> partition =
+            Stream.<Result<Integer, String>>of(Result.success(1), Result.failure("a")).collect(ResultCollectors.partitioning(1, 0));
+
+        Assertions.assertEquals(List.of(1), partition.successes());
+        Assertions.assertEquals(List.of("a"), partition.failures());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ResultCollectors.partitioning(-1, 0));
+    }
+
+    @Test
+    void testSequenceCollector() {
+        ResultAssertions.assertSuccess(
+            Stream.of(Result.<Integer, String>success(1), Result.success(2)).collect(ResultCollectors.sequence()),
+            List.of(1, 2)
+        );
+        ResultAssertions.assertSuccess(Stream.<Result<Integer, String>>empty().collect(ResultCollectors.sequence()), List.of());
+        ResultAssertions.assertFailure(
+            Stream.of(Result.success(1), Result.<Integer, String>failure("a"), Result.<Integer, String>failure("b")).collect(ResultCollectors.sequence()),
+            "a"
+        );
+    }
+
+    @Test
+    void testSequenceCollectorParallel() {
+        ResultAssertions.assertFailure(
+            IntStream.range(1, 10_000).parallel().mapToObj(ResultCollectorsTest::toResult).collect(ResultCollectors.sequence()),
+            "error-3"
+        );
+        ResultAssertions.assertSuccess(
+            IntStream.range(0, 10_000).parallel().mapToObj(Result::<Integer, String>success).collect(ResultCollectors.sequence()),
+            IntStream.range(0, 10_000).boxed().toList()
+        );
+    }
+
+    @Test
+    void testSequenceStream() {
+        AtomicInteger consumed = new AtomicInteger();
+        Result<List<Integer>, String> result = ResultCollectors.sequence(
+            IntStream.range(1, 10_000).mapToObj(ResultCollectorsTest::toResult).peek(ignored -> consumed.incrementAndGet())
+        );
+
+        ResultAssertions.assertFailure(result, "error-3");
+        Assertions.assertEquals(3, consumed.get());
+
+        ResultAssertions.assertSuccess(
+            ResultCollectors.sequence(Stream.of(Result.<Integer, String>success(1), Result.success(2))),
+            List.of(1, 2)
+        );
+    }
+
+    @Test
+    void testSequenceStreamParallel() {
+        Result<List<Integer>, String> failure = ResultCollectors.sequence(IntStream.range(1, 100_000).parallel().mapToObj(ResultCollectorsTest::toResult));
+        Assertions.assertTrue(ResultAssertions.assertFailure(failure).startsWith("error-"));
+
+        ResultAssertions.assertSuccess(
+            ResultCollectors.sequence(IntStream.range(0, 100_000).parallel().mapToObj(Result::<Integer, String>success)),
+            IntStream.range(0, 100_000).boxed().toList()
+        );
+    }
+
+    @Test
+    void testSequenceStreamClosesSource() {
+        AtomicInteger closed = new AtomicInteger();
+        ResultCollectors.sequence(Stream.of(Result.<Integer, String>success(1)).onClose(closed::incrementAndGet));
+        Assertions.assertEquals(1, closed.get());
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+class ResultEventsTest {
+
+    private enum ErrorCode {
+        NOT_FOUND
+    }
+
+    // used only by testFailureCount, so the counts left by other tests are not included
+    private enum CountedError {
+        COUNTED
+    }
+
+    private static List<RecordedEvent> record(Runnable action, String... eventNames) throws IOException {
+        Path file = Files.createTempFile("jfun-result-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String eventName : eventNames) {
+                recording.enable(eventName);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventNames[0]))
+                .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static String errorClassName(RecordedEvent event) {
+        RecordedClass errorClass = event.getClass("errorClass");
+        return errorClass != null ? errorClass.getName() : null;
+    }
+
+    @Test
+    void testFailureCreated() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            Result.failure("error");
+            Result.failure(ErrorCode.NOT_FOUND);
+            Result.failure();
+            Result.success("value");
+        }, ResultEvents.FAILURE_CREATED);
+
+        Assertions.assertEquals(3, events.size());
+        Assertions.assertEquals(String.class.getName(), errorClassName(events.get(0)));
+        Assertions.assertEquals(ErrorCode.class.getName(), errorClassName(events.get(1)));
+        Assertions.assertNull(errorClassName(events.get(2)));
+        Assertions.assertNotNull(events.get(0).getStackTrace());
+    }
+
+    @Test
+    void testFailureCreatedByOtherFactories() throws IOException {
+        FailureInterner<String> interner = FailureInterner.create(1);
+
+        List<RecordedEvent> events = record(() -> {
+            interner.failure("pooled");
+            interner.failure("pooled");
+            interner.failure("over capacity");
+            IntResult.failure("int");
+            LongResult.failure(1L);
+            DoubleResult.failure(ErrorCode.NOT_FOUND);
+            IntResult.failure();
+        }, ResultEvents.FAILURE_CREATED);
+
+        Assertions.assertEquals(
+            Arrays.asList(
+                String.class.getName(), String.class.getName(), String.class.getName(),
+                String.class.getName(), Long.class.getName(), ErrorCode.class.getName(), null
+            ),
+            events.stream().map(ResultEventsTest::errorClassName).toList()
+        );
+    }
+
+    @Test
+    void testFailureCount() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            for (int i = 0; i < 5; i++) {
+                Result.failure(CountedError.COUNTED);
+            }
+        }, ResultEvents.FAILURE_COUNT, ResultEvents.FAILURE_CREATED);
+
+        long count = events.stream()
+            .filter(event -> CountedError.class.getName().equals(errorClassName(event)))
+            .mapToLong(event -> event.getLong("count"))
+            .sum();
+        Assertions.assertEquals(5, count);
+    }
+
+    @Test
+    void testUnwrapFailed() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            Result<String, String> failure = Result.failure("error");
+            Assertions.assertThrows(NoSuchElementException.class, failure::unwrap);
+            Assertions.assertThrows(NoSuchElementException.class, Result.success("value")::unwrapError);
+        }, ResultEvents.UNWRAP_FAILED);
+
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertNotNull(events.get(0).getString("message"));
+    }
+
+    @Test
+    void testRecovered() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            Result.<String, String>failure("error").recover(error -> "recovered");
+            Result.<String, String>failure("error").tryRecover(error -> Result.<String, Integer>failure(1));
+            IntResult.<ErrorCode>failure(ErrorCode.NOT_FOUND).recover(error -> 0);
+            Result.<String, String>success("value").recover(error -> "recovered");
+        }, ResultEvents.RECOVERED);
+
+        Assertions.assertEquals(3, events.size());
+        Assertions.assertEquals(String.class.getName(), errorClassName(events.get(0)));
+        Assertions.assertTrue(events.get(0).getBoolean("recovered"));
+        Assertions.assertFalse(events.get(1).getBoolean("recovered"));
+        Assertions.assertEquals(ErrorCode.class.getName(), errorClassName(events.get(2)));
+        Assertions.assertNotNull(events.get(0).getStackTrace());
+    }
+
+    @Test
+    void testRetry() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            RetryPolicy<String> policy = RetryPolicy.<String>builder().maxAttempts(3).sleeper(nanos -> {}).build();
+            try {
+                policy.execute(() -> Result.failure("error"));
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        }, ResultEvents.RETRY);
+
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertEquals(1, events.get(0).getInt("attempt"));
+        Assertions.assertEquals(2, events.get(1).getInt("attempt"));
+        Assertions.assertEquals(String.class.getName(), errorClassName(events.get(0)));
+    }
+
+    @Test
+    void testCircuitBreakerTransition() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            CircuitBreaker<String> breaker = CircuitBreaker.<String>builder()
+                .windowSize(1)
+                .minimumCalls(1)
+                .waitInOpen(Duration.ofDays(1))
+                .build();
+            breaker.call(() -> Result.failure("error"), () -> "open");
+        }, ResultEvents.CIRCUIT_BREAKER_TRANSITION);
+
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals("CLOSED", events.get(0).getString("from"));
+        Assertions.assertEquals("OPEN", events.get(0).getString("to"));
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.function.Function3;
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+class ResultMetricsTest {
+
+    private enum ErrorCode {
+        NOT_FOUND
+    }
+
+    @Test
+    void testRecorder() {
+        ResultMetrics metrics = ResultMetrics.create();
+        ResultMetrics.Recorder recorder = metrics.recorder("test");
+        Assertions.assertSame(recorder, metrics.recorder("test"));
+
+        recorder.record(Result.success("value"), 1);
+        recorder.record(Result.failure(ErrorCode.NOT_FOUND), 2);
+        recorder.recordFailure("error", 3);
+        recorder.recordFailure(null, 4);
+        recorder.recordException(new IllegalStateException(), 5);
+
+        ResultMetrics.Snapshot snapshot = recorder.snapshot();
+        Assertions.assertEquals("test", snapshot.name());
+        Assertions.assertEquals(1, snapshot.successes());
+        Assertions.assertEquals(3, snapshot.failures());
+        Assertions.assertEquals(1, snapshot.exceptions());
+        Assertions.assertEquals(5, snapshot.total());
+        Assertions.assertEquals(Map.of(ErrorCode.class, 1L, String.class, 1L), snapshot.failureTypes());
+        Assertions.assertEquals(Map.of(IllegalStateException.class, 1L), snapshot.exceptionTypes());
+        Assertions.assertEquals(5, snapshot.latency().count());
+    }
+
+    @Test
+    void testFailureAndExceptionOfSameType() {
+        ResultMetrics.Recorder recorder = ResultMetrics.create().recorder("same");
+        Supplier<Result<String, IllegalStateException>> returning = recorder.decorate(() -> Result.failure(new IllegalStateException()));
+        Supplier<Result<String, IllegalStateException>> throwing = recorder.decorate(() -> {
+            throw new IllegalStateException();
+        });
+
+        returning.get();
+        returning.get();
+        Assertions.assertThrows(IllegalStateException.class, throwing::get);
+
+        ResultMetrics.Snapshot snapshot = recorder.snapshot();
+        Assertions.assertEquals(Map.of(IllegalStateException.class, 2L), snapshot.failureTypes());
+        Assertions.assertEquals(Map.of(IllegalStateException.class, 1L), snapshot.exceptionTypes());
+    }
+
+    @Test
+    void testDecorate() {
+        AtomicLong clock = new AtomicLong();
+        ResultMetrics metrics = ResultMetrics.create(clock::get);
+        ResultMetrics.Recorder recorder = metrics.recorder("parse");
+
+        Function<String, Result<Integer, String>> function = recorder.decorate(input -> {
+            clock.addAndGet(100);
+            try {
+                return Result.success(Integer.parseInt(input));
+            } catch (NumberFormatException e) {
+                return Result.failure(input);
+            }
+        });
+
+        ResultAssertions.assertSuccess(function.apply("1"), 1);
+        ResultAssertions.assertFailure(function.apply("a"), "a");
+
+        Function3<Integer, Integer, Integer, Result<Integer, String>> function3 = recorder.decorate((a1, a2, a3) -> Result.success(a1 + a2 + a3));
+        ResultAssertions.assertSuccess(function3.apply(1, 2, 3), 6);
+
+        Supplier<Result<Integer, String>> supplier = recorder.decorate(() -> {
+            throw new IllegalStateException();
+        });
+        Assertions.assertThrows(IllegalStateException.class, supplier::get);
+
+        ResultMetrics.Snapshot snapshot = recorder.snapshot();
+        Assertions.assertEquals(2, snapshot.successes());
+        Assertions.assertEquals(1, snapshot.failures());
+        Assertions.assertEquals(1, snapshot.exceptions());
+        Assertions.assertEquals(2, snapshot.latency().bucketCount(7)); // 64..127 ns
+        Assertions.assertEquals(2, snapshot.latency().bucketCount(0));
+    }
+
+    @Test
+    void testNullResult() {
+        ResultMetrics.Recorder recorder = ResultMetrics.create().recorder("null");
+        Supplier<Result<String, String>> supplier = recorder.decorate(() -> null);
+        Function<String, Result<String, String>> function = recorder.decorate(input -> null);
+
+        Assertions.assertThrows(NullPointerException.class, supplier::get);
+        Assertions.assertThrows(NullPointerException.class, () -> function.apply("input"));
+
+        ResultMetrics.Snapshot snapshot = recorder.snapshot();
+        Assertions.assertEquals(2, snapshot.exceptions());
+        Assertions.assertEquals(Map.of(NullPointerException.class, 2L), snapshot.exceptionTypes());
+    }
+
+    @Test
+    void testLatency() {
+        ResultMetrics.Recorder recorder = ResultMetrics.create().recorder("latency");
+
+        for (int i = 1; i <= 99; i++) {
+            recorder.recordSuccess(1000);
+        }
+        recorder.recordSuccess(1_000_000);
+
+        ResultMetrics.Latency latency = recorder.snapshot().latency();
+        Assertions.assertEquals(100, latency.count());
+        Assertions.assertEquals(1023, latency.quantile(0.5));
+        Assertions.assertEquals(1023, latency.quantile(0.99));
+        Assertions.assertEquals((1L << 20) - 1, latency.quantile(1.0));
+        Assertions.assertEquals(0, ResultMetrics.create().recorder("empty").snapshot().latency().quantile(0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> latency.quantile(1.5));
+
+        Assertions.assertEquals(0, ResultMetrics.Latency.bucketUpperBound(0));
+        Assertions.assertEquals((1L << 62) - 1, ResultMetrics.Latency.bucketUpperBound(62));
+        Assertions.assertEquals(Long.MAX_VALUE, ResultMetrics.Latency.bucketUpperBound(63));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> ResultMetrics.Latency.bucketUpperBound(64));
+
+        ResultMetrics.Recorder slowest = ResultMetrics.create().recorder("slowest");
+        slowest.recordSuccess(Long.MAX_VALUE);
+        slowest.recordSuccess(1L << 62);
+        Assertions.assertEquals(2, slowest.snapshot().latency().bucketCount(63));
+    }
+
+    @Test
+    void testSnapshot() {
+        ResultMetrics metrics = ResultMetrics.create();
+        metrics.recorder("b").recordSuccess(0);
+        metrics.recorder("a").recordFailure("error", 0);
+
+        List<ResultMetrics.Snapshot> snapshots = metrics.snapshot();
+        Assertions.assertEquals(List.of("a", "b"), snapshots.stream().map(ResultMetrics.Snapshot::name).toList());
+        Assertions.assertEquals(1, snapshots.get(0).failures());
+        Assertions.assertEquals(1, snapshots.get(1).successes());
+    }
+
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        ResultMetrics.Recorder recorder = ResultMetrics.create().recorder("concurrent");
+        Thread[] threads = new Thread[4];
+
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = Thread.ofPlatform().start(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    recorder.record(j % 2 == 0 ? Result.success(j) : Result.failure(ErrorCode.NOT_FOUND), j);
+                }
+            });
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        ResultMetrics.Snapshot snapshot = recorder.snapshot();
+        Assertions.assertEquals(20_000, snapshot.successes());
+        Assertions.assertEquals(20_000, snapshot.failures());
+        Assertions.assertEquals(Map.of(ErrorCode.class, 20_000L), snapshot.failureTypes());
+        Assertions.assertEquals(40_000, snapshot.latency().count());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class ResultPipelineTest {
+
+    private static final Function<String, Integer> PARSE = Integer::parseInt;
+    private static final Function<Integer, Result<Integer, String>> VALIDATE = value -> 0 <= value ? Result.success(value) : Result.failure("negative");
+    private static final Function<String, String> DECORATE = error -> "error: " + error;
+    private static final Function<String, Result<Integer, Integer>> TRY_RECOVER = error -> error.length() < 10 ? Result.success(0) : Result.failure(error.length());
+
+    private static Stream<String> inputs() {
+        return Stream.of("1", "0", "-1", "100");
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void testSameAsChain(String input) {
+        ResultPipeline<String, Integer, Integer> pipeline =
+            ResultPipeline.<String, String>builder()
+                .map(PARSE)
+                .flatMap(VALIDATE)
+                .mapError(DECORATE)
+                .tryRecover(TRY_RECOVER)
+                .map(value -> value * 2)
+                .build();
+
+        Result<Integer, Integer> expected =
+            Result.<String, String>success(input)
+                .map(PARSE)
+                .flatMap(VALIDATE)
+                .mapError(DECORATE)
+                .tryRecover(TRY_RECOVER)
+                .map(value -> value * 2);
+
+        Assertions.assertEquals(expected, pipeline.apply(input));
+    }
+
+    @Test
+    void testRecover() {
+        ResultPipeline<String, Integer, String> pipeline =
+            ResultPipeline.<String, String>builder()
+                .map(PARSE)
+                .flatMap(VALIDATE)
+                .recover(String::length)
+                .build();
+
+        ResultAssertions.assertSuccess(pipeline.apply("1"), 1);
+        ResultAssertions.assertSuccess(pipeline.apply("-1"), "negative".length());
+    }
+
+    @Test
+    void testInspect() {
+        List<Object> inspected = new ArrayList<>();
+        ResultPipeline<String, Integer, String> pipeline =
+            ResultPipeline.<String, String>builder()
+                .map(PARSE)
+                .inspect(inspected::add)
+                .flatMap(VALIDATE)
+                .inspectError(inspected::add)
+                .build();
+
+        pipeline.apply("1");
+        pipeline.apply("-1");
+
+        Assertions.assertEquals(List.of(1, -1, "negative"), inspected);
+    }
+
+    @Test
+    void testReturnsResultOfFlatMap() {
+        Result<Integer, String> failure = Result.failure("failure");
+        ResultPipeline<String, Integer, String> pipeline =
+            ResultPipeline.<String, String>builder()
+                .flatMap(ignored -> failure)
+                .map(value -> value + 1)
+                .build();
+
+        Assertions.assertSame(failure, pipeline.apply("input"));
+    }
+
+    @Test
+    void testFlatMapReturnsNull() {
+        ResultPipeline<String, Integer, String> pipeline =
+            ResultPipeline.<String, String>builder()
+                .<Integer>flatMap(ignored -> null)
+                .build();
+
+        Assertions.assertThrows(NullPointerException.class, () -> pipeline.apply("input"));
+    }
+
+    @Test
+    void testBuilderIsNotAffectedAfterBuild() {
+        ResultPipeline.Builder<String, String, String> builder = ResultPipeline.builder();
+        ResultPipeline<String, String, String> pipeline = builder.build();
+        builder.map(value -> value + "!");
+
+        ResultAssertions.assertSuccess(pipeline.apply("test"), "test");
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+class RetryTest {
+
+    private static <T> Supplier<Result<T, String>> failUntil(int successAttempt, T value, AtomicInteger counter) {
+        return () -> counter.incrementAndGet() < successAttempt ? Result.failure("error-" + counter.get()) : Result.success(value);
+    }
+
+    private static RetryPolicy.Builder<String> builder(AtomicLong clock, List<Long> sleeps) {
+        return RetryPolicy.<String>builder()
+            .clock(clock::get)
+            .sleeper(nanos -> {
+                sleeps.add(nanos);
+                clock.addAndGet(nanos);
+            })
+            .random(() -> 0.5);
+    }
+
+    @Test
+    void testSuccessAfterRetries() throws InterruptedException {
+        AtomicLong clock = new AtomicLong();
+        List<Long> sleeps = new ArrayList<>();
+        AtomicInteger counter = new AtomicInteger();
+
+        RetryPolicy<String> policy = builder(clock, sleeps)
+            .maxAttempts(5)
+            .backoff(Duration.ofNanos(100), Duration.ofNanos(300), 2.0)
+            .jitter(0)
+            .build();
+
+        ResultAssertions.assertSuccess(policy.execute(failUntil(4, "value", counter)), "value");
+        Assertions.assertEquals(4, counter.get());
+        Assertions.assertEquals(List.of(100L, 200L, 300L), sleeps);
+    }
+
+    @Test
+    void testMaxAttempts() throws InterruptedException {
+        AtomicLong clock = new AtomicLong();
+        List<Long> sleeps = new ArrayList<>();
+        AtomicInteger counter = new AtomicInteger();
+
+        RetryPolicy<String> policy = builder(clock, sleeps).maxAttempts(3).build();
+
+        ResultAssertions.assertFailure(policy.execute(failUntil(10, "value", counter)), "error-3");
+        Assertions.assertEquals(3, counter.get());
+        Assertions.assertEquals(2, sleeps.size());
+    }
+
+    @Test
+    void testJitter() throws InterruptedException {
+        AtomicLong clock = new AtomicLong();
+        List<Long> sleeps = new ArrayList<>();
+
+        RetryPolicy<String> policy = builder(clock, sleeps)
+            .maxAttempts(2)
+            .backoff(Duration.ofNanos(1000), Duration.ofNanos(1000), 1.0)
+            .jitter(0.4)
+            .build();
+
+        policy.execute(() -> Result.failure("error"));
+        Assertions.assertEquals(List.of(800L), sleeps);
+    }
+
+    @Test
+    void testRetryIf() throws InterruptedException {
+        AtomicLong clock = new AtomicLong();
+        List<Long> sleeps = new ArrayList<>();
+        AtomicInteger counter = new AtomicInteger();
+
+        RetryPolicy<String> policy = builder(clock, sleeps)
+            .maxAttempts(5)
+            .retryIf(error -> !error.equals("error-2"))
+            .build();
+
+        ResultAssertions.assertFailure(policy.execute(failUntil(10, "value", counter)), "error-2");
+        Assertions.assertEquals(2, counter.get());
+    }
+
+    @Test
+    void testMaxElapsed() throws InterruptedException {
+        AtomicLong clock = new AtomicLong();
+        List<Long> sleeps = new ArrayList<>();
+        AtomicInteger counter = new AtomicInteger();
+
+        RetryPolicy<String> policy = builder(clock, sleeps)
+            .maxAttempts(10)
+            .backoff(Duration.ofNanos(100), Duration.ofNanos(100), 1.0)
+            .jitter(0)
+            .maxElapsed(Duration.ofNanos(250))
+            .build();
+
+        ResultAssertions.assertFailure(policy.execute(failUntil(10, "value", counter)), "error-3");
+        Assertions.assertEquals(List.of(100L, 100L), sleeps);
+    }
+
+    @Test
+    void testBudget() throws InterruptedException {
+        AtomicLong clock = new AtomicLong();
+        List<Long> sleeps = new ArrayList<>();
+        RetryBudget budget = RetryBudget.create(2, 0.5);
+
+        RetryPolicy<String> policy = builder(clock, sleeps).maxAttempts(10).budget(budget).build();
+
+        AtomicInteger counter = new AtomicInteger();
+        ResultAssertions.assertFailure(policy.execute(failUntil(10, "value", counter)), "error-3");
+        Assertions.assertEquals(0, budget.availableTokens());
+
+        counter.set(0);
+        ResultAssertions.assertFailure(policy.execute(failUntil(10, "value", counter)), "error-1");
+
+        policy.execute(() -> Result.success("value"));
+        policy.execute(() -> Result.success("value"));
+        Assertions.assertEquals(1, budget.availableTokens());
+
+        for (int i = 0; i < 10; i++) {
+            policy.execute(() -> Result.success("value"));
+        }
+        Assertions.assertEquals(2, budget.availableTokens());
+    }
+
+    @Test
+    void testInterrupted() {
+        RetryPolicy<String> policy = RetryPolicy.<String>builder()
+            .sleeper(nanos -> {
+                throw new InterruptedException();
+            })
+            .build();
+
+        Assertions.assertThrows(InterruptedException.class, () -> policy.execute(() -> Result.failure("error")));
+    }
+
+    @Test
+    void testHugeDurations() throws InterruptedException {
+        List<Long> sleeps = new ArrayList<>();
+
+        RetryPolicy<String> policy = RetryPolicy.<String>builder()
+            .clock(() -> 0)
+            .sleeper(sleeps::add)
+            .maxAttempts(3)
+            .backoff(Duration.ofDays(365L * 1000), Duration.ofSeconds(Long.MAX_VALUE), 2.0)
+            .jitter(0)
+            .maxElapsed(Duration.ofSeconds(Long.MAX_VALUE))
+            .build();
+
+        ResultAssertions.assertFailure(policy.execute(() -> Result.failure("error")), "error");
+        Assertions.assertEquals(List.of(Long.MAX_VALUE, Long.MAX_VALUE), sleeps);
+    }
+
+    @Test
+    void testIllegalArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().maxAttempts(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().jitter(1.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().backoff(Duration.ofSeconds(2), Duration.ofSeconds(1), 2.0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().backoff(Duration.ZERO, Duration.ofSeconds(1), 0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().maxElapsed(Duration.ofSeconds(-1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RetryBudget.create(0, 0.1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RetryBudget.create(1, -1));
+    }
+}
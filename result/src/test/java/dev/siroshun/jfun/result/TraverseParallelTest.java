@@ -0,0 +1,95 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+class TraverseParallelTest {
+
+    private static final int SIZE = 100_000;
+
+    @Test
+    void testSuccess() {
+        List<Integer> inputs = IntStream.range(0, SIZE).boxed().toList();
+        ResultAssertions.assertSuccess(
+            Results.traverseParallel(inputs, i -> Result.success(i * 2)),
+            IntStream.range(0, SIZE).mapToObj(i -> i * 2).toList()
+        );
+    }
+
+    @Test
+    void testArray() {
+        String[] inputs = {"a", "b", "c"};
+        ResultAssertions.assertSuccess(Results.traverseParallel(inputs, s -> Result.success(s.toUpperCase())), List.of("A", "B", "C"));
+    }
+
+    @Test
+    void testNonRandomAccessList() {
+        List<Integer> inputs = new LinkedList<>(List.of(1, 2, 3));
+        ResultAssertions.assertSuccess(Results.traverseParallel(inputs, Result::success), List.of(1, 2, 3));
+    }
+
+    @Test
+    void testEmpty() {
+        ResultAssertions.assertSuccess(Results.traverseParallel(List.of(), Result::success), List.of());
+    }
+
+    @Test
+    void testNullValue() {
+        List<Object> expected = new ArrayList<>();
+        expected.add(null);
+        ResultAssertions.assertSuccess(Results.traverseParallel(List.of(1), ignored -> Result.success()), expected);
+    }
+
+    @Test
+    void testFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> inputs = IntStream.range(0, SIZE).boxed().toList();
+
+        Result<List<Integer>, String> result;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            result = Results.traverseParallel(pool, inputs, i -> {
+                calls.incrementAndGet();
+                return i % 1000 == 999 ? Result.failure("error-" + i) : Result.success(i);
+            });
+        }
+
+        Assertions.assertTrue(ResultAssertions.assertFailure(result).startsWith("error-"));
+        Assertions.assertTrue(calls.get() < SIZE, "remaining inputs should be skipped");
+    }
+
+    @Test
+    void testNullResult() {
+        Assertions.assertThrows(NullPointerException.class, () -> Results.traverseParallel(List.of(1), ignored -> null));
+    }
+
+    @Test
+    void testUnmodifiable() {
+        List<Integer> list = ResultAssertions.assertSuccess(Results.traverseParallel(List.of(1, 2), Result::success));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.set(0, 3));
+    }
+}
@@ -18,6 +18,7 @@
 package dev.siroshun.jfun.result;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -59,16 +60,27 @@ class UnwrapTest {
                     Assertions.fail("Should not be called");
                     throw new AssertionError();
                 }));
+                Assertions.assertEquals(successTestCase.want(), result.unwrapOrNull());
                 Assertions.assertThrows(NoSuchElementException.class, result::unwrapError);
+                Assertions.assertNull(result.unwrapErrorOrNull());
                 return;
             case FailureTestCase failureTestCase:
                 Assertions.assertThrows(NoSuchElementException.class, result::unwrap);
+                Assertions.assertNull(result.unwrapOrNull());
                 Assertions.assertEquals("unwrapOr", result.unwrapOr("unwrapOr"));
                 Assertions.assertEquals("unwrapOrGet", result.unwrapOrGet(() -> "unwrapOrGet"));
                 Assertions.assertEquals(failureTestCase.want(), result.unwrapError());
+                Assertions.assertEquals(failureTestCase.want(), result.unwrapErrorOrNull());
                 return;
             default:
                 Assertions.fail(testCase + " failed");
         }
     }
+
+    @Test
+    void testStacklessException() {
+        NoSuchElementException exception = new UnwrapExceptions.Stackless("test");
+        Assertions.assertEquals("test", exception.getMessage());
+        Assertions.assertEquals(0, exception.getStackTrace().length);
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+class ValidationTest {
+
+    @Test
+    void testValid() {
+        Validation<Integer, String> validation = Validation.valid(1);
+        Assertions.assertTrue(validation.isValid());
+        Assertions.assertFalse(validation.isInvalid());
+        Assertions.assertEquals(1, validation.unwrap());
+        Assertions.assertEquals(0, validation.errorCount());
+        Assertions.assertEquals(List.of(), validation.errors());
+        Assertions.assertEquals(Validation.valid(2), validation.map(i -> i + 1));
+        Assertions.assertSame(validation, validation.mapError(String::length));
+        ResultAssertions.assertSuccess(validation.toResult(), 1);
+    }
+
+    @Test
+    void testInvalid() {
+        Validation<Integer, String> single = Validation.invalid("a");
+        Assertions.assertTrue(single.isInvalid());
+        Assertions.assertThrows(NoSuchElementException.class, single::unwrap);
+        Assertions.assertEquals(1, single.errorCount());
+        Assertions.assertEquals(List.of("a"), single.errors());
+        Assertions.assertSame(single, single.map(i -> i + 1));
+        Assertions.assertEquals(Validation.invalid(1), single.mapError(String::length));
+        ResultAssertions.assertFailure(single.toResult(), List.of("a"));
+
+        Validation<Integer, String> multi = Validation.invalid(List.of("a", "bb"));
+        Assertions.assertEquals(2, multi.errorCount());
+        Assertions.assertEquals(List.of("a", "bb"), multi.errors());
+        Assertions.assertEquals(List.of(1, 2), multi.mapError(String::length).errors());
+
+        List<String> consumed = new ArrayList<>();
+        multi.forEachError(consumed::add);
+        Assertions.assertEquals(List.of("a", "bb"), consumed);
+
+        Assertions.assertEquals(single, Validation.invalid(List.of("a")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Validation.invalid(List.of()));
+    }
+
+    @Test
+    void testFlatMap() {
+        Validation<Integer, String> valid = Validation.valid(1);
+        Assertions.assertEquals(Validation.valid("1"), valid.flatMap(i -> Validation.valid(String.valueOf(i))));
+        Assertions.assertEquals(Validation.invalid("error"), valid.flatMap(i -> Validation.invalid("error")));
+
+        Validation<Integer, String> invalid = Validation.invalid("a");
+        Assertions.assertSame(invalid, invalid.flatMap(i -> Assertions.fail("Should not be called")));
+    }
+
+    @Test
+    void testFromResult() {
+        Assertions.assertEquals(Validation.valid(1), Validation.fromResult(Result.success(1)));
+        Assertions.assertEquals(Validation.invalid("a"), Validation.fromResult(Result.failure("a")));
+    }
+
+    @Test
+    void testZipValid() {
+        Assertions.assertEquals(Validation.valid(3), Validation.<Integer, Integer, Integer, String>zip(Validation.valid(1), Validation.valid(2), Integer::sum));
+        Assertions.assertEquals(
+            Validation.valid(55),
+            Validation.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, String>zip(
+                Validation.valid(1), Validation.valid(2), Validation.valid(3), Validation.valid(4), Validation.valid(5),
+                Validation.valid(6), Validation.valid(7), Validation.valid(8), Validation.valid(9), Validation.valid(10),
+                (a1, a2, a3, a4, a5, a6, a7, a8, a9, a10) -> a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + a9 + a10
+            )
+        );
+    }
+
+    @Test
+    void testZipSingleErrorIsShared() {
+        Validation<Integer, String> invalid = Validation.invalid("a");
+        Validation<Integer, String> result = Validation.zip(Validation.valid(1), invalid, Validation.<Integer, String>valid(3), (a, b, c) -> a + b + c);
+        Assertions.assertSame(invalid, result);
+    }
+
+    @Test
+    void testZipAccumulatesErrors() {
+        Validation<String, String> result = Validation.zip(
+            Validation.<Integer, String>invalid("a"),
+            Validation.<Integer, String>valid(2),
+            Validation.<Integer, String>invalid(List.of("b", "c")),
+            Validation.<Integer, String>invalid("d"),
+            (a1, a2, a3, a4) -> "unreachable"
+        );
+        Assertions.assertEquals(List.of("a", "b", "c", "d"), result.errors());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> result.errors().add("e"));
+    }
+}
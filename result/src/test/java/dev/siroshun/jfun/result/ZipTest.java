@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2025 Siroshun09
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package dev.siroshun.jfun.result;
+
+import dev.siroshun.jfun.result.assertion.ResultAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ZipTest {
+
+    @Test
+    void testSuccess() {
+        ResultAssertions.assertSuccess(Results.zip(Result.<Integer, String>success(1), Result.<Integer, String>success(2), Integer::sum), 3);
+        ResultAssertions.assertSuccess(
+            Results.zip(
+                Result.<Integer, String>success(1), Result.<Integer, String>success(2), Result.<Integer, String>success(3),
+                Result.<Integer, String>success(4), Result.<Integer, String>success(5), Result.<Integer, String>success(6),
+                Result.<Integer, String>success(7), Result.<Integer, String>success(8), Result.<Integer, String>success(9),
+                Result.<Integer, String>success(10),
+                (a1, a2, a3, a4, a5, a6, a7, a8, a9, a10) -> a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + a9 + a10
+            ),
+            55
+        );
+    }
+
+    @Test
+    void testFirstFailureIsReturned() {
+        Result<Integer, String> first = Result.failure("first");
+        Result<Integer, String> second = Result.failure("second");
+
+        Result<String, String> result = Results.zip(Result.<Integer, String>success(1), first, second, (a1, a2, a3) -> Assertions.fail("Should not be called"));
+        Assertions.assertSame(first, result);
+    }
+
+    @Test
+    void testDifferentTypes() {
+        ResultAssertions.assertSuccess(
+            Results.zip(Result.<String, String>success("a"), Result.<Integer, String>success(2), Result.<Boolean, String>success(true), Result.<Character, String>success('c'),
+                (s, i, b, c) -> s + i + b + c),
+            "a2truec"
+        );
+    }
+}
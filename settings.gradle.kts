@@ -31,6 +31,7 @@ enableFeaturePreview("TYPESAFE_PROJECT_ACCESSORS")
 rootProject.name = "jfun"
 
 sequenceOf(
+    "benchmark",
     "function",
     "result",
     "result-assertion"